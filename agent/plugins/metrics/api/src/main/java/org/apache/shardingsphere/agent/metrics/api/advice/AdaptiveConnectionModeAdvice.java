@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Adaptive connection mode advice.
+ */
+public final class AdaptiveConnectionModeAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String GET_CONNECTIONS_SIZE = "getConnectionsSize";
+    
+    public static final String RECORD_EXECUTION = "recordExecution";
+    
+    public static final String RECORD_RESULT_ROWS = "recordResultRows";
+    
+    private static final String MEMORY_STRICTLY = "MEMORY_STRICTLY";
+    
+    private static final String CONNECTION_STRICTLY = "CONNECTION_STRICTLY";
+    
+    static {
+        MetricsPool.create(MetricIds.ADAPTIVE_CONNECTION_MODE_DECISION);
+        MetricsPool.create(MetricIds.ADAPTIVE_CONNECTION_MODE_ADJUSTED);
+        MetricsPool.create(MetricIds.ADAPTIVE_CONNECTION_MODE_EXECUTE_LATENCY_MILLIS);
+        MetricsPool.create(MetricIds.ADAPTIVE_CONNECTION_MODE_RESULT_ROWS);
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String methodName = method.getName();
+        if (GET_CONNECTIONS_SIZE.equals(methodName)) {
+            recordDecision((int) args[1], (int) args[2], (int) result.getResult());
+        } else if (RECORD_EXECUTION.equals(methodName)) {
+            MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_EXECUTE_LATENCY_MILLIS).ifPresent(optional -> optional.observe((long) args[1]));
+        } else if (RECORD_RESULT_ROWS.equals(methodName)) {
+            MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_RESULT_ROWS).ifPresent(optional -> optional.inc((long) args[1]));
+        }
+    }
+    
+    private void recordDecision(final int sqlUnitsSize, final int maxConnectionsSizePerQuery, final int connectionsSize) {
+        String connectionMode = connectionsSize < sqlUnitsSize ? CONNECTION_STRICTLY : MEMORY_STRICTLY;
+        MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_DECISION).ifPresent(optional -> optional.inc(connectionMode));
+        if (connectionsSize != Math.min(sqlUnitsSize, maxConnectionsSizePerQuery)) {
+            MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_ADJUSTED).ifPresent(MetricsWrapper::inc);
+        }
+    }
+}
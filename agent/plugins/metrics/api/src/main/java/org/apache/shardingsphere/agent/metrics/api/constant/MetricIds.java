@@ -39,6 +39,14 @@ public final class MetricIds {
     
     public static final String ROUTE_TABLE = "route_table_total";
     
+    public static final String ADAPTIVE_CONNECTION_MODE_DECISION = "adaptive_connection_mode_decision_total";
+    
+    public static final String ADAPTIVE_CONNECTION_MODE_ADJUSTED = "adaptive_connection_mode_adjusted_total";
+    
+    public static final String ADAPTIVE_CONNECTION_MODE_EXECUTE_LATENCY_MILLIS = "adaptive_connection_mode_execute_latency_millis";
+    
+    public static final String ADAPTIVE_CONNECTION_MODE_RESULT_ROWS = "adaptive_connection_mode_result_rows_total";
+    
     public static final String TRANSACTION_COMMIT = "proxy_transaction_commit_total";
     
     public static final String TRANSACTION_ROLLBACK = "proxy_transaction_rollback_total";
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AdaptiveConnectionModeAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final AdaptiveConnectionModeAdvice adaptiveConnectionModeAdvice = new AdaptiveConnectionModeAdvice();
+    
+    @Mock
+    private Method getConnectionsSize;
+    
+    @Mock
+    private Method recordResultRows;
+    
+    @Test
+    public void assertAfterGetConnectionsSize() {
+        when(getConnectionsSize.getName()).thenReturn(AdaptiveConnectionModeAdvice.GET_CONNECTIONS_SIZE);
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(4);
+        adaptiveConnectionModeAdvice.afterMethod(new MockAdviceTargetObject(), getConnectionsSize, new Object[]{"ds_0", 4, 1}, result);
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_DECISION).get()).getFixtureValue(), is(1.0));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_ADJUSTED).get()).getFixtureValue(), is(1.0));
+    }
+    
+    @Test
+    public void assertAfterRecordResultRows() {
+        when(recordResultRows.getName()).thenReturn(AdaptiveConnectionModeAdvice.RECORD_RESULT_ROWS);
+        adaptiveConnectionModeAdvice.afterMethod(new MockAdviceTargetObject(), recordResultRows, new Object[]{"ds_0", 10L}, new MethodInvocationResult());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.ADAPTIVE_CONNECTION_MODE_RESULT_ROWS).get()).getFixtureValue(), is(10.0));
+    }
+}
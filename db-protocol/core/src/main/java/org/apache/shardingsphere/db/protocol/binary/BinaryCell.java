@@ -30,4 +30,13 @@ public final class BinaryCell {
     private final BinaryColumnType columnType;
     
     private final Object data;
+    
+    /**
+     * Whether data is bytes already encoded in binary protocol of column type, which are written as they are.
+     */
+    private final boolean encoded;
+    
+    public BinaryCell(final BinaryColumnType columnType, final Object data) {
+        this(columnType, data, false);
+    }
 }
@@ -70,7 +70,12 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     private void writeValues(final MySQLPacketPayload payload) {
         for (BinaryCell each : row.getCells()) {
             Object data = each.getData();
-            if (null != data) {
+            if (null == data) {
+                continue;
+            }
+            if (each.isEncoded()) {
+                payload.writeBytes((byte[]) data);
+            } else {
                 MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
             }
         }
@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,4 +49,12 @@ public final class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    public void assertWriteEncoded() {
+        byte[] value = {0x4E, 0x61, (byte) 0xBC, 0x00};
+        BinaryRow row = new BinaryRow(Collections.singletonList(new BinaryCell(MySQLBinaryColumnType.MYSQL_TYPE_LONG, value, true)));
+        new MySQLBinaryResultSetRowPacket(1, row).write(payload);
+        verify(payload).writeBytes(value);
+    }
 }
@@ -58,6 +58,11 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
             payload.writeInt4(0xFFFFFFFF);
             return;
         }
+        if (each.isEncoded()) {
+            payload.writeInt4(((byte[]) value).length);
+            payload.writeBytes((byte[]) value);
+            return;
+        }
         PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
         payload.writeInt4(binaryProtocolValue.getColumnLength(value));
         binaryProtocolValue.write(payload, value);
@@ -114,6 +114,16 @@ public final class PostgreSQLDataRowPacketTest {
         verify(payload).writeInt4(value);
     }
     
+    @Test
+    public void assertWriteEncodedBinaryInt4() {
+        byte[] value = {0x00, (byte) 0xBC, 0x61, 0x4E};
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(new BinaryCell(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, value, true)));
+        actual.write(payload);
+        verify(payload).writeInt2(1);
+        verify(payload).writeInt4(4);
+        verify(payload).writeBytes(value);
+    }
+    
     @Test
     public void assertGetIdentifier() {
         assertThat(new PostgreSQLDataRowPacket(Collections.emptyList()).getIdentifier(), is(PostgreSQLMessagePacketType.DATA_ROW));
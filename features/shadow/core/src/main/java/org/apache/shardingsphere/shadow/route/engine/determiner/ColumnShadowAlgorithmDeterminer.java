@@ -25,9 +25,6 @@ import org.apache.shardingsphere.shadow.api.shadow.column.PreciseColumnShadowVal
 import org.apache.shardingsphere.shadow.condition.ShadowColumnCondition;
 import org.apache.shardingsphere.shadow.condition.ShadowDetermineCondition;
 
-import java.util.Collection;
-import java.util.LinkedList;
-
 /**
  * Column shadow algorithm determiner.
  */
@@ -45,20 +42,12 @@ public final class ColumnShadowAlgorithmDeterminer {
         ShadowColumnCondition shadowColumnCondition = shadowCondition.getShadowColumnCondition();
         String tableName = shadowCondition.getTableName();
         ShadowOperationType operationType = shadowCondition.getShadowOperationType();
-        for (PreciseColumnShadowValue<Comparable<?>> each : createColumnShadowValues(shadowColumnCondition.getColumn(), shadowColumnCondition.getValues(), tableName, operationType)) {
-            if (!tableName.equals(shadowColumnCondition.getOwner()) || !shadowAlgorithm.isShadow(each)) {
+        boolean isSameTable = tableName.equals(shadowColumnCondition.getOwner());
+        for (Comparable<?> each : shadowColumnCondition.getValues()) {
+            if (!isSameTable || !shadowAlgorithm.isShadow(new PreciseColumnShadowValue<>(tableName, operationType, shadowColumnCondition.getColumn(), each))) {
                 return false;
             }
         }
         return true;
     }
-    
-    private static Collection<PreciseColumnShadowValue<Comparable<?>>> createColumnShadowValues(final String columnName, final Collection<Comparable<?>> columnValues, final String tableName,
-                                                                                                final ShadowOperationType operationType) {
-        Collection<PreciseColumnShadowValue<Comparable<?>>> result = new LinkedList<>();
-        for (Comparable<?> each : columnValues) {
-            result.add(new PreciseColumnShadowValue<>(tableName, operationType, columnName, each));
-        }
-        return result;
-    }
 }
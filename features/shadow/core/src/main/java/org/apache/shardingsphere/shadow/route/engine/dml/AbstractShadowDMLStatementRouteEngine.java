@@ -32,6 +32,7 @@ import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -53,13 +54,16 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     
     private Map<String, String> findShadowDataSourceMappings(final ShadowRule shadowRule) {
         Collection<String> relatedShadowTables = getRelatedShadowTables(getAllTables(), shadowRule);
-        if (relatedShadowTables.isEmpty() && isMatchDefaultShadowAlgorithm(shadowRule)) {
-            return shadowRule.getAllShadowDataSourceMappings();
+        Optional<Collection<String>> sqlComments = parseSQLComments();
+        if (relatedShadowTables.isEmpty()) {
+            return isMatchDefaultShadowAlgorithm(sqlComments, shadowRule) ? shadowRule.getAllShadowDataSourceMappings() : Collections.emptyMap();
         }
         ShadowOperationType shadowOperationType = getShadowOperationType();
-        Map<String, String> result = findBySQLComments(relatedShadowTables, shadowRule, shadowOperationType);
-        if (!result.isEmpty()) {
-            return result;
+        if (sqlComments.isPresent()) {
+            Map<String, String> result = findBySQLComments(sqlComments.get(), relatedShadowTables, shadowRule, shadowOperationType);
+            if (!result.isEmpty()) {
+                return result;
+            }
         }
         return findByShadowColumn(relatedShadowTables, shadowRule, shadowOperationType);
     }
@@ -76,8 +80,7 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     }
     
     @SuppressWarnings("unchecked")
-    private boolean isMatchDefaultShadowAlgorithm(final ShadowRule shadowRule) {
-        Optional<Collection<String>> sqlComments = parseSQLComments();
+    private boolean isMatchDefaultShadowAlgorithm(final Optional<Collection<String>> sqlComments, final ShadowRule shadowRule) {
         if (!sqlComments.isPresent()) {
             return false;
         }
@@ -92,10 +95,11 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
         return false;
     }
     
-    private Map<String, String> findBySQLComments(final Collection<String> relatedShadowTables, final ShadowRule shadowRule, final ShadowOperationType shadowOperationType) {
+    private Map<String, String> findBySQLComments(final Collection<String> sqlComments, final Collection<String> relatedShadowTables,
+                                                  final ShadowRule shadowRule, final ShadowOperationType shadowOperationType) {
         Map<String, String> result = new LinkedHashMap<>();
         for (String each : relatedShadowTables) {
-            if (isContainsShadowInSQLComments(each, shadowRule, new ShadowDetermineCondition(each, shadowOperationType))) {
+            if (isMatchAnyHintShadowAlgorithms(shadowRule.getRelatedHintShadowAlgorithms(each), new ShadowDetermineCondition(each, shadowOperationType).initSQLComments(sqlComments), shadowRule)) {
                 result.putAll(shadowRule.getRelatedShadowDataSourceMappings(each));
                 return result;
             }
@@ -103,10 +107,6 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
         return result;
     }
     
-    private boolean isContainsShadowInSQLComments(final String tableName, final ShadowRule shadowRule, final ShadowDetermineCondition shadowCondition) {
-        return parseSQLComments().filter(each -> isMatchAnyHintShadowAlgorithms(shadowRule.getRelatedHintShadowAlgorithms(tableName), shadowCondition.initSQLComments(each), shadowRule)).isPresent();
-    }
-    
     private boolean isMatchAnyHintShadowAlgorithms(final Collection<HintShadowAlgorithm<Comparable<?>>> shadowAlgorithms, final ShadowDetermineCondition shadowCondition, final ShadowRule shadowRule) {
         for (HintShadowAlgorithm<Comparable<?>> each : shadowAlgorithms) {
             if (HintShadowAlgorithmDeterminer.isShadow(each, shadowCondition, shadowRule)) {
@@ -142,15 +142,15 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
             return false;
         }
         Iterator<Optional<ShadowColumnCondition>> iterator = getShadowColumnConditionIterator(shadowColumn);
-        ShadowDetermineCondition shadowDetermineCondition;
         while (iterator.hasNext()) {
             Optional<ShadowColumnCondition> next = iterator.next();
-            if (next.isPresent()) {
-                for (ColumnShadowAlgorithm<Comparable<?>> each : columnShadowAlgorithms) {
-                    shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType);
-                    if (ColumnShadowAlgorithmDeterminer.isShadow(each, shadowDetermineCondition.initShadowColumnCondition(next.get()))) {
-                        return true;
-                    }
+            if (!next.isPresent()) {
+                continue;
+            }
+            ShadowDetermineCondition shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType).initShadowColumnCondition(next.get());
+            for (ColumnShadowAlgorithm<Comparable<?>> each : columnShadowAlgorithms) {
+                if (ColumnShadowAlgorithmDeterminer.isShadow(each, shadowDetermineCondition)) {
+                    return true;
                 }
             }
         }
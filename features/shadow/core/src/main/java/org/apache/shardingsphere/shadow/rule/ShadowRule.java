@@ -37,7 +37,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -181,20 +180,8 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
      * @param shadowColumn shadow column
      * @return column shadow algorithms
      */
-    @SuppressWarnings("unchecked")
     public Collection<ColumnShadowAlgorithm<Comparable<?>>> getRelatedColumnShadowAlgorithms(final ShadowOperationType shadowOperationType, final String tableName, final String shadowColumn) {
-        Collection<ColumnShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        Map<ShadowOperationType, Collection<ShadowAlgorithmNameRule>> columnShadowAlgorithmNames = shadowTableRules.get(tableName).getColumnShadowAlgorithmNames();
-        Collection<ShadowAlgorithmNameRule> names = columnShadowAlgorithmNames.get(shadowOperationType);
-        if (Objects.isNull(names)) {
-            return result;
-        }
-        for (ShadowAlgorithmNameRule each : names) {
-            if (shadowColumn.equals(each.getShadowColumnName())) {
-                result.add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each.getShadowAlgorithmName()));
-            }
-        }
-        return result;
+        return shadowTableRules.get(tableName).getColumnShadowAlgorithms(shadowOperationType, shadowColumn);
     }
     
     /**
@@ -205,16 +192,7 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
      * @return related shadow column names
      */
     public Collection<String> getRelatedShadowColumnNames(final ShadowOperationType shadowOperationType, final String tableName) {
-        Collection<String> result = new LinkedList<>();
-        Map<ShadowOperationType, Collection<ShadowAlgorithmNameRule>> columnShadowAlgorithmNames = shadowTableRules.get(tableName).getColumnShadowAlgorithmNames();
-        Collection<ShadowAlgorithmNameRule> names = columnShadowAlgorithmNames.get(shadowOperationType);
-        if (Objects.isNull(names)) {
-            return result;
-        }
-        for (ShadowAlgorithmNameRule each : names) {
-            result.add(each.getShadowColumnName());
-        }
-        return result;
+        return shadowTableRules.get(tableName).getShadowColumnNames(shadowOperationType);
     }
     
     /**
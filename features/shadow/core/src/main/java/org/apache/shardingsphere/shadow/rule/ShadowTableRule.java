@@ -27,28 +27,38 @@ import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Shadow table rule.
  */
-@Getter
 public final class ShadowTableRule {
     
+    @Getter
     private final String tableName;
     
+    @Getter
     private final Collection<String> shadowDataSources;
     
+    @Getter
     private final Collection<String> hintShadowAlgorithmNames;
     
+    @Getter
     private final Map<ShadowOperationType, Collection<ShadowAlgorithmNameRule>> columnShadowAlgorithmNames;
     
+    private final Map<ShadowOperationType, Collection<String>> shadowColumnNames;
+    
+    private final Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> columnShadowAlgorithms;
+    
     public ShadowTableRule(final String tableName, final Collection<String> shadowDataSources, final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
         this.tableName = tableName;
         this.shadowDataSources = shadowDataSources;
         this.hintShadowAlgorithmNames = initHintShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
         this.columnShadowAlgorithmNames = initColumnShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
+        shadowColumnNames = initShadowColumnNames();
+        columnShadowAlgorithms = initColumnShadowAlgorithms(shadowAlgorithms);
     }
     
     private Collection<String> initHintShadowAlgorithmNames(final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
@@ -75,4 +85,40 @@ public final class ShadowTableRule {
         Preconditions.checkState(null == shadowAlgorithmNameRules, "Column shadow algorithm `%s` operation only supports one column mapping in shadow table `%s`.", operationType.name(), tableName);
         columnShadowAlgorithmNames.put(operationType, Collections.singletonList(new ShadowAlgorithmNameRule(shadowColumnName, algorithmName)));
     }
+    
+    private Map<ShadowOperationType, Collection<String>> initShadowColumnNames() {
+        Map<ShadowOperationType, Collection<String>> result = new EnumMap<>(ShadowOperationType.class);
+        columnShadowAlgorithmNames.forEach((key, value) -> result.put(key, value.stream().map(ShadowAlgorithmNameRule::getShadowColumnName).collect(Collectors.toList())));
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> initColumnShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> result = new EnumMap<>(ShadowOperationType.class);
+        columnShadowAlgorithmNames.forEach((key, value) -> result.put(key, value.stream().collect(Collectors.groupingBy(ShadowAlgorithmNameRule::getShadowColumnName,
+                Collectors.mapping(each -> (ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each.getShadowAlgorithmName()), Collectors.toCollection(LinkedList::new))))));
+        return result;
+    }
+    
+    /**
+     * Get shadow column names.
+     *
+     * @param shadowOperationType shadow operation type
+     * @return shadow column names
+     */
+    public Collection<String> getShadowColumnNames(final ShadowOperationType shadowOperationType) {
+        return shadowColumnNames.getOrDefault(shadowOperationType, Collections.emptyList());
+    }
+    
+    /**
+     * Get column shadow algorithms.
+     *
+     * @param shadowOperationType shadow operation type
+     * @param shadowColumn shadow column
+     * @return column shadow algorithms
+     */
+    public Collection<ColumnShadowAlgorithm<Comparable<?>>> getColumnShadowAlgorithms(final ShadowOperationType shadowOperationType, final String shadowColumn) {
+        Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>> shadowColumnAlgorithms = columnShadowAlgorithms.get(shadowOperationType);
+        return null == shadowColumnAlgorithms ? Collections.emptyList() : shadowColumnAlgorithms.getOrDefault(shadowColumn, Collections.emptyList());
+    }
 }
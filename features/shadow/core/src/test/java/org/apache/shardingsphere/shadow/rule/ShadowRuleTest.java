@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.shadow.algorithm.config.AlgorithmProvidedShadowRuleConfiguration;
 import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
 import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
+import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
 import org.apache.shardingsphere.shadow.factory.ShadowAlgorithmFactory;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import org.junit.Before;
@@ -37,6 +39,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShadowRuleTest {
     
@@ -148,4 +151,20 @@ public final class ShadowRuleTest {
         assertThat(iterator.next(), is("t_user"));
         assertThat(iterator.next(), is("t_order"));
     }
+    
+    @Test
+    public void assertGetRelatedShadowColumnNames() {
+        assertThat(shadowRule.getRelatedShadowColumnNames(ShadowOperationType.INSERT, "t_user"), is(Collections.singletonList("user_id")));
+        assertThat(shadowRule.getRelatedShadowColumnNames(ShadowOperationType.INSERT, "t_order"), is(Collections.singletonList("order_id")));
+        assertTrue(shadowRule.getRelatedShadowColumnNames(ShadowOperationType.DELETE, "t_user").isEmpty());
+    }
+    
+    @Test
+    public void assertGetRelatedColumnShadowAlgorithms() {
+        Collection<ColumnShadowAlgorithm<Comparable<?>>> actual = shadowRule.getRelatedColumnShadowAlgorithms(ShadowOperationType.UPDATE, "t_user", "user_id");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(shadowRule.getShadowAlgorithms().get("user-id-update-regex-algorithm")));
+        assertTrue(shadowRule.getRelatedColumnShadowAlgorithms(ShadowOperationType.UPDATE, "t_user", "order_id").isEmpty());
+        assertTrue(shadowRule.getRelatedColumnShadowAlgorithms(ShadowOperationType.UPDATE, "t_order", "order_id").isEmpty());
+    }
 }
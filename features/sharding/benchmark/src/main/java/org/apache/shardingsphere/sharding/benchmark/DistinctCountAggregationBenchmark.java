@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.benchmark;
+
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.ApproximateDistinctCountAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.DistinctCountAggregationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of exact and approximate distinct count aggregation of one group, with rows of distinct values as many as cardinality.
+ * 
+ * <p>Run {@code java -jar features/sharding/benchmark/target/benchmarks.jar -prof gc} after {@code mvn install -Pbenchmark -pl features/sharding/benchmark -am}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DistinctCountAggregationBenchmark {
+    
+    @Param({"10", "1000", "100000"})
+    private int cardinality;
+    
+    private List<List<Comparable<?>>> rows;
+    
+    /**
+     * Set up rows.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new ArrayList<>(cardinality);
+        for (long i = 0; i < cardinality; i++) {
+            rows.add(Collections.singletonList(i));
+        }
+    }
+    
+    /**
+     * Count distinct values exactly.
+     * 
+     * @return distinct count
+     */
+    @Benchmark
+    public Comparable<?> exactDistinctCount() {
+        return aggregate(new DistinctCountAggregationUnit());
+    }
+    
+    /**
+     * Count distinct values approximately.
+     * 
+     * @return distinct count
+     */
+    @Benchmark
+    public Comparable<?> approximateDistinctCount() {
+        return aggregate(new ApproximateDistinctCountAggregationUnit());
+    }
+    
+    private Comparable<?> aggregate(final AggregationUnit aggregationUnit) {
+        for (List<Comparable<?>> each : rows) {
+            aggregationUnit.merge(each);
+        }
+        return aggregationUnit.getResult();
+    }
+}
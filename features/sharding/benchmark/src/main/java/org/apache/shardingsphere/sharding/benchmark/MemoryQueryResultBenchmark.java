@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.benchmark;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading and reading memory query results stored by rows of boxed values and by columns.
+ * 
+ * <p>Rows have a long, an int, a double, a low cardinality string and a timestamp column.
+ * Run {@code java -jar features/sharding/benchmark/target/benchmarks.jar MemoryQueryResultBenchmark -prof gc} after {@code mvn install -Pbenchmark -pl features/sharding/benchmark -am}
+ * and compare {@code gc.alloc.rate.norm} as well as time.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MemoryQueryResultBenchmark {
+    
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.VARCHAR, Types.TIMESTAMP};
+    
+    private static final String[] STATUSES = {"INIT", "RUNNING", "FINISHED", "FAILED"};
+    
+    @Param({"1000", "100000"})
+    private int rowCount;
+    
+    private DatabaseType databaseType;
+    
+    private ResultSetMetaData resultSetMetaData;
+    
+    /**
+     * Set up database type and result set meta data.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        databaseType = DatabaseTypeFactory.getInstance("MySQL");
+        resultSetMetaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return COLUMN_TYPES.length;
+                case "getColumnType":
+                    return COLUMN_TYPES[(int) args[0] - 1];
+                case "isSigned":
+                    return true;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+    
+    /**
+     * Load rows as lists of boxed values and read them.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void loadAndReadRows(final Blackhole blackhole) throws SQLException {
+        ResultSet resultSet = createResultSet();
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(resultSet.getLong(1), resultSet.getInt(2), resultSet.getDouble(3), resultSet.getString(4), resultSet.getTimestamp(5))));
+        }
+        read(new RawMemoryQueryResult(new JDBCQueryResultMetaData(resultSetMetaData), rows), blackhole);
+    }
+    
+    /**
+     * Load rows into column vectors and read them.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void loadAndReadColumns(final Blackhole blackhole) throws SQLException {
+        read(new JDBCMemoryQueryResult(createResultSet(), databaseType), blackhole);
+    }
+    
+    private void read(final QueryResult queryResult, final Blackhole blackhole) throws SQLException {
+        while (queryResult.next()) {
+            for (int columnIndex = 1; columnIndex <= COLUMN_TYPES.length; columnIndex++) {
+                blackhole.consume(queryResult.getValue(columnIndex, Object.class));
+            }
+        }
+    }
+    
+    private ResultSet createResultSet() {
+        int[] cursor = {0};
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{ResultSet.class}, (proxy, method, args) -> {
+            int row = cursor[0];
+            switch (method.getName()) {
+                case "next":
+                    return ++cursor[0] <= rowCount;
+                case "getMetaData":
+                    return resultSetMetaData;
+                case "wasNull":
+                    return false;
+                case "getLong":
+                    return (long) row;
+                case "getInt":
+                    return row % 1000;
+                case "getDouble":
+                    return row * 0.5D;
+                case "getString":
+                    return STATUSES[row % STATUSES.length];
+                case "getTimestamp":
+                    return new Timestamp(1600000000000L + row);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
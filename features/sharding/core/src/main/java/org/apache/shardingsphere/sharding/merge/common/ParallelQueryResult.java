@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.common;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Query result which reads rows of query results in parallel.
+ * 
+ * <p>Each query result is read and decoded by a task of the executor service into a bounded buffer, rows are iterated in the order they are read.
+ * Reading blocks on JDBC I/O, so the executor service of kernel executor engine is used, which is bounded by kernel executor size and closed with it.
+ * Any failure of a reader is rethrown to the consumer, by closing if it is not consumed by iterating rows.</p>
+ */
+public final class ParallelQueryResult implements QueryResult {
+    
+    private static final int BUFFER_SIZE = 4096;
+    
+    private static final long POLL_TIMEOUT_MILLISECONDS = 100L;
+    
+    private static final Object[] END_OF_QUERY_RESULT = new Object[0];
+    
+    private final QueryResultMetaData metaData;
+    
+    private final BlockingQueue<Object[]> rows = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    
+    private final Collection<CompletableFuture<Void>> readers;
+    
+    private final AtomicReference<Throwable> readFailure = new AtomicReference<>();
+    
+    private volatile boolean closed;
+    
+    private boolean readFailureThrown;
+    
+    private int remainingReaderCount;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public ParallelQueryResult(final List<QueryResult> queryResults, final ExecutorService executorService) {
+        metaData = queryResults.get(0).getMetaData();
+        readers = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            readers.add(CompletableFuture.runAsync(() -> read(each), executorService));
+        }
+        remainingReaderCount = queryResults.size();
+    }
+    
+    private void read(final QueryResult queryResult) {
+        try {
+            int columnCount = queryResult.getMetaData().getColumnCount();
+            while (!closed && queryResult.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = queryResult.getValue(i + 1, Object.class);
+                }
+                put(row);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            readFailure.compareAndSet(null, ex);
+        } finally {
+            put(END_OF_QUERY_RESULT);
+        }
+    }
+    
+    private void put(final Object[] row) {
+        try {
+            boolean offered = false;
+            while (!closed && !offered) {
+                offered = rows.offer(row, POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (remainingReaderCount > 0) {
+            Object[] row = take();
+            if (END_OF_QUERY_RESULT != row) {
+                currentRow = row;
+                return true;
+            }
+            remainingReaderCount--;
+            checkReadFailure();
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    private Object[] take() throws SQLException {
+        try {
+            while (true) {
+                Object[] result = rows.poll(POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                if (null != result) {
+                    return result;
+                }
+                checkReadFailure();
+                if (readers.stream().allMatch(Future::isDone)) {
+                    result = rows.poll();
+                    if (null == result) {
+                        throw new SQLException("Readers of parallel query result terminated without end of query result.");
+                    }
+                    return result;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void checkReadFailure() throws SQLException {
+        Throwable failure = readFailure.get();
+        if (null == failure) {
+            return;
+        }
+        readFailureThrown = true;
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new SQLException(failure);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = getValue(columnIndex, type);
+        if (!(result instanceof Date) || null == calendar) {
+            return result;
+        }
+        long millis = getMillisInCalendar((Date) result, calendar);
+        if (result instanceof Timestamp) {
+            Timestamp timestamp = new Timestamp(millis);
+            timestamp.setNanos(((Timestamp) result).getNanos());
+            return timestamp;
+        }
+        if (result instanceof Time) {
+            return new Time(millis);
+        }
+        return result instanceof java.sql.Date ? new java.sql.Date(millis) : new Date(millis);
+    }
+    
+    private long getMillisInCalendar(final Date value, final Calendar calendar) {
+        Calendar defaultCalendar = Calendar.getInstance();
+        defaultCalendar.setTime(value);
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        result.set(defaultCalendar.get(Calendar.YEAR), defaultCalendar.get(Calendar.MONTH), defaultCalendar.get(Calendar.DAY_OF_MONTH),
+                defaultCalendar.get(Calendar.HOUR_OF_DAY), defaultCalendar.get(Calendar.MINUTE), defaultCalendar.get(Calendar.SECOND));
+        result.set(Calendar.ERA, defaultCalendar.get(Calendar.ERA));
+        result.set(Calendar.MILLISECOND, defaultCalendar.get(Calendar.MILLISECOND));
+        return result.getTimeInMillis();
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return metaData;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        rows.clear();
+        for (CompletableFuture<Void> each : readers) {
+            each.join();
+        }
+        if (!readFailureThrown) {
+            checkReadFailure();
+        }
+    }
+}
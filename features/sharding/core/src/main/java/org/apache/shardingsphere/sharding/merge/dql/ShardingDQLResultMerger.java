@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -25,12 +26,15 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
+import org.apache.shardingsphere.infra.merge.engine.merger.aware.ExecutorEngineAware;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.common.ParallelQueryResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -42,6 +46,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.In
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -50,10 +55,19 @@ import java.util.TreeMap;
  * DQL result merger for Sharding.
  */
 @RequiredArgsConstructor
-public final class ShardingDQLResultMerger implements ResultMerger {
+public final class ShardingDQLResultMerger implements ResultMerger, ExecutorEngineAware {
     
     private final DatabaseType protocolType;
     
+    private final boolean parallelMergeEnabled;
+    
+    @Setter
+    private ExecutorEngine executorEngine;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, false);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -115,9 +129,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        if (!parallelMergeEnabled || queryResults.size() < 2 || null == executorEngine) {
+            return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        }
+        ParallelQueryResult parallelQueryResult = new ParallelQueryResult(queryResults, executorEngine.getExecutorServiceManager().getExecutorService());
+        try {
+            return new GroupByMemoryMergedResult(Collections.singletonList(parallelQueryResult), selectStatementContext, schema);
+        } finally {
+            parallelQueryResult.close();
+        }
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -131,7 +154,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         }
         String trunkDatabaseName = DatabaseTypeEngine.getTrunkDatabaseType(protocolType.getType()).getType();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName) || "openGauss".equals(trunkDatabaseName)) {
-            return new LimitDecoratorMergedResult(mergedResult, paginationContext);
+            return new LimitDecoratorMergedResult(mergedResult, paginationContext, queryResults);
         }
         if ("Oracle".equals(trunkDatabaseName)) {
             return new RowNumberDecoratorMergedResult(mergedResult, paginationContext);
@@ -60,12 +60,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        boolean approximateDistinctCountMerge = selectStatementContext.getSqlHintExtractor().isApproximateDistinctCountMerge();
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
+                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap, approximateDistinctCountMerge);
                 aggregate(selectStatementContext, each, groupByValue, aggregationMap);
             }
         }
@@ -76,14 +77,14 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap, final boolean approximateDistinctCountMerge) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         if (!aggregationMap.containsKey(groupByValue)) {
             Map<AggregationProjection, AggregationUnit> map = Maps
                     .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, approximateDistinctCountMerge));
             aggregationMap.put(groupByValue, map);
         }
     }
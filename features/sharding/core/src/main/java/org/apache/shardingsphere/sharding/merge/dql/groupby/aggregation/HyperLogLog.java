@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog for estimating cardinality in fixed memory.
+ * 
+ * <p>Registers are sparse at first, only the registers updated are kept in an open addressing table of {@code (index + 1) << 8 | rank} entries,
+ * and they are promoted to dense registers once the table would be as large as dense registers, so small groups take far less than dense registers.
+ * Integral values are hashed by 64 bits finalizer of murmur3 without converting to string.</p>
+ */
+public final class HyperLogLog {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private static final int INITIAL_SPARSE_CAPACITY = 16;
+    
+    private final int precision;
+    
+    private int[] sparseRegisters = new int[INITIAL_SPARSE_CAPACITY];
+    
+    private int sparseSize;
+    
+    private byte[] registers;
+    
+    public HyperLogLog(final int precision) {
+        this.precision = precision;
+    }
+    
+    /**
+     * Offer value.
+     * 
+     * @param value value
+     */
+    public void offer(final Object value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        int rank = Long.numberOfLeadingZeros(hash << precision | 1L << (precision - 1)) + 1;
+        updateRegister(index, rank);
+    }
+    
+    private long hash(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        }
+        return HASH_FUNCTION.hashString(String.valueOf(value), StandardCharsets.UTF_8).asLong();
+    }
+    
+    private long mix(final long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+    
+    private void updateRegister(final int index, final int rank) {
+        if (null != registers) {
+            if (rank > registers[index]) {
+                registers[index] = (byte) rank;
+            }
+            return;
+        }
+        int slot = findSparseSlot(sparseRegisters, index);
+        int entry = sparseRegisters[slot];
+        if (0 != entry) {
+            if (rank > (entry & 0xFF)) {
+                sparseRegisters[slot] = (index + 1) << 8 | rank;
+            }
+            return;
+        }
+        if ((sparseSize + 1) * 2 > sparseRegisters.length) {
+            growSparseRegisters();
+            updateRegister(index, rank);
+            return;
+        }
+        sparseRegisters[slot] = (index + 1) << 8 | rank;
+        sparseSize++;
+    }
+    
+    private int findSparseSlot(final int[] sparseRegisters, final int index) {
+        int mask = sparseRegisters.length - 1;
+        int result = index & mask;
+        while (0 != sparseRegisters[result] && (sparseRegisters[result] >>> 8) - 1 != index) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    private void growSparseRegisters() {
+        int newCapacity = sparseRegisters.length * 2;
+        if ((long) newCapacity * Integer.BYTES >= 1 << precision) {
+            promoteToDenseRegisters();
+            return;
+        }
+        int[] newSparseRegisters = new int[newCapacity];
+        for (int each : sparseRegisters) {
+            if (0 != each) {
+                newSparseRegisters[findSparseSlot(newSparseRegisters, (each >>> 8) - 1)] = each;
+            }
+        }
+        sparseRegisters = newSparseRegisters;
+    }
+    
+    private void promoteToDenseRegisters() {
+        registers = new byte[1 << precision];
+        for (int each : sparseRegisters) {
+            if (0 != each) {
+                registers[(each >>> 8) - 1] = (byte) (each & 0xFF);
+            }
+        }
+        sparseRegisters = null;
+        sparseSize = 0;
+    }
+    
+    /**
+     * Estimate cardinality.
+     * 
+     * @return estimated cardinality
+     */
+    public long cardinality() {
+        int registerSize = 1 << precision;
+        double sum = 0D;
+        int zeroRegisterSize = 0;
+        if (null == registers) {
+            zeroRegisterSize = registerSize - sparseSize;
+            sum = zeroRegisterSize;
+            for (int each : sparseRegisters) {
+                if (0 != each) {
+                    sum += 1D / (1L << (each & 0xFF));
+                }
+            }
+        } else {
+            for (byte each : registers) {
+                sum += 1D / (1L << each);
+                if (0 == each) {
+                    zeroRegisterSize++;
+                }
+            }
+        }
+        double result = getAlpha(registerSize) * registerSize * registerSize / sum;
+        if (result <= 2.5D * registerSize && zeroRegisterSize > 0) {
+            result = registerSize * Math.log((double) registerSize / zeroRegisterSize);
+        }
+        return Math.round(result);
+    }
+    
+    private double getAlpha(final int registerSize) {
+        switch (registerSize) {
+            case 16:
+                return 0.673D;
+            case 32:
+                return 0.697D;
+            case 64:
+                return 0.709D;
+            default:
+                return 0.7213D / (1D + 1.079D / registerSize);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loser tree for k-way merge, replacing the winner takes log2(k) comparisons.
+ * 
+ * @param <T> type of value to be merged
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> values;
+    
+    private final int[] tree;
+    
+    private int remainingSize;
+    
+    public LoserTree(final List<T> values) {
+        this.values = new ArrayList<>(values);
+        tree = new int[Math.max(values.size(), 1)];
+        remainingSize = values.size();
+        if (0 != remainingSize) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        if (node >= values.size()) {
+            return node - values.size();
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(left, right, left < right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    /**
+     * Judge whether all values are exhausted.
+     * 
+     * @return all values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingSize;
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return current winner, null if all values are exhausted
+     */
+    public T peek() {
+        return isEmpty() ? null : values.get(tree[0]);
+    }
+    
+    /**
+     * Get position of current winner in the values passed to constructor.
+     * 
+     * @return position of current winner, -1 if all values are exhausted
+     */
+    public int peekIndex() {
+        return isEmpty() ? -1 : tree[0];
+    }
+    
+    /**
+     * Replace current winner and replay the matches from its leaf to root.
+     * 
+     * <p>The new value wins ties so that the same value source keeps going, other ties are won by lower position.</p>
+     * 
+     * @param value value to replace current winner, null means the position of winner is exhausted
+     */
+    public void replaceWinner(final T value) {
+        final int replaced = tree[0];
+        int winner = replaced;
+        values.set(winner, value);
+        if (null == value) {
+            remainingSize--;
+        }
+        for (int node = (winner + values.size()) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner, winner != replaced && tree[node] < winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int index, final int otherIndex, final boolean winTie) {
+        T value = values.get(index);
+        if (null == value) {
+            return false;
+        }
+        T otherValue = values.get(otherIndex);
+        if (null == otherValue) {
+            return true;
+        }
+        int result = value.compareTo(otherValue);
+        return result < 0 || winTie && 0 == result;
+    }
+}
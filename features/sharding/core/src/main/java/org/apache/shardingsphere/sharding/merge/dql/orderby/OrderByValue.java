@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -33,15 +34,24 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Order by value.
+ * 
+ * <p>Order values of current row are kept in reusable slots, integral and floating point values are compared as primitives.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte NULL_VALUE = 0;
+    
+    private static final byte LONG_VALUE = 1;
+    
+    private static final byte DOUBLE_VALUE = 2;
+    
+    private static final byte OBJECT_VALUE = 3;
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -49,13 +59,40 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderValueIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final byte[] orderValueTypes;
+    
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        int size = orderByItems.size();
+        orderValueIndexes = new int[size];
+        orderDirections = new OrderDirection[size];
+        nullOrderDirections = new OrderDirection[size];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderValueIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            i++;
+        }
+        orderValueTypes = new byte[size];
+        longOrderValues = new long[size];
+        doubleOrderValues = new double[size];
+        orderValues = new Comparable<?>[size];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +136,55 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            Object value = queryResult.getValue(orderValueIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            if (null == value) {
+                orderValueTypes[i] = NULL_VALUE;
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                orderValueTypes[i] = LONG_VALUE;
+                longOrderValues[i] = ((Number) value).longValue();
+            } else if (value instanceof Double || value instanceof Float) {
+                orderValueTypes[i] = DOUBLE_VALUE;
+                doubleOrderValues[i] = ((Number) value).doubleValue();
+            } else {
+                orderValueTypes[i] = OBJECT_VALUE;
+            }
+            orderValues[i] = value instanceof String && !orderValuesCaseSensitive.get(i) ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            int result = compareOrderValue(o, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareOrderValue(final OrderByValue o, final int index) {
+        byte type = orderValueTypes[index];
+        byte otherType = o.orderValueTypes[index];
+        if (NULL_VALUE == type || NULL_VALUE == otherType || OBJECT_VALUE == type || OBJECT_VALUE == otherType) {
+            return CompareUtil.compareTo(orderValues[index], o.orderValues[index], orderDirections[index], nullOrderDirections[index], true);
+        }
+        int result = LONG_VALUE == type && LONG_VALUE == otherType
+                ? Long.compare(longOrderValues[index], o.longOrderValues[index])
+                : Double.compare(getDoubleOrderValue(index), o.getDoubleOrderValue(index));
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private double getDoubleOrderValue(final int index) {
+        return LONG_VALUE == orderValueTypes[index] ? longOrderValues[index] : doubleOrderValues[index];
+    }
 }
@@ -17,31 +17,41 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Decorator merged result for limit pagination.
+ * 
+ * <p>Rows before seek key of keyset pagination are not returned by databases, so only the rest of offset is skipped.
+ * Once the rows of limit are all returned, query results still streaming from databases are terminated to release their result sets early.</p>
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private final PaginationContext pagination;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
-    public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination, final Collection<QueryResult> queryResults) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.queryResults = queryResults;
         skipAll = skipOffset();
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < pagination.getActualOffset(); i++) {
+        long skippedOffset = pagination.getActualOffset() - pagination.getKeysetPaginationContext().map(KeysetPaginationContext::getSeekOffset).orElse(0L);
+        for (long i = 0; i < skippedOffset; i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -58,6 +68,19 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        long rowCount = pagination.getActualRowCount().get();
+        if (++rowNumber <= rowCount) {
+            return getMergedResult().next();
+        }
+        if (rowNumber == rowCount + 1) {
+            terminateQueryResults();
+        }
+        return false;
+    }
+    
+    private void terminateQueryResults() throws SQLException {
+        for (QueryResult each : queryResults) {
+            each.terminate();
+        }
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keyset pagination context builder.
+ * 
+ * <p>Only simple single table queries ordered by the single column integral primary key with limit of offset not less than min offset are built.
+ * Seek key is found for each query in two phases by the queries of each data node, which are executed by the data node query executor of SQL rewrite context:</p>
+ * <ol>
+ *     <li>the key at offset divided by data nodes count of each data node is sampled, and the first one in order is the seek key;</li>
+ *     <li>the rows before the seek key of each data node are counted, and the sum of them is the seek offset, which is not greater than offset.</li>
+ * </ol>
+ * <p>Keyset pagination is not used if any query fails, the original query is executed instead.</p>
+ * <p>The queries are executed before and apart from the query of the page, with the same connection of each data source.
+ * They read the same snapshot as the query of the page only in transaction of repeatable read or serializable isolation level.
+ * Otherwise rows inserted or deleted before the seek key in between are not seen by the count, and the page is shifted by them.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class KeysetPaginationContextBuilder {
+    
+    private final long minOffset;
+    
+    /**
+     * Build keyset pagination context.
+     * 
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return built keyset pagination context
+     */
+    public Optional<KeysetPaginationContext> build(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        Optional<DataNodeQueryExecutor> queryExecutor = sqlRewriteContext.getDataNodeQueryExecutor();
+        if (!(sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext) || !queryExecutor.isPresent()) {
+            return Optional.empty();
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlRewriteContext.getSqlStatementContext();
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        if (!pagination.getRowCountSegment().isPresent() || !(pagination.getRowCountSegment().get() instanceof LimitValueSegment)
+                || pagination.getActualOffset() < minOffset || !isSimpleQuery(selectStatementContext)) {
+            return Optional.empty();
+        }
+        long sampledOffset = pagination.getActualOffset() / routeContext.getRouteUnits().size();
+        Optional<OrderByItem> keyOrderByItem = findPrimaryKeyOrderByItem(selectStatementContext, getSchema(sqlRewriteContext, selectStatementContext));
+        Optional<List<Object>> whereParameters = findWhereParameters(selectStatementContext, pagination, sqlRewriteContext.getParameters());
+        if (0L == sampledOffset || !keyOrderByItem.isPresent() || !whereParameters.isPresent()) {
+            return Optional.empty();
+        }
+        KeysetSeekSQLBuilder seekSQLBuilder = createSeekSQLBuilder(sqlRewriteContext, selectStatementContext, keyOrderByItem.get());
+        Optional<Collection<DataNode>> seekDataNodes = findSeekDataNodes(routeContext.getRouteUnits(), seekSQLBuilder.getTable().getTableName().getIdentifier().getValue());
+        if (!seekDataNodes.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<Comparable<?>> seekKey = findSeekKey(queryExecutor.get(), seekDataNodes.get(), seekSQLBuilder, whereParameters.get(), sampledOffset);
+            return seekKey.isPresent()
+                    ? Optional.of(new KeysetPaginationContext(seekSQLBuilder.getKeyColumnName(), keyOrderByItem.get().getIndex(), seekSQLBuilder.isDescending(),
+                            countRowsBeforeSeekKey(queryExecutor.get(), seekDataNodes.get(), seekSQLBuilder, whereParameters.get(), seekKey.get()), seekKey.get()))
+                    : Optional.empty();
+        } catch (final SQLException ex) {
+            log.warn("Seek key of keyset pagination can not be found, fall back to offset pagination for SQL: {}", sqlRewriteContext.getSql(), ex);
+            return Optional.empty();
+        }
+    }
+    
+    private boolean isSimpleQuery(final SelectStatementContext selectStatementContext) {
+        return 1 == selectStatementContext.getAllTables().size() && !selectStatementContext.isContainsSubquery() && !selectStatementContext.isContainsJoinQuery()
+                && !selectStatementContext.isContainsCombine() && !selectStatementContext.isContainsHaving() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() && !selectStatementContext.getProjectionsContext().isDistinctRow()
+                && !SelectStatementHandler.getWindowSegment(selectStatementContext.getSqlStatement()).isPresent()
+                && !selectStatementContext.getOrderByContext().isGenerated() && 1 == selectStatementContext.getOrderByContext().getItems().size();
+    }
+    
+    private ShardingSphereSchema getSchema(final SQLRewriteContext sqlRewriteContext, final SelectStatementContext selectStatementContext) {
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(selectStatementContext.getDatabaseType(), sqlRewriteContext.getDatabaseName());
+        return sqlRewriteContext.getSchemas().get(selectStatementContext.getTablesContext().getSchemaName().orElse(defaultSchemaName));
+    }
+    
+    private Optional<OrderByItem> findPrimaryKeyOrderByItem(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) {
+        OrderByItem result = selectStatementContext.getOrderByContext().getItems().iterator().next();
+        String tableName = selectStatementContext.getAllTables().iterator().next().getTableName().getIdentifier().getValue();
+        if (!(result.getSegment() instanceof ColumnOrderByItemSegment) || null == schema || !schema.containsTable(tableName)) {
+            return Optional.empty();
+        }
+        ShardingSphereTable table = schema.getTable(tableName);
+        ColumnSegment column = ((ColumnOrderByItemSegment) result.getSegment()).getColumn();
+        return 1 == table.getPrimaryKeyColumns().size() && table.getPrimaryKeyColumns().get(0).equalsIgnoreCase(column.getIdentifier().getValue()) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<List<Object>> findWhereParameters(final SelectStatementContext selectStatementContext, final PaginationContext pagination, final List<Object> parameters) {
+        Set<Integer> paginationParameterIndexes = new HashSet<>(2, 1);
+        pagination.getOffsetParameterIndex().ifPresent(paginationParameterIndexes::add);
+        pagination.getRowCountParameterIndex().ifPresent(paginationParameterIndexes::add);
+        Optional<ExpressionSegment> where = selectStatementContext.getSqlStatement().getWhere().map(WhereSegment::getExpr);
+        List<ParameterMarkerExpressionSegment> whereParameterMarkers = new ArrayList<>();
+        for (ParameterMarkerSegment each : selectStatementContext.getSqlStatement().getParameterMarkerSegments()) {
+            boolean inWhere = where.isPresent() && each.getStartIndex() >= where.get().getStartIndex() && each.getStopIndex() <= where.get().getStopIndex();
+            if (inWhere && each instanceof ParameterMarkerExpressionSegment) {
+                whereParameterMarkers.add((ParameterMarkerExpressionSegment) each);
+            } else if (inWhere || !paginationParameterIndexes.contains(getParameterIndex(each))) {
+                return Optional.empty();
+            }
+        }
+        if (whereParameterMarkers.size() + paginationParameterIndexes.size() != parameters.size()) {
+            return Optional.empty();
+        }
+        whereParameterMarkers.sort(Comparator.comparingInt(ParameterMarkerSegment::getStartIndex));
+        List<Object> result = new ArrayList<>(whereParameterMarkers.size());
+        for (ParameterMarkerExpressionSegment each : whereParameterMarkers) {
+            result.add(parameters.get(each.getParameterMarkerIndex()));
+        }
+        return Optional.of(result);
+    }
+    
+    private int getParameterIndex(final ParameterMarkerSegment parameterMarkerSegment) {
+        return parameterMarkerSegment instanceof ParameterMarkerPaginationValueSegment ? ((ParameterMarkerPaginationValueSegment) parameterMarkerSegment).getParameterIndex() : -1;
+    }
+    
+    private KeysetSeekSQLBuilder createSeekSQLBuilder(final SQLRewriteContext sqlRewriteContext, final SelectStatementContext selectStatementContext, final OrderByItem keyOrderByItem) {
+        String keyColumnName = ((ColumnOrderByItemSegment) keyOrderByItem.getSegment()).getColumn().getIdentifier().getValueWithQuoteCharacters();
+        boolean descending = OrderDirection.DESC == keyOrderByItem.getSegment().getOrderDirection();
+        String where = selectStatementContext.getSqlStatement().getWhere().map(WhereSegment::getExpr)
+                .map(optional -> sqlRewriteContext.getSql().substring(optional.getStartIndex(), optional.getStopIndex() + 1)).orElse(null);
+        return new KeysetSeekSQLBuilder(selectStatementContext.getAllTables().iterator().next(), keyColumnName, descending, where);
+    }
+    
+    private Optional<Collection<DataNode>> findSeekDataNodes(final Collection<RouteUnit> routeUnits, final String logicTableName) {
+        Collection<DataNode> result = new ArrayList<>(routeUnits.size());
+        for (RouteUnit each : routeUnits) {
+            Set<String> actualTableNames = each.getActualTableNames(logicTableName);
+            if (1 != actualTableNames.size()) {
+                return Optional.empty();
+            }
+            result.add(new DataNode(each.getDataSourceMapper().getActualName(), actualTableNames.iterator().next()));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Comparable<?>> findSeekKey(final DataNodeQueryExecutor queryExecutor, final Collection<DataNode> seekDataNodes, final KeysetSeekSQLBuilder seekSQLBuilder,
+                                                final List<Object> whereParameters, final long sampledOffset) throws SQLException {
+        Map<DataNode, String> sqls = new LinkedHashMap<>(seekDataNodes.size(), 1);
+        for (DataNode each : seekDataNodes) {
+            sqls.put(each, seekSQLBuilder.buildSampleSQL(each.getTableName()));
+        }
+        List<Object> parameters = new ArrayList<>(whereParameters);
+        parameters.add(sampledOffset);
+        Comparable<?> result = null;
+        BigInteger resultValue = null;
+        for (Object each : queryExecutor.executeQuery(sqls, parameters).values()) {
+            if (null == each) {
+                continue;
+            }
+            if (!isIntegral(each)) {
+                return Optional.empty();
+            }
+            BigInteger sampledValue = new BigInteger(each.toString());
+            if (null == resultValue || (seekSQLBuilder.isDescending() ? sampledValue.compareTo(resultValue) > 0 : sampledValue.compareTo(resultValue) < 0)) {
+                result = (Comparable<?>) each;
+                resultValue = sampledValue;
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private boolean isIntegral(final Object key) {
+        return key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte || key instanceof BigInteger;
+    }
+    
+    private long countRowsBeforeSeekKey(final DataNodeQueryExecutor queryExecutor, final Collection<DataNode> seekDataNodes, final KeysetSeekSQLBuilder seekSQLBuilder,
+                                        final List<Object> whereParameters, final Comparable<?> seekKey) throws SQLException {
+        Map<DataNode, String> sqls = new LinkedHashMap<>(seekDataNodes.size(), 1);
+        for (DataNode each : seekDataNodes) {
+            sqls.put(each, seekSQLBuilder.buildCountSQL(each.getTableName()));
+        }
+        List<Object> parameters = new ArrayList<>(whereParameters);
+        parameters.add(seekKey);
+        long result = 0L;
+        for (Object each : queryExecutor.executeQuery(sqls, parameters).values()) {
+            result += null == each ? 0L : ((Number) each).longValue();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+/**
+ * Keyset seek SQL builder.
+ * 
+ * <p>Logic table is aliased by its alias or name, so that conditions of where clause can be reused for actual tables.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class KeysetSeekSQLBuilder {
+    
+    private final SimpleTableSegment table;
+    
+    private final String keyColumnName;
+    
+    private final boolean descending;
+    
+    private final String where;
+    
+    /**
+     * Build SQL to sample key at offset of parameter.
+     * 
+     * @param actualTableName actual table name
+     * @return built SQL
+     */
+    public String buildSampleSQL(final String actualTableName) {
+        StringBuilder result = new StringBuilder(String.format("SELECT %s FROM %s", keyColumnName, getTableWithAlias(actualTableName)));
+        if (null != where) {
+            result.append(" WHERE ").append(where);
+        }
+        result.append(" ORDER BY ").append(keyColumnName).append(descending ? " DESC" : "").append(" LIMIT 1 OFFSET ?");
+        return result.toString();
+    }
+    
+    /**
+     * Build SQL to count rows before key of parameter.
+     * 
+     * @param actualTableName actual table name
+     * @return built SQL
+     */
+    public String buildCountSQL(final String actualTableName) {
+        String keyCondition = String.format("%s %s ?", keyColumnName, descending ? ">" : "<");
+        return String.format("SELECT COUNT(*) FROM %s WHERE %s", getTableWithAlias(actualTableName), null == where ? keyCondition : String.format("(%s) AND %s", where, keyCondition));
+    }
+    
+    private String getTableWithAlias(final String actualTableName) {
+        String alias = table.getAlias().orElseGet(() -> table.getTableName().getIdentifier().getValueWithQuoteCharacters());
+        return String.format("%s %s", table.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName), alias);
+    }
+}
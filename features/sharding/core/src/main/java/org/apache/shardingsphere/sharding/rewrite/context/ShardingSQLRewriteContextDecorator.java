@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.sharding.rewrite.context;
 
 import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
@@ -39,6 +41,11 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
     @SuppressWarnings("rawtypes")
     @Override
     public void decorate(final ShardingRule shardingRule, final ConfigurationProperties props, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if (sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext && !routeContext.isSingleRouting()
+                && props.<Boolean>getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_ENABLED)) {
+            new KeysetPaginationContextBuilder(props.<Long>getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_MIN_OFFSET)).build(sqlRewriteContext, routeContext)
+                    .ifPresent(optional -> ((SelectStatementContext) sqlRewriteContext.getSqlStatementContext()).getPaginationContext().setKeysetPaginationContext(optional));
+        }
         if (!sqlRewriteContext.getParameters().isEmpty()) {
             Collection<ParameterRewriter> parameterRewriters = new ShardingParameterRewriterBuilder(shardingRule,
                     routeContext, sqlRewriteContext.getSchemas(), sqlRewriteContext.getSqlStatementContext()).getParameterRewriters();
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteCo
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingGeneratedKeyInsertValueParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingKeysetPaginationParameterRewriter;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPaginationParameterRewriter;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
@@ -54,6 +55,7 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
         Collection<ParameterRewriter> result = new LinkedList<>();
         addParameterRewriter(result, new ShardingGeneratedKeyInsertValueParameterRewriter());
         addParameterRewriter(result, new ShardingPaginationParameterRewriter());
+        addParameterRewriter(result, new ShardingKeysetPaginationParameterRewriter());
         return result;
     }
     
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sharding keyset pagination parameter rewriter.
+ * 
+ * <p>Seek key is added after the last parameter of where, because keyset condition is appended to where, or is the where if there is no where.</p>
+ */
+public final class ShardingKeysetPaginationParameterRewriter implements ParameterRewriter<SelectStatementContext> {
+    
+    @Override
+    public boolean isNeedRewrite(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().getKeysetPaginationContext().isPresent();
+    }
+    
+    @Override
+    public void rewrite(final ParameterBuilder parameterBuilder, final SelectStatementContext selectStatementContext, final List<Object> parameters) {
+        KeysetPaginationContext keysetPagination = selectStatementContext.getPaginationContext().getKeysetPaginationContext().orElseThrow(IllegalStateException::new);
+        ((StandardParameterBuilder) parameterBuilder).addAddedParameters(getLastWhereParameterIndex(selectStatementContext), new ArrayList<>(Collections.singleton(keysetPagination.getSeekKey())));
+    }
+    
+    private int getLastWhereParameterIndex(final SelectStatementContext selectStatementContext) {
+        Optional<ExpressionSegment> where = selectStatementContext.getSqlStatement().getWhere().map(WhereSegment::getExpr);
+        int result = -1;
+        if (!where.isPresent()) {
+            return result;
+        }
+        for (ParameterMarkerSegment each : selectStatementContext.getSqlStatement().getParameterMarkerSegments()) {
+            if (each instanceof ParameterMarkerExpressionSegment && each.getStartIndex() >= where.get().getStartIndex() && each.getStopIndex() <= where.get().getStopIndex()) {
+                result = Math.max(result, ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+}
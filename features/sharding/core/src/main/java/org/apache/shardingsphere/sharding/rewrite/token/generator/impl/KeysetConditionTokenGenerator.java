@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.KeysetConditionToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keyset condition token generator.
+ * 
+ * <p>Seek key is included, because it is the first row after the rows counted in seek offset.
+ * Seek key is bound as parameter marker if SQL is executed with parameters, otherwise it is an integral literal.</p>
+ */
+@Setter
+public final class KeysetConditionTokenGenerator implements CollectionSQLTokenGenerator<SelectStatementContext>, ParametersAware, IgnoreForSingleRoute {
+    
+    private List<Object> parameters;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext
+                && ((SelectStatementContext) sqlStatementContext).getPaginationContext().getKeysetPaginationContext().isPresent();
+    }
+    
+    @Override
+    public Collection<KeysetConditionToken> generateSQLTokens(final SelectStatementContext selectStatementContext) {
+        KeysetPaginationContext keysetPagination = selectStatementContext.getPaginationContext().getKeysetPaginationContext().orElseThrow(IllegalStateException::new);
+        String condition = String.format("%s %s %s", keysetPagination.getKeyColumnName(), keysetPagination.isDescending() ? "<=" : ">=",
+                parameters.isEmpty() ? keysetPagination.getSeekKey() : "?");
+        Collection<KeysetConditionToken> result = new LinkedList<>();
+        Optional<WhereSegment> where = selectStatementContext.getSqlStatement().getWhere();
+        if (where.isPresent()) {
+            ExpressionSegment expr = where.get().getExpr();
+            result.add(new KeysetConditionToken(expr.getStartIndex(), "("));
+            result.add(new KeysetConditionToken(expr.getStopIndex() + 1, ") AND " + condition));
+        } else {
+            selectStatementContext.getSqlStatement().getOrderBy().ifPresent(optional -> result.add(new KeysetConditionToken(optional.getStartIndex(), "WHERE " + condition + " ")));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.common;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ParallelQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(mockQueryResult(0, 5000), mockQueryResult(5000, 0), mockQueryResult(10000, 3000)), executorService);
+        Set<Object> values = new HashSet<>();
+        while (actual.next()) {
+            values.add(actual.getValue(1, Object.class));
+        }
+        assertThat(values.size(), is(8000));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithReadException() throws SQLException {
+        QueryResult queryResult = mockQueryResult(0, 1);
+        when(queryResult.getValue(1, Object.class)).thenThrow(SQLException.class);
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(mockQueryResult(0, 10), queryResult), executorService);
+        try {
+            while (actual.next()) {
+                actual.getValue(1, Object.class);
+            }
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertNextWithReadRuntimeException() throws SQLException {
+        QueryResult queryResult = mockQueryResult(0, 1);
+        when(queryResult.getValue(1, Object.class)).thenThrow(IllegalStateException.class);
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(mockQueryResult(0, 10), queryResult), executorService);
+        try {
+            while (actual.next()) {
+                actual.getValue(1, Object.class);
+            }
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCloseWithReadExceptionNotConsumed() throws SQLException {
+        QueryResult queryResult = mockQueryResult(0, 1);
+        when(queryResult.getValue(1, Object.class)).thenThrow(SQLException.class);
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(mockQueryResult(0, 10), queryResult), executorService);
+        verify(queryResult, timeout(10000L)).getValue(1, Object.class);
+        actual.close();
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(mockQueryResult(0, 100000), mockQueryResult(100000, 100000)), executorService);
+        actual.next();
+        actual.close();
+    }
+    
+    @Test
+    public void assertGetValueWithNull() throws SQLException {
+        QueryResult queryResult = mockQueryResult(0, 1);
+        when(queryResult.getValue(eq(1), eq(Object.class))).thenReturn(null);
+        ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(queryResult, mockQueryResult(0, 0)), executorService);
+        actual.next();
+        assertNull(actual.getValue(1, Object.class));
+        assertThat(actual.wasNull(), is(true));
+        actual.close();
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        QueryResult queryResult = mockQueryResult(0, 1);
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("GMT+8"));
+        try {
+            when(queryResult.getValue(eq(1), eq(Object.class))).thenReturn(Timestamp.valueOf("2022-10-19 08:00:00.123456789"));
+            ParallelQueryResult actual = new ParallelQueryResult(Arrays.asList(queryResult, mockQueryResult(0, 0)), executorService);
+            actual.next();
+            Timestamp timestamp = (Timestamp) actual.getCalendarValue(1, Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+            assertThat(timestamp.getTime(), is(Timestamp.valueOf("2022-10-19 16:00:00.123").getTime()));
+            assertThat(timestamp.getNanos(), is(123456789));
+            actual.close();
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+    
+    private QueryResult mockQueryResult(final int start, final int rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        AtomicInteger rowNumber = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> rowNumber.incrementAndGet() <= rowCount);
+        when(result.getValue(eq(1), eq(Object.class))).thenAnswer(invocation -> start + rowNumber.get());
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -48,8 +49,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -112,6 +117,102 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForSomeResultSetsEmptyWithParallelMerge() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult();
+        when(queryResult3.next()).thenReturn(true, true, false);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 30);
+        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(4, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(20, 30);
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), true);
+            resultMerger.setExecutorEngine(executorEngine);
+            MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(3));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(2));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+            assertFalse(actual.next());
+        }
+    }
+    
+    @Test
+    public void assertNextWithParallelMergeInSameOrderAsSerialMerge() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        ShardingDQLResultMerger serialResultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), true);
+        List<List<Object>> expected = getRows(serialResultMerger.merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class)));
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(3)) {
+            ShardingDQLResultMerger parallelResultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), true);
+            parallelResultMerger.setExecutorEngine(executorEngine);
+            List<List<Object>> actual = getRows(parallelResultMerger.merge(createQueryResults(), createSelectStatementContext(), database, mock(ConnectionContext.class)));
+            assertThat(actual.size(), is(50));
+            assertThat(actual, is(expected));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithParallelMergeReadException() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        List<QueryResult> queryResults = createQueryResults();
+        when(queryResults.get(1).getValue(3, Object.class)).thenThrow(SQLException.class);
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(3)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), true);
+            resultMerger.setExecutorEngine(executorEngine);
+            resultMerger.merge(queryResults, createSelectStatementContext(), database, mock(ConnectionContext.class));
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        List<QueryResult> result = new ArrayList<>(3);
+        for (int i = 0; i < 3; i++) {
+            result.add(createShardQueryResult(i, 200));
+        }
+        return result;
+    }
+    
+    private QueryResult createShardQueryResult(final int shard, final int rowCount) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger rowNumber = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> rowNumber.incrementAndGet() <= rowCount);
+        when(result.getValue(1, Object.class)).thenReturn(1);
+        when(result.getValue(2, Object.class)).thenAnswer(invocation -> shard + rowNumber.get());
+        when(result.getValue(3, Object.class)).thenAnswer(invocation -> rowNumber.get() % 50);
+        when(result.getValue(4, Object.class)).thenReturn(1);
+        when(result.getValue(5, Object.class)).thenAnswer(invocation -> shard + rowNumber.get());
+        return result;
+    }
+    
+    private List<List<Object>> getRows(final MergedResult mergedResult) throws SQLException {
+        List<List<Object>> result = new LinkedList<>();
+        while (mergedResult.next()) {
+            List<Object> row = new ArrayList<>(5);
+            for (int i = 1; i <= 5; i++) {
+                row.add(mergedResult.getValue(i, Object.class));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
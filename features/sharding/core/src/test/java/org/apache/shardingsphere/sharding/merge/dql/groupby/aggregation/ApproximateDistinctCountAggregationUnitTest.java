@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertApproximateDistinctCountAggregation() {
+        ApproximateDistinctCountAggregationUnit distinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        distinctCountAggregationUnit.merge(null);
+        distinctCountAggregationUnit.merge(Collections.singletonList(null));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList("foo"));
+        assertThat(distinctCountAggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    public void assertApproximateDistinctCountAggregationWithManyValues() {
+        ApproximateDistinctCountAggregationUnit distinctCountAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 200000; i++) {
+            distinctCountAggregationUnit.merge(Collections.singletonList("foo_" + i % 100000));
+        }
+        long actual = (Long) distinctCountAggregationUnit.getResult();
+        assertTrue(String.format("Estimated %d but exactly 100000", actual), Math.abs(actual - 100000L) < 100000L * 0.03D);
+    }
+}
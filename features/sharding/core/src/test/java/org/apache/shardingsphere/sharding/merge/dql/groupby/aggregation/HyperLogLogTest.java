@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityWithEmpty() {
+        assertThat(new HyperLogLog(14).cardinality(), is(0L));
+    }
+    
+    @Test
+    public void assertCardinalityWithSmallRange() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        for (int i = 0; i < 1000; i++) {
+            hyperLogLog.offer(i % 100);
+        }
+        assertThat(hyperLogLog.cardinality(), is(100L));
+    }
+    
+    @Test
+    public void assertCardinalityComparedWithExactDistinctCount() {
+        HyperLogLog hyperLogLog = new HyperLogLog(14);
+        Collection<Comparable<?>> exactValues = new HashSet<>();
+        for (long i = 0; i < 1000000L; i++) {
+            long value = i * 31L % 500000L;
+            hyperLogLog.offer(value);
+            exactValues.add(value);
+        }
+        assertErrorRate(hyperLogLog.cardinality(), exactValues.size());
+    }
+    
+    private void assertErrorRate(final long actual, final long expected) {
+        assertTrue(String.format("Estimated %d but exactly %d", actual, expected), Math.abs(actual - expected) < expected * 0.03D);
+    }
+}
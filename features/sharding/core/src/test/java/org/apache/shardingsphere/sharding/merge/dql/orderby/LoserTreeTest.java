@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        LoserTree<Integer> actual = new LoserTree<>(Collections.<Integer>emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+        assertThat(actual.peekIndex(), is(-1));
+    }
+    
+    @Test
+    public void assertPeekIndexWithTies() {
+        LoserTree<Integer> actual = new LoserTree<>(Arrays.asList(2, 1, 1));
+        assertThat(actual.peekIndex(), is(1));
+        actual.replaceWinner(1);
+        assertThat(actual.peekIndex(), is(1));
+        actual.replaceWinner(2);
+        assertThat(actual.peekIndex(), is(2));
+        actual.replaceWinner(null);
+        assertThat(actual.peekIndex(), is(0));
+        actual.replaceWinner(null);
+        assertThat(actual.peekIndex(), is(1));
+        actual.replaceWinner(null);
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peekIndex(), is(-1));
+    }
+    
+    @Test
+    public void assertMergeSingleSequence() {
+        assertMerge(Collections.singletonList(Arrays.asList(1, 3, 5)));
+    }
+    
+    @Test
+    public void assertMergeSequences() {
+        assertMerge(Arrays.asList(Arrays.asList(1, 4, 7), Arrays.asList(2, 2, 8), Arrays.asList(3, 9)));
+    }
+    
+    @Test
+    public void assertMergeRandomSequences() {
+        Random random = new Random(0L);
+        for (int size = 1; size <= 17; size++) {
+            List<List<Integer>> sequences = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                List<Integer> sequence = new ArrayList<>();
+                int count = 1 + random.nextInt(10);
+                for (int j = 0; j < count; j++) {
+                    sequence.add(random.nextInt(100));
+                }
+                Collections.sort(sequence);
+                sequences.add(sequence);
+            }
+            assertMerge(sequences);
+        }
+    }
+    
+    private void assertMerge(final List<List<Integer>> sequences) {
+        List<Integer> expected = new ArrayList<>();
+        List<Iterator<Integer>> iterators = new ArrayList<>(sequences.size());
+        List<Integer> heads = new ArrayList<>(sequences.size());
+        for (List<Integer> each : sequences) {
+            expected.addAll(each);
+            Iterator<Integer> iterator = each.iterator();
+            iterators.add(iterator);
+            heads.add(iterator.next());
+        }
+        Collections.sort(expected);
+        LoserTree<Integer> loserTree = new LoserTree<>(heads);
+        List<Integer> actual = new ArrayList<>(expected.size());
+        while (!loserTree.isEmpty()) {
+            int index = loserTree.peekIndex();
+            Integer winner = loserTree.peek();
+            assertThat(winner, is(heads.get(index)));
+            actual.add(winner);
+            Iterator<Integer> iterator = iterators.get(index);
+            Integer next = iterator.hasNext() ? iterator.next() : null;
+            heads.set(index, next);
+            loserTree.replaceWinner(next);
+        }
+        assertThat(actual, is(expected));
+        assertFalse(actual.isEmpty());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
@@ -34,11 +35,14 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
@@ -93,6 +97,54 @@ public final class LimitDecoratorMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithKeysetSeekOffset() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 7), new NumberLiteralLimitValueSegment(0, 0, 2)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        selectStatementContext.getPaginationContext().setKeysetPaginationContext(new KeysetPaginationContext("id", 1, false, 4L, 100L));
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult()), selectStatementContext, database,
+                mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithRowCountTerminateStreamQueryResults() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 2), new NumberLiteralLimitValueSegment(0, 0, 2)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        List<QueryResult> queryResults = Arrays.asList(mockStreamQueryResult(), mockStreamQueryResult(), mockStreamQueryResult(), mockStreamQueryResult());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        for (QueryResult each : queryResults) {
+            verify(each, never()).terminate();
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        for (QueryResult each : queryResults) {
+            verify(each).terminate();
+        }
+    }
+    
+    private QueryResult mockStreamQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.next()).thenReturn(true, true, false);
+        return result;
+    }
+    
     private QueryResult mockQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.next()).thenReturn(true, true, false);
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCDataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class KeysetPaginationContextBuilderTest {
+    
+    private static final String SQL = "SELECT * FROM t_order o WHERE o.user_id = ? ORDER BY order_id LIMIT ?, ?";
+    
+    private final List<Object> parameters = Arrays.asList(10, 1000L, 20L);
+    
+    private final DataNodeQueryExecutor queryExecutor = mock(DataNodeQueryExecutor.class);
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    private RouteContext routeContext;
+    
+    @Before
+    public void setUp() {
+        sqlRewriteContext = mock(SQLRewriteContext.class);
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        doReturn(selectStatementContext).when(sqlRewriteContext).getSqlStatementContext();
+        when(sqlRewriteContext.getDataNodeQueryExecutor()).thenReturn(Optional.of(queryExecutor));
+        when(sqlRewriteContext.getSql()).thenReturn(SQL);
+        when(sqlRewriteContext.getParameters()).thenReturn(parameters);
+        when(sqlRewriteContext.getDatabaseName()).thenReturn("foo_db");
+        ShardingSphereSchema schema = mockSchema();
+        when(sqlRewriteContext.getSchemas()).thenReturn(Collections.singletonMap("foo_db", schema));
+        routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ParameterMarkerExpressionSegment userIdParameterMarker = new ParameterMarkerExpressionSegment(42, 42, 0);
+        ColumnSegment userId = new ColumnSegment(30, 38, new IdentifierValue("user_id"));
+        selectStatement.setWhere(new WhereSegment(24, 42, new BinaryOperationExpression(30, 42, userId, userIdParameterMarker, "=", "o.user_id = ?")));
+        ParameterMarkerLimitValueSegment offset = new ParameterMarkerLimitValueSegment(68, 68, 1);
+        ParameterMarkerLimitValueSegment rowCount = new ParameterMarkerLimitValueSegment(71, 71, 2);
+        selectStatement.setLimit(new LimitSegment(62, 71, offset, rowCount));
+        selectStatement.getParameterMarkerSegments().addAll(Arrays.asList(userIdParameterMarker, offset, rowCount));
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.getPaginationContext()).thenReturn(new PaginationContext(offset, rowCount, parameters));
+        SimpleTableSegment table = new SimpleTableSegment(new TableNameSegment(14, 20, new IdentifierValue("t_order")));
+        table.setAlias(new AliasSegment(22, 22, new IdentifierValue("o")));
+        when(result.getAllTables()).thenReturn(Collections.singletonList(table));
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().isDistinctRow()).thenReturn(false);
+        OrderByItem orderByItem = new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(53, 60, new IdentifierValue("order_id")), OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        when(result.getOrderByContext()).thenReturn(new OrderByContext(Collections.singletonList(orderByItem), false));
+        when(result.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ShardingSphereSchema mockSchema() {
+        ShardingSphereSchema result = mock(ShardingSphereSchema.class);
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getPrimaryKeyColumns()).thenReturn(Collections.singletonList("order_id"));
+        when(result.containsTable("t_order")).thenReturn(true);
+        when(result.getTable("t_order")).thenReturn(table);
+        return result;
+    }
+    
+    @Test
+    public void assertBuild() throws SQLException {
+        when(queryExecutor.executeQuery(anyMap(), anyList())).thenReturn(createResults(600L, 550L), createResults(480L, 500L));
+        Optional<KeysetPaginationContext> actual = new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getKeyColumnName(), is("order_id"));
+        assertThat(actual.get().getKeyColumnIndex(), is(1));
+        assertFalse(actual.get().isDescending());
+        assertThat(actual.get().getSeekKey(), is(550L));
+        assertThat(actual.get().getSeekOffset(), is(980L));
+        Map<DataNode, String> sampleSQLs = new LinkedHashMap<>(2, 1);
+        sampleSQLs.put(new DataNode("ds_0", "t_order_0"), "SELECT order_id FROM t_order_0 o WHERE o.user_id = ? ORDER BY order_id LIMIT 1 OFFSET ?");
+        sampleSQLs.put(new DataNode("ds_1", "t_order_1"), "SELECT order_id FROM t_order_1 o WHERE o.user_id = ? ORDER BY order_id LIMIT 1 OFFSET ?");
+        verify(queryExecutor).executeQuery(sampleSQLs, Arrays.asList(10, 500L));
+        Map<DataNode, String> countSQLs = new LinkedHashMap<>(2, 1);
+        countSQLs.put(new DataNode("ds_0", "t_order_0"), "SELECT COUNT(*) FROM t_order_0 o WHERE (o.user_id = ?) AND order_id < ?");
+        countSQLs.put(new DataNode("ds_1", "t_order_1"), "SELECT COUNT(*) FROM t_order_1 o WHERE (o.user_id = ?) AND order_id < ?");
+        verify(queryExecutor).executeQuery(countSQLs, Arrays.asList(10, 550L));
+    }
+    
+    @Test
+    public void assertBuildWithOffsetLessThanMinOffset() throws SQLException {
+        assertFalse(new KeysetPaginationContextBuilder(1001L).build(sqlRewriteContext, routeContext).isPresent());
+        verify(queryExecutor, never()).executeQuery(anyMap(), anyList());
+    }
+    
+    @Test
+    public void assertBuildWithoutDataNodeQueryExecutor() throws SQLException {
+        when(sqlRewriteContext.getDataNodeQueryExecutor()).thenReturn(Optional.empty());
+        assertFalse(new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext).isPresent());
+        verify(queryExecutor, never()).executeQuery(anyMap(), anyList());
+    }
+    
+    @Test
+    public void assertBuildWithoutSampledKey() throws SQLException {
+        when(queryExecutor.executeQuery(anyMap(), anyList())).thenReturn(createResults(null, null));
+        assertFalse(new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithNonIntegralKey() throws SQLException {
+        when(queryExecutor.executeQuery(anyMap(), anyList())).thenReturn(createResults("600", "550"));
+        assertFalse(new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWithQueryFailure() throws SQLException {
+        when(queryExecutor.executeQuery(anyMap(), anyList())).thenThrow(SQLException.class);
+        assertFalse(new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext).isPresent());
+    }
+    
+    @Test
+    public void assertSeekPageEqualsOffsetPage() throws SQLException {
+        Map<String, Connection> connections = createConnections();
+        ExecutorJDBCConnectionManager connectionManager = mock(ExecutorJDBCConnectionManager.class);
+        for (Entry<String, Connection> entry : connections.entrySet()) {
+            when(connectionManager.getConnections(entry.getKey(), 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(entry.getValue()));
+        }
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2)) {
+            when(sqlRewriteContext.getDataNodeQueryExecutor()).thenReturn(Optional.of(new JDBCDataNodeQueryExecutor(executorEngine, connectionManager)));
+            Optional<KeysetPaginationContext> actual = new KeysetPaginationContextBuilder(1000L).build(sqlRewriteContext, routeContext);
+            assertTrue(actual.isPresent());
+            assertTrue(actual.get().getSeekOffset() <= 1000L);
+            List<Long> seekRows = new ArrayList<>();
+            seekRows.addAll(queryKeys(connections.get("ds_0"), "SELECT order_id FROM t_order_0 WHERE user_id = ? AND order_id >= ? ORDER BY order_id LIMIT ?",
+                    10, actual.get().getSeekKey(), 1020L - actual.get().getSeekOffset()));
+            seekRows.addAll(queryKeys(connections.get("ds_1"), "SELECT order_id FROM t_order_1 WHERE user_id = ? AND order_id >= ? ORDER BY order_id LIMIT ?",
+                    10, actual.get().getSeekKey(), 1020L - actual.get().getSeekOffset()));
+            List<Long> offsetRows = new ArrayList<>();
+            offsetRows.addAll(queryKeys(connections.get("ds_0"), "SELECT order_id FROM t_order_0 WHERE user_id = ? ORDER BY order_id LIMIT ?", 10, 1020L));
+            offsetRows.addAll(queryKeys(connections.get("ds_1"), "SELECT order_id FROM t_order_1 WHERE user_id = ? ORDER BY order_id LIMIT ?", 10, 1020L));
+            assertThat(getPage(seekRows, 1000L - actual.get().getSeekOffset()), is(getPage(offsetRows, 1000L)));
+        } finally {
+            for (Connection each : connections.values()) {
+                each.close();
+            }
+        }
+    }
+    
+    private Map<DataNode, Object> createResults(final Object value0, final Object value1) {
+        Map<DataNode, Object> result = new LinkedHashMap<>(2, 1);
+        result.put(new DataNode("ds_0", "t_order_0"), value0);
+        result.put(new DataNode("ds_1", "t_order_1"), value1);
+        return result;
+    }
+    
+    private Map<String, Connection> createConnections() throws SQLException {
+        Map<String, Connection> result = new LinkedHashMap<>(2, 1);
+        result.put("ds_0", createConnection("keyset_ds_0", "t_order_0", 2L, 0L));
+        result.put("ds_1", createConnection("keyset_ds_1", "t_order_1", 6L, 1L));
+        return result;
+    }
+    
+    private Connection createConnection(final String databaseName, final String tableName, final long keyStep, final long keyOffset) throws SQLException {
+        Connection result = DriverManager.getConnection(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=0;MODE=MySQL", databaseName), "sa", "");
+        try (Statement statement = result.createStatement()) {
+            statement.execute(String.format("CREATE TABLE %s (order_id BIGINT PRIMARY KEY, user_id INT)", tableName));
+        }
+        try (PreparedStatement preparedStatement = result.prepareStatement(String.format("INSERT INTO %s VALUES (?, ?)", tableName))) {
+            for (long i = 1L; i <= 2000L; i++) {
+                preparedStatement.setLong(1, i * keyStep + keyOffset);
+                preparedStatement.setInt(2, 0 == i % 4 ? 11 : 10);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        return result;
+    }
+    
+    private List<Long> queryKeys(final Connection connection, final String sql, final Object... parameters) throws SQLException {
+        List<Long> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<Long> getPage(final List<Long> rows, final long skippedRowsCount) {
+        return rows.stream().sorted().skip(skippedRowsCount).limit(20L).collect(Collectors.toList());
+    }
+}
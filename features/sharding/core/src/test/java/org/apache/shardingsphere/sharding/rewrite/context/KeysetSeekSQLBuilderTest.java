@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.context;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class KeysetSeekSQLBuilderTest {
+    
+    @Test
+    public void assertBuildSampleSQLWithWhere() {
+        KeysetSeekSQLBuilder builder = new KeysetSeekSQLBuilder(createTable(), "order_id", false, "o.user_id = ?");
+        assertThat(builder.buildSampleSQL("t_order_0"), is("SELECT order_id FROM t_order_0 o WHERE o.user_id = ? ORDER BY order_id LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildSampleSQLWithoutWhere() {
+        KeysetSeekSQLBuilder builder = new KeysetSeekSQLBuilder(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("`t_order`"))), "order_id", true, null);
+        assertThat(builder.buildSampleSQL("t_order_0"), is("SELECT order_id FROM `t_order_0` `t_order` ORDER BY order_id DESC LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    public void assertBuildCountSQLWithWhere() {
+        KeysetSeekSQLBuilder builder = new KeysetSeekSQLBuilder(createTable(), "order_id", false, "o.user_id = ? OR o.status = ?");
+        assertThat(builder.buildCountSQL("t_order_0"), is("SELECT COUNT(*) FROM t_order_0 o WHERE (o.user_id = ? OR o.status = ?) AND order_id < ?"));
+    }
+    
+    @Test
+    public void assertBuildCountSQLWithoutWhere() {
+        KeysetSeekSQLBuilder builder = new KeysetSeekSQLBuilder(createTable(), "order_id", true, null);
+        assertThat(builder.buildCountSQL("t_order_0"), is("SELECT COUNT(*) FROM t_order_0 o WHERE order_id > ?"));
+    }
+    
+    private SimpleTableSegment createTable() {
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order")));
+        result.setAlias(new AliasSegment(0, 0, new IdentifierValue("o")));
+        return result;
+    }
+}
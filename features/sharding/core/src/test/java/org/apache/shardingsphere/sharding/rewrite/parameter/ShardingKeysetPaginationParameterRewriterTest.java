@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingKeysetPaginationParameterRewriter;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingKeysetPaginationParameterRewriterTest {
+    
+    @Test
+    public void assertIsNeedRewrite() {
+        ShardingKeysetPaginationParameterRewriter rewriter = new ShardingKeysetPaginationParameterRewriter();
+        assertFalse(rewriter.isNeedRewrite(mock(InsertStatementContext.class)));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.empty());
+        assertFalse(rewriter.isNeedRewrite(selectStatementContext));
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("id", 1, false, 10L, 100L)));
+        assertTrue(rewriter.isNeedRewrite(selectStatementContext));
+    }
+    
+    @Test
+    public void assertRewriteWithWhere() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ParameterMarkerExpressionSegment userId = new ParameterMarkerExpressionSegment(42, 42, 0);
+        selectStatement.setWhere(new WhereSegment(24, 42, new BinaryOperationExpression(30, 42, new ColumnSegment(30, 38, new IdentifierValue("user_id")), userId, "=", "o.user_id = ?")));
+        selectStatement.getParameterMarkerSegments().add(userId);
+        List<Object> parameters = Arrays.asList(10, 1000L, 20L);
+        StandardParameterBuilder parameterBuilder = new StandardParameterBuilder(parameters);
+        new ShardingKeysetPaginationParameterRewriter().rewrite(parameterBuilder, mockSelectStatementContext(selectStatement), parameters);
+        assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(10, 550L, 1000L, 20L)));
+    }
+    
+    @Test
+    public void assertRewriteWithoutWhere() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ParameterMarkerLimitValueSegment offset = new ParameterMarkerLimitValueSegment(44, 44, 0);
+        ParameterMarkerLimitValueSegment rowCount = new ParameterMarkerLimitValueSegment(47, 47, 1);
+        selectStatement.setLimit(new LimitSegment(38, 47, offset, rowCount));
+        selectStatement.getParameterMarkerSegments().addAll(Arrays.asList(offset, rowCount));
+        List<Object> parameters = Arrays.asList(1000L, 20L);
+        StandardParameterBuilder parameterBuilder = new StandardParameterBuilder(parameters);
+        new ShardingKeysetPaginationParameterRewriter().rewrite(parameterBuilder, mockSelectStatementContext(selectStatement), parameters);
+        assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(550L, 1000L, 20L)));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext(final MySQLSelectStatement selectStatement) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("order_id", 1, false, 980L, 550L)));
+        return result;
+    }
+}
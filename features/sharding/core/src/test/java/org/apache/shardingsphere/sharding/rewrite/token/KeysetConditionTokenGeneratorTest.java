@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.KeysetPaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.KeysetConditionTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.KeysetConditionToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class KeysetConditionTokenGeneratorTest {
+    
+    @Test
+    public void assertIsGenerateSQLToken() {
+        KeysetConditionTokenGenerator generator = new KeysetConditionTokenGenerator();
+        assertFalse(generator.isGenerateSQLToken(mock(InsertStatementContext.class)));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.empty());
+        assertFalse(generator.isGenerateSQLToken(selectStatementContext));
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("id", 1, false, 10L, 100L)));
+        assertTrue(generator.isGenerateSQLToken(selectStatementContext));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithWhere() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("id", 1, true, 10L, 100L)));
+        ExpressionSegment expr = mock(ExpressionSegment.class);
+        when(expr.getStartIndex()).thenReturn(20);
+        when(expr.getStopIndex()).thenReturn(30);
+        when(selectStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.of(new WhereSegment(14, 30, expr)));
+        KeysetConditionTokenGenerator generator = new KeysetConditionTokenGenerator();
+        generator.setParameters(Collections.emptyList());
+        List<KeysetConditionToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getStartIndex(), is(20));
+        assertThat(actual.get(0).toString(), is("("));
+        assertThat(actual.get(1).getStartIndex(), is(31));
+        assertThat(actual.get(1).toString(), is(") AND id <= 100"));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithoutWhere() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("id", 1, false, 10L, 100L)));
+        when(selectStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.empty());
+        when(selectStatementContext.getSqlStatement().getOrderBy()).thenReturn(Optional.of(new OrderBySegment(20, 30, Collections.emptyList())));
+        KeysetConditionTokenGenerator generator = new KeysetConditionTokenGenerator();
+        generator.setParameters(Collections.emptyList());
+        List<KeysetConditionToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStartIndex(), is(20));
+        assertThat(actual.get(0).toString(), is("WHERE id >= 100 "));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithParameters() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getKeysetPaginationContext()).thenReturn(Optional.of(new KeysetPaginationContext("id", 1, false, 10L, 100L)));
+        when(selectStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.empty());
+        when(selectStatementContext.getSqlStatement().getOrderBy()).thenReturn(Optional.of(new OrderBySegment(20, 30, Collections.emptyList())));
+        KeysetConditionTokenGenerator generator = new KeysetConditionTokenGenerator();
+        generator.setParameters(Collections.singletonList(10L));
+        List<KeysetConditionToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).toString(), is("WHERE id >= ? "));
+    }
+}
@@ -63,6 +63,7 @@ public final class ShowMigrationJobStatusQueryResultSet implements DatabaseDistS
                     incrementalIdleSeconds = String.valueOf(TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis - latestActiveTimeMillis));
                 }
                 result.add(incrementalIdleSeconds);
+                result.add(null == each.getRateLimitStatus() ? "" : each.getRateLimitStatus());
             } else {
                 result.add("");
                 result.add("");
@@ -70,6 +71,7 @@ public final class ShowMigrationJobStatusQueryResultSet implements DatabaseDistS
                 result.add("");
                 result.add("");
                 result.add("");
+                result.add("");
             }
             result.add(each.getErrorMessage());
             return result;
@@ -78,7 +80,7 @@ public final class ShowMigrationJobStatusQueryResultSet implements DatabaseDistS
     
     @Override
     public Collection<String> getColumnNames() {
-        return Arrays.asList("item", "data_source", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds", "error_message");
+        return Arrays.asList("item", "data_source", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds", "rate_limit_status", "error_message");
     }
     
     @Override
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.segment.select.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset pagination context.
+ * 
+ * <p>Seek key is a key of order by column found for the query, and seek offset is the count of rows before it,
+ * each data node only returns rows from the seek key on instead of rows from the very beginning.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class KeysetPaginationContext {
+    
+    private final String keyColumnName;
+    
+    private final int keyColumnIndex;
+    
+    private final boolean descending;
+    
+    private final long seekOffset;
+    
+    private final Comparable<?> seekKey;
+}
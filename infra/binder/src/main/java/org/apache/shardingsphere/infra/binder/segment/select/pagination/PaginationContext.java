@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.segment.select.pagination;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
@@ -43,6 +44,9 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    @Setter
+    private KeysetPaginationContext keysetPaginationContext;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -121,6 +125,15 @@ public final class PaginationContext {
                 : Optional.empty();
     }
     
+    /**
+     * Get keyset pagination context.
+     * 
+     * @return keyset pagination context
+     */
+    public Optional<KeysetPaginationContext> getKeysetPaginationContext() {
+        return Optional.ofNullable(keysetPaginationContext);
+    }
+    
     /**
      * Get revised offset.
      *
@@ -140,7 +153,10 @@ public final class PaginationContext {
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
-        return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
+        if (!(rowCountSegment instanceof LimitValueSegment)) {
+            return actualRowCount;
+        }
+        return null == keysetPaginationContext ? actualOffset + actualRowCount : actualOffset - keysetPaginationContext.getSeekOffset() + actualRowCount;
     }
     
     private boolean isMaxRowCount(final SelectStatementContext selectStatementContext) {
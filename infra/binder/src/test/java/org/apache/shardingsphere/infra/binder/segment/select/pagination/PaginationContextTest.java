@@ -166,6 +166,17 @@ public final class PaginationContextTest {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedRowCount(selectStatementContext), is(50L));
     }
     
+    @Test
+    public void assertGetRevisedRowCountWithKeysetSeekKey() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(databases, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.setKeysetPaginationContext(new KeysetPaginationContext("id", 1, false, 25L, 100L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(25L));
+    }
+    
     @Test
     public void getRevisedRowCountWithMaxForMySQL() {
         getRevisedRowCountWithMax(new MySQLSelectStatement());
@@ -52,16 +52,73 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether adjust connections size of each query with observed result size, connection acquisition latency and execution latency.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Smoothed result rows of data source from which results are streamed with one connection per SQL unit in adaptive connection mode.
+     */
+    ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS("adaptive-connection-mode-large-result-rows", String.valueOf(10000L), long.class, false),
+    
+    /**
+     * Smoothed execution millis of data source from which connections are not shared when connection pool is busy in adaptive connection mode.
+     */
+    ADAPTIVE_CONNECTION_MODE_SLOW_EXECUTION_MILLIS("adaptive-connection-mode-slow-execution-millis", String.valueOf(100L), long.class, false),
+    
+    /**
+     * Smoothed millis of acquiring one connection from which connection pool of data source is busy in adaptive connection mode.
+     */
+    ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS("adaptive-connection-mode-busy-connection-acquisition-millis", String.valueOf(10L), long.class, false),
+    
+    /**
+     * Weight percent of the latest observation when smoothing statistics in adaptive connection mode.
+     */
+    ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT("adaptive-connection-mode-smoothing-percent", String.valueOf(20), int.class, false),
+    
+    /**
+     * Add batch times of each data node to flush batch asynchronously before execute batch, 0 means disable.
+     */
+    BATCH_FLUSH_THRESHOLD("batch-flush-threshold", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether seek by key found with sampling and counting of data nodes for deep pagination ordered by unique key across data nodes.
+     */
+    KEYSET_PAGINATION_ENABLED("keyset-pagination-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Min offset of deep pagination to seek by key, pagination of less offset is not sought by key.
+     */
+    KEYSET_PAGINATION_MIN_OFFSET("keyset-pagination-min-offset", String.valueOf(10000L), long.class, false),
+    
+    /**
+     * Whether read query results of data nodes in parallel when merging group by or distinct in memory.
+     */
+    PARALLEL_MERGE_ENABLED("parallel-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Query fetch size of statements for ShardingSphere-JDBC in memory strictly connection mode.
+     * The default value is -1, which means use the default fetch size of JDBC drivers.
+     * PostgreSQL and openGauss drivers only fetch by cursor with auto commit disabled, MySQL driver requires useCursorFetch=true.
+     */
+    JDBC_QUERY_FETCH_SIZE("jdbc-query-fetch-size", String.valueOf(-1), int.class, false),
+    
     /**
      * SQL federation type.
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Directory of SQL corpus files named by database type (such as MySQL.sql), which are parsed when startup to warm up SQL parser.
+     */
+    SQL_PARSER_WARM_UP_CORPUS_PATH("sql-parser-warm-up-corpus-path", "", String.class, true),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -72,6 +129,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Low water mark in bytes of pending write buffer of each client connection for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK("proxy-frontend-write-buffer-low-water-mark", String.valueOf(8 * 1024 * 1024), int.class, true),
+    
+    /**
+     * High water mark in bytes of pending write buffer of each client connection for ShardingSphere-Proxy.
+     * Reading query results from databases is paused when pending bytes exceed it, until pending bytes drop below low water mark.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(16 * 1024 * 1024), int.class, true),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -83,6 +151,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether proxy backend prepares SQLs executed by prepared statements on server side from the first execution, SQLs of text protocol without parameters are not affected.
+     */
+    PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED("proxy-backend-server-prepared-statement-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether proxy backend keeps session variables on connections returned to pool, and replays them only when the next borrower requires different ones.
+     */
+    PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED("proxy-backend-lazy-reset-session-variables-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
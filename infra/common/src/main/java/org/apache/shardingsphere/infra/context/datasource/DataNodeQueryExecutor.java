@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.datasource;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data node query executor.
+ */
+public interface DataNodeQueryExecutor {
+    
+    /**
+     * Execute query on data nodes with connections of current connection.
+     *
+     * @param sqls SQLs of data nodes
+     * @param parameters parameters of each SQL
+     * @return value of first column of first row of each data node, null if no row returned
+     * @throws SQLException SQL exception
+     */
+    Map<DataNode, Object> executeQuery(Map<DataNode, String> sqls, List<Object> parameters) throws SQLException;
+}
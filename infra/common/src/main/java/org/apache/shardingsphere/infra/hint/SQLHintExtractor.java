@@ -85,6 +85,15 @@ public final class SQLHintExtractor {
         return sqlHintProperties.getValue(SQLHintPropertiesKey.SHADOW_KEY);
     }
     
+    /**
+     * Judge whether hint merge distinct count approximately or not.
+     *
+     * @return whether hint merge distinct count approximately or not
+     */
+    public boolean isApproximateDistinctCountMerge() {
+        return sqlHintProperties.getValue(SQLHintPropertiesKey.APPROXIMATE_DISTINCT_COUNT_MERGE_KEY);
+    }
+    
     /**
      * Find hint disable audit names.
      *
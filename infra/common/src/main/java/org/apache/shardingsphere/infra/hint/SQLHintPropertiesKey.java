@@ -61,7 +61,12 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
     /**
      * Whether to use shadow or not.
      */
-    SHADOW_KEY("SHADOW", String.valueOf(Boolean.FALSE), boolean.class);
+    SHADOW_KEY("SHADOW", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether to merge distinct count approximately or not.
+     */
+    APPROXIMATE_DISTINCT_COUNT_MERGE_KEY("APPROXIMATE_DISTINCT_COUNT_MERGE", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.config.props;
 
+import org.apache.shardingsphere.infra.util.props.exception.TypedPropertiesServerException;
 import org.junit.Test;
 
 import java.util.Properties;
@@ -35,12 +36,27 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS), is(500L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SLOW_EXECUTION_MILLIS), is(50L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS), is(5L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT), is(50));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_FLUSH_THRESHOLD), is(1000));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_MIN_OFFSET), is(100L));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PARALLEL_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.JDBC_QUERY_FETCH_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_CORPUS_PATH), is("/opt/sql-corpus"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK), is(2048));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLTP));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
@@ -56,12 +72,27 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS.getKey(), "500");
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SLOW_EXECUTION_MILLIS.getKey(), "50");
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS.getKey(), "5");
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT.getKey(), "50");
+        result.setProperty(ConfigurationPropertyKey.BATCH_FLUSH_THRESHOLD.getKey(), "1000");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.KEYSET_PAGINATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.KEYSET_PAGINATION_MIN_OFFSET.getKey(), "100");
+        result.setProperty(ConfigurationPropertyKey.PARALLEL_MERGE_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.JDBC_QUERY_FETCH_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL");
+        result.setProperty(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_CORPUS_PATH.getKey(), "/opt/sql-corpus");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "1024");
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), "2048");
         result.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE.getKey(), BackendExecutorType.OLTP.name());
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20");
@@ -79,12 +110,27 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS), is(10000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SLOW_EXECUTION_MILLIS), is(100L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS), is(10L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_FLUSH_THRESHOLD), is(0));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KEYSET_PAGINATION_MIN_OFFSET), is(10000L));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PARALLEL_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.JDBC_QUERY_FETCH_SIZE), is(-1));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_CORPUS_PATH), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK), is(8 * 1024 * 1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK), is(16 * 1024 * 1024));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE), is(BackendExecutorType.OLAP));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
@@ -93,4 +139,12 @@ public final class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
     }
+    
+    @Test(expected = TypedPropertiesServerException.class)
+    public void assertNewWithWriteBufferLowWaterMarkNotLessThanHighWaterMark() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "2048");
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), "2048");
+        new ConfigurationProperties(props);
+    }
 }
@@ -48,6 +48,13 @@ public final class SQLHintExtractorTest {
         assertTrue(new SQLHintExtractor(statement).isHintSkipEncryptRewrite());
     }
     
+    @Test
+    public void assertSQLHintApproximateDistinctCountMerge() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        when(statement.getCommentSegments()).thenReturn(Collections.singletonList(new CommentSegment("/* SHARDINGSPHERE_HINT: APPROXIMATE_DISTINCT_COUNT_MERGE=true */", 0, 0)));
+        assertTrue(new SQLHintExtractor(statement).isApproximateDistinctCountMerge());
+    }
+    
     @Test
     public void assertSQLHintDisableAuditNames() {
         AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
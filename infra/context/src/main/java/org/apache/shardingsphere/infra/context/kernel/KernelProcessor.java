@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
@@ -48,8 +49,24 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        return generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext, null);
+    }
+    
+    /**
+     * Generate execution context.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param dataNodeQueryExecutor data node query executor for queries issued while rewriting, null if not supported by caller
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext, final DataNodeQueryExecutor dataNodeQueryExecutor) {
         RouteContext routeContext = route(queryContext, database, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext, dataNodeQueryExecutor);
         ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
         logSQL(queryContext, props, result);
         return result;
@@ -60,9 +77,10 @@ public final class KernelProcessor {
     }
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
-                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
+                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext,
+                                     final DataNodeQueryExecutor dataNodeQueryExecutor) {
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext, dataNodeQueryExecutor);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
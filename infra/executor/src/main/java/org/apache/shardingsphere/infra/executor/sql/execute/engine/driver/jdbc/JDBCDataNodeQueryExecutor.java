@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * JDBC data node query executor.
+ * 
+ * <p>Queries of each data source are executed serially with one connection of the connection manager, and queries of different data sources are executed in parallel.</p>
+ */
+@RequiredArgsConstructor
+public final class JDBCDataNodeQueryExecutor implements DataNodeQueryExecutor {
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final ExecutorJDBCConnectionManager connectionManager;
+    
+    @Override
+    public Map<DataNode, Object> executeQuery(final Map<DataNode, String> sqls, final List<Object> parameters) throws SQLException {
+        Map<String, List<DataNode>> dataNodeGroups = new LinkedHashMap<>();
+        for (DataNode each : sqls.keySet()) {
+            dataNodeGroups.computeIfAbsent(each.getDataSourceName(), unused -> new LinkedList<>()).add(each);
+        }
+        Map<String, Connection> connections = new LinkedHashMap<>(dataNodeGroups.size(), 1);
+        Collection<ExecutionGroup<DataNode>> inputGroups = new ArrayList<>(dataNodeGroups.size());
+        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+            connections.put(entry.getKey(), connectionManager.getConnections(entry.getKey(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0));
+            inputGroups.add(new ExecutionGroup<>(entry.getValue()));
+        }
+        List<Entry<DataNode, Object>> results = executorEngine.execute(new ExecutionGroupContext<>(inputGroups), (inputs, isTrunkThread, dataMap) -> {
+            Collection<Entry<DataNode, Object>> result = new LinkedList<>();
+            for (DataNode each : inputs) {
+                result.add(new SimpleEntry<>(each, executeQuery(connections.get(each.getDataSourceName()), sqls.get(each), parameters)));
+            }
+            return result;
+        });
+        Map<DataNode, Object> result = new LinkedHashMap<>(results.size(), 1);
+        for (Entry<DataNode, Object> each : results) {
+            result.put(each.getKey(), each.getValue());
+        }
+        return result;
+    }
+    
+    private Object executeQuery(final Connection connection, final String sql, final List<Object> parameters) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 0;
+            for (Object each : parameters) {
+                preparedStatement.setObject(++parameterIndex, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getObject(1) : null;
+            }
+        }
+    }
+}
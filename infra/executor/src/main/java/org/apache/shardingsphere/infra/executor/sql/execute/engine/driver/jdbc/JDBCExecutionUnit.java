@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 
 import java.sql.Statement;
 
@@ -37,4 +38,10 @@ public final class JDBCExecutionUnit implements DriverExecutionUnit<Statement> {
     private final ConnectionMode connectionMode;
     
     private final Statement storageResource;
+    
+    private final AdaptiveConnectionModeSelector adaptiveConnectionModeSelector;
+    
+    public JDBCExecutionUnit(final ExecutionUnit executionUnit, final ConnectionMode connectionMode, final Statement storageResource) {
+        this(executionUnit, connectionMode, storageResource, null);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -30,6 +31,7 @@ import java.util.List;
  * JDBC executor.
  */
 @RequiredArgsConstructor
+@Getter
 public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
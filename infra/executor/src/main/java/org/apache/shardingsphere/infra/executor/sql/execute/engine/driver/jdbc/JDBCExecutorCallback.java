@@ -25,8 +25,11 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
@@ -87,7 +90,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
+            long startTime = System.currentTimeMillis();
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            recordAdaptiveConnectionModeStatistics(jdbcExecutionUnit, System.currentTimeMillis() - startTime, result);
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
@@ -114,6 +119,20 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         return result;
     }
     
+    private void recordAdaptiveConnectionModeStatistics(final JDBCExecutionUnit jdbcExecutionUnit, final long elapsedMillis, final T result) {
+        AdaptiveConnectionModeSelector selector = jdbcExecutionUnit.getAdaptiveConnectionModeSelector();
+        String dataSourceName = jdbcExecutionUnit.getExecutionUnit().getDataSourceName();
+        if (null == selector || !selector.isObserved(dataSourceName)) {
+            return;
+        }
+        selector.recordExecution(dataSourceName, elapsedMillis);
+        if (result instanceof AbstractMemoryQueryResult) {
+            selector.recordResultRows(dataSourceName, ((AbstractMemoryQueryResult) result).getRowCount());
+        } else if (result instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) result).setRowCountListener(rows -> selector.recordResultRows(dataSourceName, rows));
+        }
+    }
+    
     private void finishReport(final Map<String, Object> dataMap, final SQLExecutionUnit executionUnit) {
         if (dataMap.containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
             ExecuteProcessEngine.finishExecution(dataMap.get(ExecuteProcessConstants.EXECUTE_ID.name()).toString(), executionUnit, eventBusContext);
@@ -82,6 +82,14 @@ public interface QueryResult extends ExecuteResult {
      */
     QueryResultMetaData getMetaData();
     
+    /**
+     * Terminate query result before all rows are read, to release resources of the rest rows early.
+     *
+     * @throws SQLException SQL exception
+     */
+    default void terminate() throws SQLException {
+    }
+    
     /**
      * Close.
      *
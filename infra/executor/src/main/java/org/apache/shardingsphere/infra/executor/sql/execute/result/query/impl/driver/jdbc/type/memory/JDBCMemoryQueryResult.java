@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ColumnarMemoryQueryResultDataRows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectQueryResultDataRowLoaderFactory;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 
@@ -30,7 +31,29 @@ import java.sql.SQLException;
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
+    private final ColumnarMemoryQueryResultDataRows rows;
+    
+    private int rowIndex = -1;
+    
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), DialectQueryResultDataRowLoaderFactory.getInstance(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), DialectQueryResultDataRowLoaderFactory.getInstance(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+    }
+    
+    private JDBCMemoryQueryResult(final JDBCQueryResultMetaData metaData, final ColumnarMemoryQueryResultDataRows rows) {
+        super(metaData, rows.getRowCount());
+        this.rows = rows;
+    }
+    
+    @Override
+    protected boolean nextRow() {
+        if (rowIndex < rows.getRowCount()) {
+            rowIndex++;
+        }
+        return rowIndex < rows.getRowCount();
+    }
+    
+    @Override
+    protected Object getRowValue(final int columnIndex, final Class<?> type) {
+        return rows.getValue(rowIndex, columnIndex, type);
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.Getter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Column vector, which stores values of a column in memory.
+ */
+public abstract class ColumnVector {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int capacity;
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Load value of current row from result set and append it.
+     * 
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    public abstract void load(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    /**
+     * Finish loading, resources only used for loading are released and no more value can be loaded.
+     */
+    public void finishLoad() {
+    }
+    
+    /**
+     * Append null.
+     */
+    public final void appendNull() {
+        nulls.set(nextIndex());
+    }
+    
+    protected final int nextIndex() {
+        if (size == capacity) {
+            capacity = 0 == capacity ? INITIAL_CAPACITY : capacity << 1;
+            grow(capacity);
+        }
+        return size++;
+    }
+    
+    protected abstract void grow(int newCapacity);
+    
+    /**
+     * Get value as type.
+     * 
+     * <p>Primitive values are widened to the requested number type directly, other values are returned as stored and converted by caller.</p>
+     * 
+     * @param index index of row
+     * @param type class type of value
+     * @return value
+     */
+    public final Object get(final int index, final Class<?> type) {
+        return nulls.get(index) ? null : getNotNull(index, type);
+    }
+    
+    protected abstract Object getNotNull(int index, Class<?> type);
+}
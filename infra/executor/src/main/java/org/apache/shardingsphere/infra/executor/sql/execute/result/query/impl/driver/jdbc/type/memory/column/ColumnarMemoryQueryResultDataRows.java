@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Memory query result data rows stored by columns.
+ * 
+ * <p>Rows are addressed by index, so reading them allocates neither row objects nor value lists.</p>
+ */
+@RequiredArgsConstructor
+public final class ColumnarMemoryQueryResultDataRows {
+    
+    private final List<ColumnVector> columns;
+    
+    @Getter
+    private int rowCount;
+    
+    /**
+     * Add row whose values are appended to every column.
+     */
+    public void addRow() {
+        rowCount++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex index of row
+     * @param columnIndex column index, starts from 1
+     * @param type class type of value
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex, final Class<?> type) {
+        return columns.get(columnIndex - 1).get(rowIndex, type);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Int column vector.
+ */
+public final class IntColumnVector extends ColumnVector {
+    
+    private int[] values = new int[0];
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        int value = resultSet.getInt(columnIndex);
+        if (resultSet.wasNull()) {
+            appendNull();
+            return;
+        }
+        int index = nextIndex();
+        values[index] = value;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        values = Arrays.copyOf(values, newCapacity);
+    }
+    
+    @Override
+    protected Object getNotNull(final int index, final Class<?> type) {
+        int value = values[index];
+        if (long.class == type || Long.class == type) {
+            return (long) value;
+        }
+        if (double.class == type || Double.class == type) {
+            return (double) value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String column vector.
+ * 
+ * <p>Strings are dictionary encoded until the size of dictionary exceeds the limit, then they are stored directly.</p>
+ */
+public final class StringColumnVector extends ColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private List<String> dictionary = new ArrayList<>();
+    
+    private int[] codes = new int[0];
+    
+    private String[] values;
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (null == value || resultSet.wasNull()) {
+            appendNull();
+            return;
+        }
+        int index = nextIndex();
+        if (null != values) {
+            values[index] = value;
+            return;
+        }
+        Integer code = dictionaryCodes.get(value);
+        if (null == code) {
+            if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                decodeDictionary();
+                values[index] = value;
+                return;
+            }
+            code = dictionary.size();
+            dictionary.add(value);
+            dictionaryCodes.put(value, code);
+        }
+        codes[index] = code;
+    }
+    
+    @Override
+    public void finishLoad() {
+        dictionaryCodes = null;
+    }
+    
+    private void decodeDictionary() {
+        values = new String[codes.length];
+        for (int i = 0; i < getSize() - 1; i++) {
+            values[i] = dictionary.get(codes[i]);
+        }
+        codes = null;
+        dictionary = null;
+        dictionaryCodes = null;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        if (null == values) {
+            codes = Arrays.copyOf(codes, newCapacity);
+        } else {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+    
+    @Override
+    protected Object getNotNull(final int index, final Class<?> type) {
+        return null == values ? dictionary.get(codes[index]) : values[index];
+    }
+}
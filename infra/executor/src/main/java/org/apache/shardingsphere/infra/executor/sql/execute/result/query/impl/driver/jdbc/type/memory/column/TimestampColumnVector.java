@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Timestamp column vector, which stores milliseconds and nanoseconds of timestamps.
+ */
+public final class TimestampColumnVector extends ColumnVector {
+    
+    private long[] milliseconds = new long[0];
+    
+    private int[] nanoseconds = new int[0];
+    
+    @Override
+    public void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        Timestamp value = resultSet.getTimestamp(columnIndex);
+        if (null == value || resultSet.wasNull()) {
+            appendNull();
+            return;
+        }
+        int index = nextIndex();
+        milliseconds[index] = value.getTime();
+        nanoseconds[index] = value.getNanos();
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        milliseconds = Arrays.copyOf(milliseconds, newCapacity);
+        nanoseconds = Arrays.copyOf(nanoseconds, newCapacity);
+    }
+    
+    @Override
+    protected Object getNotNull(final int index, final Class<?> type) {
+        Timestamp result = new Timestamp(milliseconds[index]);
+        result.setNanos(nanoseconds[index]);
+        return result;
+    }
+}
@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ColumnarMemoryQueryResultDataRows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.StringColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.TimestampColumnVector;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -25,29 +32,59 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Abstract dialect query result data row loader.
+ * 
+ * <p>Rows are stored by columns, values of integral, floating point, string and timestamp columns are stored without boxing.</p>
  */
 public abstract class AbstractQueryResultDataRowLoader implements DialectQueryResultDataRowLoader {
     
     @Override
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public ColumnarMemoryQueryResultDataRows load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        List<ColumnVector> columns = createColumnVectors(columnCount, resultSet.getMetaData());
+        ColumnarMemoryQueryResultDataRows result = new ColumnarMemoryQueryResultDataRows(columns);
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                columns.get(columnIndex - 1).load(resultSet, columnIndex);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.addRow();
+        }
+        for (ColumnVector each : columns) {
+            each.finishLoad();
+        }
+        return result;
+    }
+    
+    private List<ColumnVector> createColumnVectors(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        List<ColumnVector> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(createColumnVector(metaData, columnIndex));
         }
         return result;
     }
     
+    private ColumnVector createColumnVector(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntColumnVector() : new LongColumnVector();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongColumnVector() : new ObjectColumnVector(this::loadRowValue);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumnVector();
+            case Types.TIMESTAMP:
+                return new TimestampColumnVector();
+            default:
+                return new ObjectColumnVector(this::loadRowValue);
+        }
+    }
+    
     @SuppressWarnings("ReturnOfNull")
     private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
@@ -17,14 +17,13 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column.ColumnarMemoryQueryResultDataRows;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
 
 /**
  * Dialect query result data row loader.
@@ -40,5 +39,5 @@ public interface DialectQueryResultDataRowLoader extends TypedSPI, RequiredSPI {
      * @return query result data rows
      * @throws SQLException SQL exception
      */
-    Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    ColumnarMemoryQueryResultDataRows load(int columnCount, ResultSet resultSet) throws SQLException;
 }
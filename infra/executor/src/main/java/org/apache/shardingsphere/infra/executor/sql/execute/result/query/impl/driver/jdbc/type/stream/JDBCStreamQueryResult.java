@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.exception.UnsupportedDataTypeConversionException;
 import org.apache.shardingsphere.infra.executor.exception.UnsupportedStreamCharsetConversionException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
@@ -31,9 +32,11 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
@@ -43,6 +46,13 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    private long rowCount;
+    
+    private boolean exhausted;
+    
+    @Setter
+    private LongConsumer rowCountListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -50,7 +60,20 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            rowCount++;
+            return true;
+        }
+        exhausted = true;
+        notifyRowCount();
+        return false;
+    }
+    
+    private void notifyRowCount() {
+        if (null != rowCountListener) {
+            rowCountListener.accept(rowCount);
+            rowCountListener = null;
+        }
     }
     
     @Override
@@ -142,6 +165,38 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public void close() throws SQLException {
+        notifyRowCount();
         resultSet.close();
     }
+    
+    /**
+     * Terminate query result before all rows are read.
+     * 
+     * <p>Statement is cancelled before result set is closed only if rows are streaming by fetch size and connection is in auto commit,
+     * so that the rest rows are not transferred by database, such as the rows streaming of MySQL which are drained when closing.
+     * Cancel in transaction may abort the whole transaction, so result set is only closed in transaction.</p>
+     * 
+     * <p>Fetch size 0 is the default of driver, and it falls back to close result set only, which stops neither database nor network.
+     * MySQL and PostgreSQL drivers have read all rows into memory with fetch size 0 before the first row is returned, so there are no rest rows to stop,
+     * and the buffered rows are released by close. Drivers streaming by default, such as SQL Server with adaptive buffering, transfer or discard the rest rows in close.
+     * Set fetch size, or use memory strictly connection mode of proxy which sets it, for the rest rows to be stopped.</p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void terminate() throws SQLException {
+        notifyRowCount();
+        if (exhausted || resultSet.isClosed()) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null != statement && isStreaming(statement)) {
+            statement.cancel();
+        }
+        resultSet.close();
+    }
+    
+    private boolean isStreaming(final Statement statement) throws SQLException {
+        return 0 != statement.getFetchSize() && null != statement.getConnection() && statement.getConnection().getAutoCommit();
+    }
 }
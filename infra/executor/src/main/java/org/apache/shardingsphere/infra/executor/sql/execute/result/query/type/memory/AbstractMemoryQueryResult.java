@@ -21,7 +21,6 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -29,8 +28,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * Abstract memory query result.
@@ -40,49 +37,42 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
-    
-    private MemoryQueryResultDataRow currentRow;
-    
     @Getter
     private long rowCount;
     
     private boolean wasNull;
     
-    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final long rowCount) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.rowCount = rowCount;
     }
     
     @Override
     public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (nextRow()) {
             rowCount--;
             return true;
         }
-        currentRow = null;
         return false;
     }
     
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getRowValue(columnIndex, type);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getRowValue(columnIndex, type);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getRowValue(columnIndex, Object.class);
         wasNull = null == value;
         return getInputStream(value);
     }
@@ -105,4 +95,20 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Override
     public final void close() {
     }
+    
+    /**
+     * Move to next row.
+     * 
+     * @return has next row or not
+     */
+    protected abstract boolean nextRow();
+    
+    /**
+     * Get value of current row.
+     * 
+     * @param columnIndex column index
+     * @param type class type of value
+     * @return value
+     */
+    protected abstract Object getRowValue(int columnIndex, Class<?> type);
 }
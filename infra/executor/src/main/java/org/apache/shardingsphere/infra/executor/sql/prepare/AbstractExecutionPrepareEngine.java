@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.prepare;
 
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -41,6 +43,7 @@ import java.util.Map.Entry;
  */
 public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrepareEngine<T> {
     
+    @Getter(AccessLevel.PROTECTED)
     private final int maxConnectionsSizePerQuery;
     
     @SuppressWarnings("rawtypes")
@@ -57,15 +60,20 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int connectionsSize = getConnectionsSize(dataSourceName, sqlUnits.size());
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, connectionsSize);
+            ConnectionMode connectionMode = connectionsSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    protected int getConnectionsSize(final String dataSourceName, final int sqlUnitsSize) {
+        return Math.min(sqlUnitsSize, maxConnectionsSizePerQuery);
+    }
+    
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionsSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionsSize ? sqlUnits.size() / connectionsSize : sqlUnits.size() / connectionsSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
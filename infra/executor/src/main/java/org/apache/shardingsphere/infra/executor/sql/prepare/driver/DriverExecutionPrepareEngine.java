@@ -23,7 +23,9 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
@@ -44,6 +46,8 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     @SuppressWarnings("rawtypes")
     private static final Map<String, SQLExecutionUnitBuilder> TYPE_TO_BUILDER_MAP = new ConcurrentHashMap<>(8, 1);
     
+    private final AdaptiveConnectionModeSelector adaptiveConnectionModeSelector;
+    
     private final ExecutorConnectionManager<C> connectionManager;
     
     private final ExecutorStatementManager<C, ?, ?> statementManager;
@@ -58,7 +62,15 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, DatabaseType> databaseTypes) {
+        this(type, maxConnectionsSizePerQuery, null, connectionManager, statementManager, option, rules, databaseTypes);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final AdaptiveConnectionModeSelector adaptiveConnectionModeSelector,
+                                        final ExecutorConnectionManager<C> connectionManager,
+                                        final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
+                                        final Map<String, DatabaseType> databaseTypes) {
         super(maxConnectionsSizePerQuery, rules);
+        this.adaptiveConnectionModeSelector = adaptiveConnectionModeSelector;
         this.connectionManager = connectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -81,10 +93,22 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected int getConnectionsSize(final String dataSourceName, final int sqlUnitsSize) {
+        if (null == adaptiveConnectionModeSelector) {
+            return super.getConnectionsSize(dataSourceName, sqlUnitsSize);
+        }
+        return adaptiveConnectionModeSelector.getConnectionsSize(dataSourceName, sqlUnitsSize, getMaxConnectionsSizePerQuery());
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
+        long startTime = System.currentTimeMillis();
         List<C> connections = connectionManager.getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
+        if (null != adaptiveConnectionModeSelector) {
+            adaptiveConnectionModeSelector.recordConnectionAcquisition(dataSourceName, connections.size(), System.currentTimeMillis() - startTime);
+        }
         int count = 0;
         for (List<SQLUnit> each : sqlUnitGroups) {
             result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
@@ -96,8 +120,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     private ExecutionGroup<T> createExecutionGroup(final String dataSourceName, final List<SQLUnit> sqlUnits, final C connection, final ConnectionMode connectionMode) throws SQLException {
         List<T> result = new LinkedList<>();
         for (SQLUnit each : sqlUnits) {
-            result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), statementManager, connection, connectionMode, option, databaseTypes.get(dataSourceName)));
+            T executionUnit = (T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), statementManager, connection, connectionMode, option, databaseTypes.get(dataSourceName));
+            result.add(null != adaptiveConnectionModeSelector && executionUnit instanceof JDBCExecutionUnit ? (T) observe((JDBCExecutionUnit) executionUnit) : executionUnit);
         }
         return new ExecutionGroup<>(result);
     }
+    
+    private JDBCExecutionUnit observe(final JDBCExecutionUnit executionUnit) {
+        return new JDBCExecutionUnit(executionUnit.getExecutionUnit(), executionUnit.getConnectionMode(), executionUnit.getStorageResource(), adaptiveConnectionModeSelector);
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive connection mode selector.
+ * 
+ * <p>Each logical database has its own selector held by context manager, statistics are kept per data source of the database.
+ * Connections size of each data source is decided by observed statistics of the data source and never exceeds max connections size per query:</p>
+ * <ul>
+ *     <li>Large results keep max connections size per query to stream as many SQL units as allowed, even if connection pool is busy.</li>
+ *     <li>Small and fast results share fewer connections and are loaded into memory when connection pool is busy.</li>
+ *     <li>Otherwise max connections size per query is used as usual.</li>
+ * </ul>
+ * <p>Thresholds and smoothing weight are read from adaptive connection mode properties when selector is created.</p>
+ */
+public final class AdaptiveConnectionModeSelector {
+    
+    private final long largeResultRows;
+    
+    private final long slowExecutionMillis;
+    
+    private final long busyConnectionAcquisitionMillis;
+    
+    private final double smoothingFactor;
+    
+    private final Map<String, DataSourceExecutionStatistics> statistics = new ConcurrentHashMap<>();
+    
+    public AdaptiveConnectionModeSelector(final ConfigurationProperties props) {
+        largeResultRows = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS);
+        slowExecutionMillis = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SLOW_EXECUTION_MILLIS);
+        busyConnectionAcquisitionMillis = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS);
+        int smoothingPercent = props.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT);
+        smoothingFactor = Math.min(Math.max(smoothingPercent, 1), 100) / 100D;
+    }
+    
+    /**
+     * Remove statistics of data sources.
+     *
+     * @param dataSourceNames data source names
+     */
+    public void remove(final Collection<String> dataSourceNames) {
+        dataSourceNames.forEach(statistics::remove);
+    }
+    
+    /**
+     * Get connections size.
+     *
+     * @param dataSourceName data source name
+     * @param sqlUnitsSize SQL units size of data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connections size, connection mode is memory strictly if it equals to SQL units size, otherwise connection strictly
+     */
+    public int getConnectionsSize(final String dataSourceName, final int sqlUnitsSize, final int maxConnectionsSizePerQuery) {
+        int result = Math.min(sqlUnitsSize, maxConnectionsSizePerQuery);
+        DataSourceExecutionStatistics dataSourceStatistics = statistics.computeIfAbsent(dataSourceName, key -> new DataSourceExecutionStatistics(smoothingFactor));
+        if (1 == result || dataSourceStatistics.getResultRows() >= largeResultRows) {
+            return result;
+        }
+        boolean connectionPoolBusy = dataSourceStatistics.getConnectionAcquisitionMillis() >= busyConnectionAcquisitionMillis;
+        if (connectionPoolBusy && dataSourceStatistics.getResultRows() >= 0 && dataSourceStatistics.getExecutionMillis() < slowExecutionMillis) {
+            return Math.max(1, result / 2);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether data source is observed.
+     *
+     * @param dataSourceName data source name
+     * @return data source is observed or not
+     */
+    public boolean isObserved(final String dataSourceName) {
+        return statistics.containsKey(dataSourceName);
+    }
+    
+    /**
+     * Record connection acquisition.
+     *
+     * @param dataSourceName data source name
+     * @param connectionsSize acquired connections size
+     * @param elapsedMillis elapsed millis of acquiring all connections
+     */
+    public void recordConnectionAcquisition(final String dataSourceName, final int connectionsSize, final long elapsedMillis) {
+        DataSourceExecutionStatistics dataSourceStatistics = statistics.get(dataSourceName);
+        if (null != dataSourceStatistics && connectionsSize > 0) {
+            dataSourceStatistics.recordConnectionAcquisition((double) elapsedMillis / connectionsSize);
+        }
+    }
+    
+    /**
+     * Record execution.
+     *
+     * @param dataSourceName data source name
+     * @param elapsedMillis elapsed millis of executing SQL unit
+     */
+    public void recordExecution(final String dataSourceName, final long elapsedMillis) {
+        DataSourceExecutionStatistics dataSourceStatistics = statistics.get(dataSourceName);
+        if (null != dataSourceStatistics) {
+            dataSourceStatistics.recordExecution(elapsedMillis);
+        }
+    }
+    
+    /**
+     * Record result rows.
+     *
+     * @param dataSourceName data source name
+     * @param rows result rows of SQL unit
+     */
+    public void recordResultRows(final String dataSourceName, final long rows) {
+        DataSourceExecutionStatistics dataSourceStatistics = statistics.get(dataSourceName);
+        if (null != dataSourceStatistics) {
+            dataSourceStatistics.recordResultRows(rows);
+        }
+    }
+}
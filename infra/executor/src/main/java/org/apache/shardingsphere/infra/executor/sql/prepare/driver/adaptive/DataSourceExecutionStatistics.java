@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data source execution statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataSourceExecutionStatistics {
+    
+    private static final double UNKNOWN = -1D;
+    
+    @Getter(AccessLevel.NONE)
+    private final double smoothingFactor;
+    
+    private volatile double connectionAcquisitionMillis = UNKNOWN;
+    
+    private volatile double executionMillis = UNKNOWN;
+    
+    private volatile double resultRows = UNKNOWN;
+    
+    /**
+     * Record connection acquisition.
+     *
+     * @param millis elapsed millis of acquiring one connection
+     */
+    public synchronized void recordConnectionAcquisition(final double millis) {
+        connectionAcquisitionMillis = smooth(connectionAcquisitionMillis, millis);
+    }
+    
+    /**
+     * Record execution.
+     *
+     * @param millis elapsed millis of executing one SQL unit
+     */
+    public synchronized void recordExecution(final double millis) {
+        executionMillis = smooth(executionMillis, millis);
+    }
+    
+    /**
+     * Record result rows.
+     *
+     * @param rows result rows of one SQL unit
+     */
+    public synchronized void recordResultRows(final long rows) {
+        resultRows = smooth(resultRows, rows);
+    }
+    
+    private double smooth(final double previous, final double current) {
+        return previous < 0 ? current : previous + smoothingFactor * (current - previous);
+    }
+}
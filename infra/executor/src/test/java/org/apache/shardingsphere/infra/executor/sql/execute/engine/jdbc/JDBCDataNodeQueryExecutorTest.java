@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCDataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCDataNodeQueryExecutorTest {
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        ExecutorJDBCConnectionManager connectionManager = mock(ExecutorJDBCConnectionManager.class);
+        PreparedStatement preparedStatement = mockPreparedStatement(true, 10L);
+        Connection connection0 = mockConnection(preparedStatement);
+        Connection connection1 = mockConnection(mockPreparedStatement(false, null));
+        when(connectionManager.getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(connectionManager.getConnections("ds_1", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        Map<DataNode, String> sqls = new LinkedHashMap<>(3, 1);
+        sqls.put(new DataNode("ds_0", "t_order_0"), "SELECT MAX(order_id) FROM t_order_0");
+        sqls.put(new DataNode("ds_0", "t_order_2"), "SELECT MAX(order_id) FROM t_order_2");
+        sqls.put(new DataNode("ds_1", "t_order_1"), "SELECT MAX(order_id) FROM t_order_1");
+        Map<DataNode, Object> actual = new JDBCDataNodeQueryExecutor(executorEngine, connectionManager).executeQuery(sqls, Collections.singletonList(1));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(new DataNode("ds_0", "t_order_0")), is(10L));
+        assertThat(actual.get(new DataNode("ds_0", "t_order_2")), is(10L));
+        assertThat(actual.get(new DataNode("ds_1", "t_order_1")), nullValue());
+        verify(connectionManager).getConnections("ds_0", 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection0, times(2)).prepareStatement(anyString());
+        verify(preparedStatement, times(2)).setObject(1, 1);
+    }
+    
+    private Connection mockConnection(final PreparedStatement preparedStatement) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.prepareStatement(anyString())).thenReturn(preparedStatement);
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final boolean hasRow, final Object value) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(hasRow);
+        when(resultSet.getObject(1)).thenReturn(value);
+        return result;
+    }
+}
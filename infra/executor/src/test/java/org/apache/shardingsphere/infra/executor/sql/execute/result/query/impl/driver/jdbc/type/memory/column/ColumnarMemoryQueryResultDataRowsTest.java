@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnarMemoryQueryResultDataRowsTest {
+    
+    @Test
+    public void assertGetRowCountWithoutRows() {
+        assertThat(new ColumnarMemoryQueryResultDataRows(Arrays.asList(new IntColumnVector(), new DoubleColumnVector())).getRowCount(), is(0));
+    }
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        ColumnarMemoryQueryResultDataRows actual = createRows(timestamp);
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getValue(0, 1, Object.class), is(1));
+        assertThat(actual.getValue(0, 2, Object.class), is(10L));
+        assertThat(actual.getValue(0, 3, Object.class), is(timestamp));
+        assertThat(actual.getValue(0, 4, Object.class), is("foo"));
+        assertNull(actual.getValue(1, 1, Object.class));
+        assertThat(actual.getValue(1, 2, Object.class), is(20L));
+        assertNull(actual.getValue(1, 3, Object.class));
+        assertThat(actual.getValue(1, 4, Object.class), is("bar"));
+    }
+    
+    @Test
+    public void assertGetValueWithWidenedType() throws SQLException {
+        ColumnarMemoryQueryResultDataRows actual = createRows(new Timestamp(1000L));
+        assertThat(actual.getValue(0, 1, long.class), is(1L));
+        assertThat(actual.getValue(0, 1, Double.class), is(1D));
+        assertThat(actual.getValue(0, 2, double.class), is(10D));
+        assertThat(actual.getValue(0, 2, int.class), is(10L));
+        assertNull(actual.getValue(1, 1, long.class));
+    }
+    
+    private ColumnarMemoryQueryResultDataRows createRows(final Timestamp timestamp) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(1, 0);
+        when(resultSet.getLong(2)).thenReturn(10L, 20L);
+        when(resultSet.getTimestamp(3)).thenReturn(timestamp, null);
+        when(resultSet.getObject(4)).thenReturn("foo", "bar");
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, true, false, false, false);
+        ColumnVector[] columns = {new IntColumnVector(), new LongColumnVector(), new TimestampColumnVector(), new ObjectColumnVector(ResultSet::getObject)};
+        ColumnarMemoryQueryResultDataRows result = new ColumnarMemoryQueryResultDataRows(Arrays.asList(columns));
+        for (int i = 0; i < 2; i++) {
+            for (int columnIndex = 1; columnIndex <= columns.length; columnIndex++) {
+                columns[columnIndex - 1].load(resultSet, columnIndex);
+            }
+            result.addRow();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.column;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringColumnVectorTest {
+    
+    @Test
+    public void assertLoadWithDictionary() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo", "bar", null, "foo");
+        StringColumnVector actual = new StringColumnVector();
+        for (int i = 0; i < 4; i++) {
+            actual.load(resultSet, 1);
+        }
+        assertThat(actual.getSize(), is(4));
+        assertThat(actual.get(0, Object.class), is("foo"));
+        assertThat(actual.get(1, Object.class), is("bar"));
+        assertNull(actual.get(2, Object.class));
+        assertThat(actual.get(3, Object.class), is("foo"));
+    }
+    
+    @Test
+    public void assertFinishLoad() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo", "bar", "foo");
+        StringColumnVector actual = new StringColumnVector();
+        for (int i = 0; i < 3; i++) {
+            actual.load(resultSet, 1);
+        }
+        actual.finishLoad();
+        Field dictionaryCodes = StringColumnVector.class.getDeclaredField("dictionaryCodes");
+        dictionaryCodes.setAccessible(true);
+        assertNull(dictionaryCodes.get(actual));
+        assertThat(actual.get(0, Object.class), is("foo"));
+        assertThat(actual.get(1, Object.class), is("bar"));
+        assertThat(actual.get(2, Object.class), is("foo"));
+    }
+    
+    @Test
+    public void assertLoadWhenDictionaryExceedsLimit() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicInteger rowNumber = new AtomicInteger();
+        when(resultSet.getString(1)).thenAnswer(invocation -> "foo_" + rowNumber.getAndIncrement());
+        StringColumnVector actual = new StringColumnVector();
+        int rowCount = (1 << 16) + 100;
+        for (int i = 0; i < rowCount; i++) {
+            actual.load(resultSet, 1);
+        }
+        assertThat(actual.getSize(), is(rowCount));
+        for (int i = 0; i < rowCount; i++) {
+            assertThat(actual.get(i, Object.class), is("foo_" + i));
+        }
+    }
+}
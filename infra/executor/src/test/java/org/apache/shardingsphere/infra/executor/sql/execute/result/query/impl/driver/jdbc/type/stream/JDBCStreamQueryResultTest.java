@@ -18,24 +18,32 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -256,6 +264,117 @@ public final class JDBCStreamQueryResultTest {
         assertTrue(actual.wasNull());
     }
     
+    @Test
+    public void assertTerminateWithFetchSizeInAutoCommit() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mockStatement(Integer.MIN_VALUE, true);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        actual.next();
+        actual.terminate();
+        InOrder inOrder = inOrder(statement, resultSet);
+        inOrder.verify(statement).cancel();
+        inOrder.verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateWithFetchSizeInTransaction() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mockStatement(100, false);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        actual.next();
+        actual.terminate();
+        verify(statement, never()).cancel();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateWithDefaultFetchSizeInAutoCommit() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mockStatement(0, true);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        actual.next();
+        actual.terminate();
+        verify(statement, never()).cancel();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateWithDefaultFetchSizeInTransaction() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mockStatement(0, false);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        actual.next();
+        actual.terminate();
+        verify(statement, never()).cancel();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateWithoutStatement() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        actual.next();
+        actual.terminate();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertTerminateAfterExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(resultSet);
+        while (actual.next()) {
+            actual.getValue(1, int.class);
+        }
+        actual.terminate();
+        verify(resultSet, never()).getStatement();
+        verify(resultSet, never()).close();
+    }
+    
+    @Test
+    public void assertNotifyRowCountWhenExhausted() throws SQLException {
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(getResultSet());
+        List<Long> rowCounts = new LinkedList<>();
+        actual.setRowCountListener(rowCounts::add);
+        while (actual.next()) {
+            actual.getValue(1, int.class);
+        }
+        actual.close();
+        assertThat(rowCounts, is(Collections.singletonList(1L)));
+    }
+    
+    @Test
+    public void assertNotifyRowCountWhenTerminated() throws SQLException {
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(getResultSet());
+        List<Long> rowCounts = new LinkedList<>();
+        actual.setRowCountListener(rowCounts::add);
+        actual.next();
+        actual.terminate();
+        actual.close();
+        assertThat(rowCounts, is(Collections.singletonList(1L)));
+    }
+    
+    @Test
+    public void assertNotifyRowCountWhenClosed() throws SQLException {
+        JDBCStreamQueryResult actual = new JDBCStreamQueryResult(getResultSet());
+        List<Long> rowCounts = new LinkedList<>();
+        actual.setRowCountListener(rowCounts::add);
+        actual.close();
+        assertThat(rowCounts, is(Collections.singletonList(0L)));
+    }
+    
+    private Statement mockStatement(final int fetchSize, final boolean autoCommit) throws SQLException {
+        Statement result = mock(Statement.class);
+        when(result.getFetchSize()).thenReturn(fetchSize);
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(autoCommit);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
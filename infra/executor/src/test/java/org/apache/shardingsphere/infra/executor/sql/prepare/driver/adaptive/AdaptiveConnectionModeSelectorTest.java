@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveConnectionModeSelectorTest {
+    
+    private final AdaptiveConnectionModeSelector selector = new AdaptiveConnectionModeSelector(new ConfigurationProperties(new Properties()));
+    
+    @Test
+    public void assertGetConnectionsSizeWithoutStatistics() {
+        assertFalse(selector.isObserved("without_statistics_ds"));
+        assertThat(selector.getConnectionsSize("without_statistics_ds", 4, 2), is(2));
+        assertThat(selector.getConnectionsSize("without_statistics_ds", 4, 8), is(4));
+        assertTrue(selector.isObserved("without_statistics_ds"));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithLargeResult() {
+        selector.getConnectionsSize("large_result_ds", 1, 1);
+        selector.recordResultRows("large_result_ds", 100000L);
+        assertThat(selector.getConnectionsSize("large_result_ds", 4, 1), is(1));
+        assertThat(selector.getConnectionsSize("large_result_ds", 4, 8), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithLargeResultAndBusyConnectionPool() {
+        selector.getConnectionsSize("large_result_busy_ds", 1, 1);
+        selector.recordResultRows("large_result_busy_ds", 100000L);
+        selector.recordConnectionAcquisition("large_result_busy_ds", 1, 100L);
+        assertThat(selector.getConnectionsSize("large_result_busy_ds", 4, 2), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithSmallResultAndBusyConnectionPool() {
+        selector.getConnectionsSize("small_result_busy_ds", 1, 1);
+        selector.recordResultRows("small_result_busy_ds", 10L);
+        selector.recordExecution("small_result_busy_ds", 1L);
+        selector.recordConnectionAcquisition("small_result_busy_ds", 2, 100L);
+        assertThat(selector.getConnectionsSize("small_result_busy_ds", 4, 4), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithSlowExecutionAndBusyConnectionPool() {
+        selector.getConnectionsSize("slow_execution_busy_ds", 1, 1);
+        selector.recordResultRows("slow_execution_busy_ds", 10L);
+        selector.recordExecution("slow_execution_busy_ds", 1000L);
+        selector.recordConnectionAcquisition("slow_execution_busy_ds", 2, 100L);
+        assertThat(selector.getConnectionsSize("slow_execution_busy_ds", 4, 4), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithConfiguredThresholds() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_LARGE_RESULT_ROWS.getKey(), "100");
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_BUSY_CONNECTION_ACQUISITION_MILLIS.getKey(), "1000");
+        AdaptiveConnectionModeSelector configuredSelector = new AdaptiveConnectionModeSelector(new ConfigurationProperties(props));
+        configuredSelector.getConnectionsSize("configured_ds", 1, 1);
+        configuredSelector.recordResultRows("configured_ds", 10L);
+        configuredSelector.recordExecution("configured_ds", 1L);
+        configuredSelector.recordConnectionAcquisition("configured_ds", 2, 100L);
+        assertThat(configuredSelector.getConnectionsSize("configured_ds", 4, 4), is(4));
+        configuredSelector.recordResultRows("configured_ds", 1000L);
+        configuredSelector.recordConnectionAcquisition("configured_ds", 1, 10000L);
+        assertThat(configuredSelector.getConnectionsSize("configured_ds", 4, 4), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionsSizeWithConfiguredSmoothingPercent() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_SMOOTHING_PERCENT.getKey(), "100");
+        AdaptiveConnectionModeSelector configuredSelector = new AdaptiveConnectionModeSelector(new ConfigurationProperties(props));
+        configuredSelector.getConnectionsSize("smoothing_ds", 1, 1);
+        configuredSelector.recordResultRows("smoothing_ds", 100000L);
+        configuredSelector.recordResultRows("smoothing_ds", 10L);
+        configuredSelector.recordExecution("smoothing_ds", 1L);
+        configuredSelector.recordConnectionAcquisition("smoothing_ds", 2, 100L);
+        assertThat(configuredSelector.getConnectionsSize("smoothing_ds", 4, 4), is(2));
+    }
+    
+    @Test
+    public void assertRecordWithoutObservedDataSource() {
+        selector.recordExecution("not_observed_ds", 1L);
+        selector.recordResultRows("not_observed_ds", 1L);
+        selector.recordConnectionAcquisition("not_observed_ds", 1, 1L);
+        assertFalse(selector.isObserved("not_observed_ds"));
+    }
+    
+    @Test
+    public void assertRemoveDataSources() {
+        selector.getConnectionsSize("removed_ds", 1, 1);
+        selector.getConnectionsSize("retained_ds", 1, 1);
+        selector.remove(Collections.singleton("removed_ds"));
+        assertFalse(selector.isObserved("removed_ds"));
+        assertTrue(selector.isObserved("retained_ds"));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngineFactory;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
+import org.apache.shardingsphere.infra.merge.engine.merger.aware.ExecutorEngineAware;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -52,11 +54,18 @@ public final class MergeEngine {
     
     private final ConnectionContext connectionContext;
     
+    private final ExecutorEngine executorEngine;
+    
     public MergeEngine(final ShardingSphereDatabase database, final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        this(database, props, connectionContext, null);
+    }
+    
+    public MergeEngine(final ShardingSphereDatabase database, final ConfigurationProperties props, final ConnectionContext connectionContext, final ExecutorEngine executorEngine) {
         this.database = database;
         this.props = props;
         engines = ResultProcessEngineFactory.getInstances(database.getRuleMetaData().getRules());
         this.connectionContext = connectionContext;
+        this.executorEngine = executorEngine;
     }
     
     /**
@@ -78,6 +87,9 @@ public final class MergeEngine {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
                 ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(database.getName(), database.getProtocolType(), entry.getKey(), props, sqlStatementContext);
+                if (resultMerger instanceof ExecutorEngineAware && null != executorEngine) {
+                    ((ExecutorEngineAware) resultMerger).setExecutorEngine(executorEngine);
+                }
                 return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, database, connectionContext));
             }
         }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.fixture.rule.DecoratorRuleFixture;
 import org.apache.shardingsphere.infra.merge.fixture.rule.MergerRuleFixture;
@@ -68,6 +69,14 @@ public final class MergeEngineTest {
         assertThat(actual.getValue(1, String.class), is("merged_value"));
     }
     
+    @Test
+    public void assertMergeWithMergerRuleAndExecutorEngine() throws SQLException {
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(new MergerRuleFixture()));
+        MergedResult actual = new MergeEngine(database, new ConfigurationProperties(new Properties()), mock(ConnectionContext.class), mock(ExecutorEngine.class))
+                .merge(Collections.singletonList(queryResult), mock(SQLStatementContext.class));
+        assertThat(actual.getValue(1, String.class), is("merged_value_with_executor"));
+    }
+    
     @Test
     public void assertMergeWithDecoratorRuleOnly() throws SQLException {
         when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(new DecoratorRuleFixture()));
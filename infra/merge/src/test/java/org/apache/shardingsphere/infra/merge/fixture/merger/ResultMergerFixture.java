@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.infra.merge.fixture.merger;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
+import org.apache.shardingsphere.infra.merge.engine.merger.aware.ExecutorEngineAware;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -33,13 +36,16 @@ import java.util.List;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-public final class ResultMergerFixture implements ResultMerger {
+@Setter
+public final class ResultMergerFixture implements ResultMerger, ExecutorEngineAware {
+    
+    private ExecutorEngine executorEngine;
     
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
-        when(resultSet.getString(1)).thenReturn("merged_value");
+        when(resultSet.getString(1)).thenReturn(null == executorEngine ? "merged_value" : "merged_value_with_executor");
         QueryResult queryResult = new JDBCStreamQueryResult(resultSet);
         return new TransparentMergedResult(queryResult);
     }
@@ -36,8 +36,13 @@ public final class ShardingSphereSQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean isParseComment, final boolean isSQLShapeCacheEnabled, final boolean isFastPathParseEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
-                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isSQLShapeCacheEnabled, isFastPathParseEnabled);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -41,7 +41,22 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
                                                            final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        return build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    /**
+     * Build SQL statement cache.
+     *
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param isParseComment is parse comment
+     * @param isFastPathParseEnabled is fast path parse enabled
+     * @return built SQL statement cache
+     */
+    public static LoadingCache<String, SQLStatement> build(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                           final boolean isParseComment, final boolean isFastPathParseEnabled) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment, isFastPathParseEnabled));
     }
 }
@@ -32,7 +32,11 @@ public final class SQLStatementCacheLoader implements CacheLoader<String, SQLSta
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     public SQLStatementCacheLoader(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
+        this(databaseType, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public SQLStatementCacheLoader(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isFastPathParseEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, false, isFastPathParseEnabled);
     }
     
     @ParametersAreNonnullByDefault
@@ -32,8 +32,13 @@ public final class SQLStatementParserEngine {
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
     public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
-        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false, false);
+    }
+    
+    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                    final boolean isParseComment, final boolean isSQLShapeCacheEnabled, final boolean isFastPathParseEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, isSQLShapeCacheEnabled, isFastPathParseEnabled);
+        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParseEnabled);
     }
     
     /**
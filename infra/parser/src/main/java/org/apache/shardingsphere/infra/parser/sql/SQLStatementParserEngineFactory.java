@@ -39,13 +39,17 @@ public final class SQLStatementParserEngineFactory {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
+     * @param isSQLShapeCacheEnabled is SQL shape cache enabled
+     * @param isFastPathParseEnabled is fast path parse enabled
      * @return SQL statement parser engine
      */
-    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        SQLStatementParserEngine result = ENGINES.get(databaseType);
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean isParseComment, final boolean isSQLShapeCacheEnabled, final boolean isFastPathParseEnabled) {
+        String engineKey = String.join(".", databaseType, String.valueOf(isSQLShapeCacheEnabled), String.valueOf(isFastPathParseEnabled));
+        SQLStatementParserEngine result = ENGINES.get(engineKey);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(engineKey,
+                    key -> new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isSQLShapeCacheEnabled, isFastPathParseEnabled));
         }
         return result;
     }
@@ -20,8 +20,11 @@ package org.apache.shardingsphere.infra.parser.sql;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.parser.FastPathSQLStatementParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.FastPathSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -33,9 +36,17 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
+    private final FastPathSQLStatementParser fastPathParser;
+    
     public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+        this(databaseType, parseTreeCacheOption, isParseComment, false, false);
+    }
+    
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment,
+                                      final boolean isSQLShapeCacheEnabled, final boolean isFastPathParseEnabled) {
+        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption, isSQLShapeCacheEnabled);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        fastPathParser = isFastPathParseEnabled ? FastPathSQLStatementParserFactory.findInstance(databaseType).orElse(null) : null;
     }
     
     /**
@@ -45,6 +56,12 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        if (null != fastPathParser) {
+            Optional<SQLStatement> result = fastPathParser.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return parserEngine.parse(sql, visitorEngine::visit);
     }
 }
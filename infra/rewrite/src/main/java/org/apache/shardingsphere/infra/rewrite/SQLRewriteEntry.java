@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.rewrite;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -70,7 +71,23 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
                                     final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext, connectionContext);
+        return rewrite(sql, parameters, sqlStatementContext, routeContext, connectionContext, null);
+    }
+    
+    /**
+     * Rewrite.
+     * 
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param dataNodeQueryExecutor data node query executor for queries issued while rewriting, null if not supported by caller
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
+                                    final RouteContext routeContext, final ConnectionContext connectionContext, final DataNodeQueryExecutor dataNodeQueryExecutor) {
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext, connectionContext, dataNodeQueryExecutor);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         DatabaseType protocolType = database.getProtocolType();
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
@@ -80,8 +97,8 @@ public final class SQLRewriteEntry {
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
-                                                      final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, parameters, connectionContext);
+                                                      final RouteContext routeContext, final ConnectionContext connectionContext, final DataNodeQueryExecutor dataNodeQueryExecutor) {
+        SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, parameters, connectionContext, dataNodeQueryExecutor);
         decorate(decorators, result, routeContext);
         result.generateSQLTokens();
         return result;
@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
@@ -35,6 +36,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL rewrite context.
@@ -61,14 +63,23 @@ public final class SQLRewriteContext {
     
     private final ConnectionContext connectionContext;
     
+    @Getter(AccessLevel.NONE)
+    private final DataNodeQueryExecutor dataNodeQueryExecutor;
+    
     public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas,
                              final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final ConnectionContext connectionContext) {
+        this(databaseName, schemas, sqlStatementContext, sql, parameters, connectionContext, null);
+    }
+    
+    public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas, final SQLStatementContext<?> sqlStatementContext,
+                             final String sql, final List<Object> parameters, final ConnectionContext connectionContext, final DataNodeQueryExecutor dataNodeQueryExecutor) {
         this.databaseName = databaseName;
         this.schemas = schemas;
         this.sqlStatementContext = sqlStatementContext;
         this.sql = sql;
         this.parameters = parameters;
         this.connectionContext = connectionContext;
+        this.dataNodeQueryExecutor = dataNodeQueryExecutor;
         addSQLTokenGenerators(new DefaultTokenGeneratorBuilder(sqlStatementContext).getSQLTokenGenerators());
         parameterBuilder = ((sqlStatementContext instanceof InsertStatementContext) && (null == ((InsertStatementContext) sqlStatementContext).getInsertSelectContext()))
                 ? new GroupedParameterBuilder(
@@ -76,6 +87,15 @@ public final class SQLRewriteContext {
                 : new StandardParameterBuilder(parameters);
     }
     
+    /**
+     * Get data node query executor.
+     *
+     * @return data node query executor
+     */
+    public Optional<DataNodeQueryExecutor> getDataNodeQueryExecutor() {
+        return Optional.ofNullable(dataNodeQueryExecutor);
+    }
+    
     /**
      * Add SQL token generators.
      *
@@ -46,7 +46,7 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     /**
      * Add added parameters.
      * 
-     * @param index parameters index to be added
+     * @param index parameters index to be added, parameters are added after the original parameter of index, or before all original parameters if index is -1
      * @param parameters parameters to be added
      */
     public void addAddedParameters(final int index, final Collection<Object> parameters) {
@@ -71,9 +71,9 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         }
         int maxParameterIndex = getMaxParameterIndex(originalParameters, addedIndexAndParameters);
         List<Object> result = new LinkedList<>();
-        for (int index = 0; index <= maxParameterIndex; index++) {
+        for (int index = -1; index <= maxParameterIndex; index++) {
             List<Object> currentIndexParameters = new LinkedList<>();
-            if (replacedParameters.size() > index) {
+            if (index >= 0 && replacedParameters.size() > index) {
                 currentIndexParameters.add(replacedParameters.get(index));
             }
             if (addedIndexAndParameters.containsKey(index)) {
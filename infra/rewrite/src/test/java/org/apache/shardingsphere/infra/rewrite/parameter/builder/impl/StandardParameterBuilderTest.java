@@ -43,4 +43,11 @@ public final class StandardParameterBuilderTest {
     public void assertGetParameters() {
         assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertGetParametersWithAddedParametersBeforeAllParameters() {
+        parameterBuilder.addAddedParameters(-1, Collections.singleton(0));
+        parameterBuilder.addReplacedParameters(0, 3);
+        assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(0, 3, 2, 1, 5, 7)));
+    }
 }
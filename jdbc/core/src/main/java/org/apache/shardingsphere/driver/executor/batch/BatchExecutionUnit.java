@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -47,6 +48,9 @@ public final class BatchExecutionUnit {
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    @Getter(AccessLevel.NONE)
+    private int flushedAddBatchTimes;
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -63,11 +67,40 @@ public final class BatchExecutionUnit {
      */
     public List<List<Object>> getParameterSets() {
         List<List<Object>> result = new LinkedList<>();
-        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
+        int unflushedAddBatchTimes = getUnflushedAddBatchTimes();
+        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == unflushedAddBatchTimes) {
             result.add(Collections.emptyList());
         } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / unflushedAddBatchTimes));
+        }
+        return result;
+    }
+    
+    /**
+     * Get times of actual call addBatch which are not flushed yet.
+     *
+     * @return times of actual call addBatch which are not flushed yet
+     */
+    public int getUnflushedAddBatchTimes() {
+        return actualCallAddBatchTimes - flushedAddBatchTimes;
+    }
+    
+    /**
+     * Poll parameter sets which are not flushed yet, mark them as flushed and release them from execution unit.
+     *
+     * @return parameter sets which are not flushed yet
+     */
+    public List<List<Object>> pollUnflushedParameterSets() {
+        int unflushedAddBatchTimes = getUnflushedAddBatchTimes();
+        if (0 == unflushedAddBatchTimes) {
+            return Collections.emptyList();
         }
+        List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+        List<List<Object>> result = parameters.isEmpty()
+                ? Collections.nCopies(unflushedAddBatchTimes, Collections.emptyList())
+                : Lists.partition(new ArrayList<>(parameters), parameters.size() / unflushedAddBatchTimes);
+        parameters.clear();
+        flushedAddBatchTimes = actualCallAddBatchTimes;
         return result;
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ConnectionManager;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
@@ -29,21 +30,33 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Prepared statement executor to process add batch.
@@ -65,11 +78,26 @@ public final class BatchPreparedStatementExecutor {
     
     private final EventBusContext eventBusContext;
     
-    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName, final EventBusContext eventBusContext) {
+    private final ConnectionManager connectionManager;
+    
+    private final boolean returnGeneratedKeys;
+    
+    private final Map<Statement, List<Comparable<?>>> generatedKeys = new ConcurrentHashMap<>();
+    
+    private final Map<BatchExecutionUnit, JDBCExecutionUnit> flushedExecutionUnits = new HashMap<>();
+    
+    private final Map<BatchExecutionUnit, List<CompletableFuture<int[]>>> flushedResults = new LinkedHashMap<>();
+    
+    private final Map<String, CompletableFuture<int[]>> dataSourceFlushFutures = new HashMap<>();
+    
+    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final String databaseName, final EventBusContext eventBusContext,
+                                          final ConnectionManager connectionManager, final boolean returnGeneratedKeys) {
         this.databaseName = databaseName;
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
+        this.connectionManager = connectionManager;
+        this.returnGeneratedKeys = returnGeneratedKeys;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
         batchExecutionUnits = new LinkedList<>();
     }
@@ -137,13 +165,25 @@ public final class BatchPreparedStatementExecutor {
      * @throws SQLException SQL exception
      */
     public int[] executeBatch(final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        List<int[]> results = jdbcExecutor.execute(executionGroupContext, createExecuteBatchCallback(sqlStatementContext));
+        if (results.isEmpty()) {
+            return new int[0];
+        }
+        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+    }
+    
+    private JDBCExecutorCallback<int[]> createExecuteBatchCallback(final SQLStatementContext<?> sqlStatementContext) {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
-        JDBCExecutorCallback<int[]> callback = new JDBCExecutorCallback<int[]>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+        return new JDBCExecutorCallback<int[]>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getStorageTypes(), sqlStatementContext.getSqlStatement(), isExceptionThrown, eventBusContext) {
             
             @Override
             protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
-                return statement.executeBatch();
+                int[] result = statement.executeBatch();
+                if (returnGeneratedKeys) {
+                    collectGeneratedKeys(statement);
+                }
+                return result;
             }
             
             @SuppressWarnings("OptionalContainsCollection")
@@ -152,11 +192,194 @@ public final class BatchPreparedStatementExecutor {
                 return Optional.empty();
             }
         };
-        List<int[]> results = jdbcExecutor.execute(executionGroupContext, callback);
+    }
+    
+    private void collectGeneratedKeys(final Statement statement) throws SQLException {
+        List<Comparable<?>> keys = generatedKeys.computeIfAbsent(statement, unused -> new LinkedList<>());
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            while (resultSet.next()) {
+                keys.add((Comparable<?>) resultSet.getObject(1));
+            }
+        }
+    }
+    
+    /**
+     * Get generated keys of executed batches.
+     * 
+     * <p>Keys of each statement are in execution order, flushed statements contribute the keys of all their flushes.</p>
+     *
+     * @return generated keys
+     */
+    public List<Comparable<?>> getGeneratedKeys() {
+        List<Comparable<?>> result = new LinkedList<>();
+        for (Statement each : isFlushed() ? getFlushedStatements() : getStatements()) {
+            result.addAll(generatedKeys.getOrDefault(each, Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private List<Statement> getFlushedStatements() {
+        List<Statement> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            JDBCExecutionUnit flushedExecutionUnit = flushedExecutionUnits.get(each);
+            if (null != flushedExecutionUnit) {
+                result.add(flushedExecutionUnit.getStorageResource());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether any batch execution unit reaches flush threshold.
+     *
+     * @param flushThreshold flush threshold of add batch times for each batch execution unit
+     * @return any batch execution unit reaches flush threshold or not
+     */
+    public boolean isFlushRequired(final int flushThreshold) {
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            if (each.getUnflushedAddBatchTimes() >= flushThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether any batch execution unit has been flushed.
+     *
+     * @return any batch execution unit has been flushed or not
+     */
+    public boolean isFlushed() {
+        return !flushedResults.isEmpty();
+    }
+    
+    /**
+     * Flush batch execution units which reach flush threshold to data sources asynchronously.
+     * 
+     * <p>Flushes on the same data source are submitted to connection manager and executed in order, because they share the same cached connection.
+     * Other executions and transaction changes of the connection wait for the submitted flushes.
+     * Failures of flushes are not thrown here, they are thrown by {@link #executeFlushedBatch}.</p>
+     *
+     * @param prepareEngine prepare engine to create statements of batch execution units
+     * @param routeContext route context
+     * @param sqlStatementContext SQL statement context
+     * @param flushThreshold flush threshold of add batch times for each batch execution unit
+     * @throws SQLException SQL exception
+     */
+    public void flush(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final RouteContext routeContext,
+                      final SQLStatementContext<?> sqlStatementContext, final int flushThreshold) throws SQLException {
+        JDBCExecutorCallback<int[]> callback = createExecuteBatchCallback(sqlStatementContext);
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            if (each.getUnflushedAddBatchTimes() > 0 && each.getUnflushedAddBatchTimes() >= flushThreshold) {
+                flush(prepareEngine, routeContext, each, callback);
+            }
+        }
+    }
+    
+    private void flush(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final RouteContext routeContext,
+                       final BatchExecutionUnit batchExecutionUnit, final JDBCExecutorCallback<int[]> callback) throws SQLException {
+        String dataSourceName = batchExecutionUnit.getExecutionUnit().getDataSourceName();
+        JDBCExecutionUnit jdbcExecutionUnit = flushedExecutionUnits.get(batchExecutionUnit);
+        if (null == jdbcExecutionUnit) {
+            jdbcExecutionUnit = prepareEngine.prepare(routeContext, Collections.singletonList(batchExecutionUnit.getExecutionUnit())).getInputGroups().iterator().next().getInputs().iterator().next();
+            flushedExecutionUnits.put(batchExecutionUnit, jdbcExecutionUnit);
+        }
+        JDBCExecutionUnit flushedExecutionUnit = jdbcExecutionUnit;
+        List<List<Object>> parameterSets = batchExecutionUnit.pollUnflushedParameterSets();
+        ExecutorService executorService = jdbcExecutor.getExecutorEngine().getExecutorServiceManager().getExecutorService();
+        CompletableFuture<int[]> previousFuture = dataSourceFlushFutures.get(dataSourceName);
+        CompletableFuture<int[]> future = connectionManager.submitBatchFlush(dataSourceName, () -> executeFlush(previousFuture, flushedExecutionUnit, parameterSets, callback), executorService);
+        dataSourceFlushFutures.put(dataSourceName, future);
+        flushedResults.computeIfAbsent(batchExecutionUnit, unused -> new LinkedList<>()).add(future);
+    }
+    
+    private int[] executeFlush(final CompletableFuture<int[]> previousFuture, final JDBCExecutionUnit jdbcExecutionUnit, final List<List<Object>> parameterSets,
+                               final JDBCExecutorCallback<int[]> callback) {
+        // Flushes of the same data source are chained by connection manager, so previous flush has completed and is never waited here.
+        if (null != previousFuture && previousFuture.isCompletedExceptionally()) {
+            throw new CompletionException(getFailure(previousFuture));
+        }
+        try {
+            PreparedStatement preparedStatement = (PreparedStatement) jdbcExecutionUnit.getStorageResource();
+            for (List<Object> each : parameterSets) {
+                int index = 0;
+                for (Object eachParameter : each) {
+                    preparedStatement.setObject(++index, eachParameter);
+                }
+                preparedStatement.addBatch();
+            }
+            List<int[]> result = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(jdbcExecutionUnit)))), callback);
+            return result.isEmpty() ? new int[0] : result.get(0);
+        } catch (final SQLException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+    
+    private Throwable getFailure(final CompletableFuture<int[]> future) {
+        return future.handle((unused, ex) -> ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex).getNow(null);
+    }
+    
+    /**
+     * Flush all remaining batch execution units and wait for all flushes finished.
+     *
+     * @param prepareEngine prepare engine to create statements of batch execution units
+     * @param routeContext route context
+     * @param sqlStatementContext SQL statement context
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public int[] executeFlushedBatch(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final RouteContext routeContext,
+                                     final SQLStatementContext<?> sqlStatementContext) throws SQLException {
+        flush(prepareEngine, routeContext, sqlStatementContext, 1);
+        Map<BatchExecutionUnit, int[]> results = new LinkedHashMap<>(flushedResults.size(), 1);
+        for (Entry<BatchExecutionUnit, List<CompletableFuture<int[]>>> entry : flushedResults.entrySet()) {
+            results.put(entry.getKey(), getFlushedResult(entry.getValue()));
+        }
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return isNeedAccumulate(sqlStatementContext) ? accumulateFlushedResults(results) : results.values().iterator().next();
+    }
+    
+    private int[] getFlushedResult(final List<CompletableFuture<int[]>> futures) throws SQLException {
+        List<int[]> results = new ArrayList<>(futures.size());
+        int length = 0;
+        for (CompletableFuture<int[]> each : futures) {
+            int[] flushResult = waitFlushFinished(each);
+            results.add(flushResult);
+            length += flushResult.length;
+        }
+        int[] result = new int[length];
+        int offset = 0;
+        for (int[] each : results) {
+            System.arraycopy(each, 0, result, offset, each.length);
+            offset += each.length;
+        }
+        return result;
+    }
+    
+    private int[] waitFlushFinished(final CompletableFuture<int[]> future) throws SQLException {
+        if (null == future) {
+            return new int[0];
+        }
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private int[] accumulateFlushedResults(final Map<BatchExecutionUnit, int[]> results) {
+        int[] result = new int[batchCount];
+        for (Entry<BatchExecutionUnit, int[]> entry : results.entrySet()) {
+            for (Entry<Integer, Integer> each : entry.getKey().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                result[each.getKey()] += entry.getValue()[each.getValue()];
+            }
+        }
+        return result;
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -249,6 +472,13 @@ public final class BatchPreparedStatementExecutor {
      * Clear.
      */
     public void clear() {
+        for (CompletableFuture<int[]> each : dataSourceFlushFutures.values()) {
+            each.exceptionally(ex -> new int[0]).join();
+        }
+        dataSourceFlushFutures.clear();
+        generatedKeys.clear();
+        flushedResults.clear();
+        flushedExecutionUnits.clear();
         getStatements().clear();
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
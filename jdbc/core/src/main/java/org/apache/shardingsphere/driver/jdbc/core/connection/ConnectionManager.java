@@ -56,6 +56,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * Connection manager.
@@ -77,6 +81,8 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private final Map<String, CompletableFuture<?>> batchFlushFutures = new ConcurrentHashMap<>();
+    
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
@@ -131,6 +137,47 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return null == type ? new ConnectionTransaction(databaseName, transactionRule) : new ConnectionTransaction(databaseName, type, transactionRule);
     }
     
+    /**
+     * Submit batch flush with cached connection of data source.
+     * 
+     * <p>Batch flushes of the same data source are executed in order after the previous ones finished, no matter the previous ones succeed or not.
+     * Other executions on the data source wait for them before getting connections.</p>
+     *
+     * @param dataSourceName data source name
+     * @param flush flush to be executed
+     * @param executorService executor service to execute flush
+     * @param <T> type of flush result
+     * @return future of flush result
+     */
+    public <T> CompletableFuture<T> submitBatchFlush(final String dataSourceName, final Supplier<T> flush, final ExecutorService executorService) {
+        CompletableFuture<?> previousFuture = batchFlushFutures.get(dataSourceName);
+        CompletableFuture<T> result = null == previousFuture
+                ? CompletableFuture.supplyAsync(flush, executorService)
+                : previousFuture.handleAsync((unused, ex) -> flush.get(), executorService);
+        batchFlushFutures.put(dataSourceName, result);
+        return result;
+    }
+    
+    /**
+     * Wait for all submitted batch flushes finished.
+     * 
+     * <p>Failures of batch flushes are ignored here, they are thrown by the batch executions which submit them.</p>
+     */
+    public void waitBatchFlushesFinished() {
+        for (String each : batchFlushFutures.keySet()) {
+            waitBatchFlushFinished(each);
+        }
+    }
+    
+    private void waitBatchFlushFinished(final String dataSourceName) {
+        CompletableFuture<?> future = batchFlushFutures.get(dataSourceName);
+        if (null == future) {
+            return;
+        }
+        future.handle((unused, ex) -> null).join();
+        batchFlushFutures.remove(dataSourceName, future);
+    }
+    
     /**
      * Set auto commit.
      * 
@@ -296,6 +343,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        waitBatchFlushFinished(dataSourceName);
         DataSource dataSource = dataSourceMap.get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
         Collection<Connection> connections;
@@ -370,6 +418,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     @Override
     public void close() throws SQLException {
+        waitBatchFlushesFinished();
         try {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
         } finally {
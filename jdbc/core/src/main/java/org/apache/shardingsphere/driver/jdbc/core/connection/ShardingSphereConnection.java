@@ -25,6 +25,8 @@ import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePrepar
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.driver.jdbc.exception.connection.ConnectionClosedException;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.datasource.DataNodeQueryExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCDataNodeQueryExecutor;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 
@@ -64,12 +66,16 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Getter
     private final ConnectionContext connectionContext;
     
+    @Getter
+    private final DataNodeQueryExecutor dataNodeQueryExecutor;
+    
     public ShardingSphereConnection(final String databaseName, final ContextManager contextManager, final JDBCContext jdbcContext) {
         this.databaseName = databaseName;
         this.contextManager = contextManager;
         this.jdbcContext = jdbcContext;
         connectionManager = new ConnectionManager(databaseName, contextManager);
         connectionContext = new ConnectionContext(connectionManager::getDataSourceNamesOfCachedConnections);
+        dataNodeQueryExecutor = new JDBCDataNodeQueryExecutor(contextManager.getExecutorEngine(), connectionManager);
     }
     
     /**
@@ -138,6 +144,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        connectionManager.waitBatchFlushesFinished();
         this.autoCommit = autoCommit;
         if (connectionManager.getConnectionTransaction().isLocalTransaction()) {
             processLocalTransaction();
@@ -170,6 +177,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void commit() throws SQLException {
+        connectionManager.waitBatchFlushesFinished();
         try {
             connectionManager.commit();
         } finally {
@@ -182,6 +190,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void rollback() throws SQLException {
+        connectionManager.waitBatchFlushesFinished();
         try {
             connectionManager.rollback();
         } finally {
@@ -195,12 +204,14 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public void rollback(final Savepoint savepoint) throws SQLException {
         checkClose();
+        connectionManager.waitBatchFlushesFinished();
         connectionManager.rollback(savepoint);
     }
     
     @Override
     public Savepoint setSavepoint(final String name) throws SQLException {
         checkClose();
+        connectionManager.waitBatchFlushesFinished();
         if (!isHoldTransaction()) {
             throw new SQLFeatureNotSupportedException("Savepoint can only be used in transaction blocks.");
         }
@@ -210,6 +221,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public Savepoint setSavepoint() throws SQLException {
         checkClose();
+        connectionManager.waitBatchFlushesFinished();
         ShardingSpherePreconditions.checkState(isHoldTransaction(), () -> new SQLFeatureNotSupportedException("Savepoint can only be used in transaction blocks."));
         return connectionManager.setSavepoint();
     }
@@ -217,6 +229,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public void releaseSavepoint(final Savepoint savepoint) throws SQLException {
         checkClose();
+        connectionManager.waitBatchFlushesFinished();
         if (!isHoldTransaction()) {
             return;
         }
@@ -235,6 +248,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void setTransactionIsolation(final int level) throws SQLException {
+        connectionManager.waitBatchFlushesFinished();
         transactionIsolation = level;
         connectionManager.setTransactionIsolation(level);
     }
@@ -246,6 +260,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     @Override
     public void setReadOnly(final boolean readOnly) throws SQLException {
+        connectionManager.waitBatchFlushesFinished();
         this.readOnly = readOnly;
         connectionManager.setReadOnly(readOnly);
     }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaDataBuilder
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderFactory;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
+import org.apache.shardingsphere.parser.warmup.SQLParserWarmUpEngine;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -73,7 +74,9 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
         databaseRuleConfigs.removeAll(globalRuleConfigs);
         ContextManagerBuilderParameter parameter = new ContextManagerBuilderParameter(modeConfig, Collections.singletonMap(databaseName,
                 new DataSourceProvidedDatabaseConfiguration(dataSourceMap, databaseRuleConfigs)), globalRuleConfigs, props, Collections.emptyList(), instanceMetaData, false);
-        return ContextManagerBuilderFactory.getInstance(modeConfig).build(parameter);
+        ContextManager result = ContextManagerBuilderFactory.getInstance(modeConfig).build(parameter);
+        SQLParserWarmUpEngine.warmUp(result.getMetaDataContexts().getMetaData());
+        return result;
     }
     
     @Override
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -41,10 +43,18 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
     
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
+    private final ConfigurationProperties props;
+    
+    public StatementManager(final ConfigurationProperties props) {
+        this.props = props;
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
-        return connection.createStatement(option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+        Statement result = connection.createStatement(option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+        setFetchSize(result, connectionMode);
+        return result;
     }
     
     @SuppressWarnings("MagicConstant")
@@ -61,11 +71,22 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
             } else {
                 result = connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
             }
+            setFetchSize(result, connectionMode);
             cachedStatements.put(new CacheKey(executionUnit, connectionMode), result);
         }
         return result;
     }
     
+    private void setFetchSize(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+            return;
+        }
+        int queryFetchSize = props.<Integer>getValue(ConfigurationPropertyKey.JDBC_QUERY_FETCH_SIZE);
+        if (-1 != queryFetchSize) {
+            statement.setFetchSize(queryFetchSize);
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         try {
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +49,24 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertPollUnflushedParameterSets() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(1)))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().add(2);
+        batchExecutionUnit.mapAddBatchCount(1);
+        assertThat(batchExecutionUnit.getUnflushedAddBatchTimes(), is(2));
+        assertThat(batchExecutionUnit.pollUnflushedParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(batchExecutionUnit.getUnflushedAddBatchTimes(), is(0));
+        assertTrue(batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().isEmpty());
+        batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().add(3);
+        batchExecutionUnit.mapAddBatchCount(2);
+        assertThat(batchExecutionUnit.getParameterSets(), is(Collections.singletonList(Collections.singletonList(3))));
+        assertThat(batchExecutionUnit.pollUnflushedParameterSets(), is(Collections.singletonList(Collections.singletonList(3))));
+        assertTrue(batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().isEmpty());
+        assertTrue(batchExecutionUnit.pollUnflushedParameterSets().isEmpty());
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,6 +80,6 @@ public final class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0, flushedAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
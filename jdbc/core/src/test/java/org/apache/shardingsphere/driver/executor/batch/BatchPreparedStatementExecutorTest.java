@@ -30,6 +30,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.junit.Test;
 import org.mockito.Mock;
 
@@ -37,17 +39,25 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,7 +74,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     public void setUp() throws SQLException {
         super.setUp();
         actual = spy(new BatchPreparedStatementExecutor(getConnection().getContextManager().getMetaDataContexts(), new JDBCExecutor(getExecutorEngine(), false), DefaultDatabase.LOGIC_NAME,
-                new EventBusContext()));
+                new EventBusContext(), getConnection().getConnectionManager(), false));
         when(sqlStatementContext.getTablesContext()).thenReturn(mock(TablesContext.class));
     }
     
@@ -129,6 +139,107 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteFlushedBatch() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{10, 20}, new int[]{30});
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1)));
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mock(DriverExecutionPrepareEngine.class);
+        JDBCExecutionUnit jdbcExecutionUnit = new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+        when(prepareEngine.prepare(any(), any())).thenReturn(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(jdbcExecutionUnit)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        assertFalse(actual.isFlushRequired(2));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        assertTrue(actual.isFlushRequired(2));
+        assertFalse(actual.isFlushed());
+        RouteContext routeContext = new RouteContext();
+        actual.flush(prepareEngine, routeContext, sqlStatementContext, 2);
+        assertTrue(actual.isFlushed());
+        assertFalse(actual.isFlushRequired(2));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(3))))));
+        assertThat(actual.executeFlushedBatch(prepareEngine, routeContext, sqlStatementContext), is(new int[]{10, 20, 30}));
+        verify(prepareEngine).prepare(any(), any());
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement).setObject(1, 3);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteFlushedBatchWithGeneratedKeys() throws SQLException {
+        BatchPreparedStatementExecutor executor = new BatchPreparedStatementExecutor(getConnection().getContextManager().getMetaDataContexts(),
+                new JDBCExecutor(getExecutorEngine(), false), DefaultDatabase.LOGIC_NAME, new EventBusContext(), getConnection().getConnectionManager(), true);
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1});
+        ResultSet firstGeneratedKeys = mockGeneratedKeys(1L, 2L);
+        ResultSet secondGeneratedKeys = mockGeneratedKeys(3L);
+        when(preparedStatement.getGeneratedKeys()).thenReturn(firstGeneratedKeys, secondGeneratedKeys);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mockPrepareEngine(preparedStatement);
+        RouteContext routeContext = new RouteContext();
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        executor.flush(prepareEngine, routeContext, sqlStatementContext, 2);
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(3))))));
+        assertThat(executor.executeFlushedBatch(prepareEngine, routeContext, sqlStatementContext), is(new int[]{1, 1, 1}));
+        assertThat(executor.getGeneratedKeys(), is(Arrays.<Comparable<?>>asList(1L, 2L, 3L)));
+        verify(firstGeneratedKeys).close();
+        verify(secondGeneratedKeys).close();
+        executor.clear();
+        assertTrue(executor.getGeneratedKeys().isEmpty());
+    }
+    
+    private ResultSet mockGeneratedKeys(final Object... keys) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        Iterator<Object> iterator = Arrays.asList(keys).iterator();
+        AtomicReference<Object> current = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current.set(iterator.next());
+            return true;
+        });
+        when(result.getObject(1)).thenAnswer(invocation -> current.get());
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertFlushFailureThrownByExecuteFlushedBatch() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        SQLException ex = new SQLException("flush failure");
+        when(preparedStatement.executeBatch()).thenThrow(ex);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = mockPrepareEngine(preparedStatement);
+        RouteContext routeContext = new RouteContext();
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        actual.flush(prepareEngine, routeContext, sqlStatementContext, 1);
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        actual.flush(prepareEngine, routeContext, sqlStatementContext, 1);
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit("DELETE FROM table_y WHERE id=?", new LinkedList<>(Collections.singletonList(3))))));
+        actual.flush(prepareEngine, routeContext, sqlStatementContext, 1);
+        try {
+            actual.executeFlushedBatch(prepareEngine, routeContext, sqlStatementContext);
+            fail("Expected flush failure.");
+        } catch (final SQLException actualException) {
+            assertThat(actualException, is(ex));
+        }
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> mockPrepareEngine(final PreparedStatement preparedStatement) throws SQLException {
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> result = mock(DriverExecutionPrepareEngine.class);
+        when(result.prepare(any(), any())).thenAnswer(invocation -> {
+            ExecutionUnit executionUnit = invocation.<Collection<ExecutionUnit>>getArgument(1).iterator().next();
+            JDBCExecutionUnit jdbcExecutionUnit = new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+            return new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(jdbcExecutionUnit))));
+        });
+        return result;
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.jdbc.core.connection;
 
 import com.zaxxer.hikari.HikariDataSource;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
@@ -41,16 +42,28 @@ import org.mockito.MockedStatic;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -229,4 +242,52 @@ public final class ConnectionManagerTest {
                     + "Please consider increasing the `maxPoolSize` of the data sources or decreasing the `max-connections-size-per-query` in properties."));
         }
     }
+    
+    @Test
+    public void assertGetConnectionsAfterBatchFlushFinished() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch flushLatch = new CountDownLatch(1);
+            Collection<String> executedOrder = new ConcurrentLinkedQueue<>();
+            connectionManager.submitBatchFlush("ds", () -> awaitFlush(flushLatch, executedOrder), executorService);
+            Future<?> otherStatementFuture = executorService.submit(() -> {
+                connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+                executedOrder.add("statement");
+                return null;
+            });
+            try {
+                otherStatementFuture.get(100L, TimeUnit.MILLISECONDS);
+                fail("Other statement should wait for batch flush.");
+            } catch (final TimeoutException ignored) {
+            }
+            flushLatch.countDown();
+            otherStatementFuture.get(10L, TimeUnit.SECONDS);
+            assertThat(new ArrayList<>(executedOrder), is(Arrays.asList("flush", "statement")));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private int[] awaitFlush(final CountDownLatch flushLatch, final Collection<String> executedOrder) {
+        flushLatch.await();
+        executedOrder.add("flush");
+        return new int[0];
+    }
+    
+    @Test
+    public void assertWaitBatchFlushesFinishedWithFailedFlush() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<int[]> failedFuture = connectionManager.submitBatchFlush("ds", () -> {
+                throw new IllegalStateException("failed");
+            }, executorService);
+            CompletableFuture<int[]> nextFuture = connectionManager.submitBatchFlush("ds", () -> new int[]{1}, executorService);
+            connectionManager.waitBatchFlushesFinished();
+            assertTrue(failedFuture.isCompletedExceptionally());
+            assertThat(nextFuture.join(), is(new int[]{1}));
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
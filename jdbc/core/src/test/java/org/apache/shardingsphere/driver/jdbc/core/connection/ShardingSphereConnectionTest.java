@@ -32,12 +32,17 @@ import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -45,6 +50,7 @@ import static org.junit.Assert.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,6 +130,30 @@ public final class ShardingSphereConnectionTest {
         verify(physicalConnection).commit();
     }
     
+    @Test
+    public void assertSetAutoCommitAfterBatchFlushFinished() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        when(connection.getContextManager().getDataSourceMap(DefaultDatabase.LOGIC_NAME).get("ds").getConnection()).thenReturn(physicalConnection);
+        connection.getConnectionManager().getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            connection.getConnectionManager().submitBatchFlush("ds", () -> executeBatchLater(preparedStatement), executorService);
+            connection.setAutoCommit(false);
+        } finally {
+            executorService.shutdown();
+        }
+        InOrder inOrder = inOrder(preparedStatement, physicalConnection);
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(physicalConnection).setAutoCommit(false);
+    }
+    
+    @SneakyThrows({InterruptedException.class, SQLException.class})
+    private int[] executeBatchLater(final PreparedStatement preparedStatement) {
+        TimeUnit.MILLISECONDS.sleep(100L);
+        return preparedStatement.executeBatch();
+    }
+    
     @Test
     public void assertCommitWithDistributedTransaction() throws SQLException {
         ConnectionTransaction connectionTransaction = mock(ConnectionTransaction.class);
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 
 import org.apache.shardingsphere.driver.fixture.keygen.ResetIncrementKeyGenerateAlgorithmFixture;
 import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForShardingTest;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -28,6 +31,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -51,6 +55,8 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
     
     private static final String INSERT_SINGLE_TABLE_SQL = "INSERT INTO t_role (user_name) VALUES (?)";
     
+    private static final String INSERT_AUTO_INCREMENT_SINGLE_TABLE_SQL = "INSERT INTO t_product (product_name) VALUES (?)";
+    
     private static final String SELECT_SQL_WITHOUT_PARAMETER_MARKER = "SELECT item_id FROM t_order_item WHERE user_id = %d AND order_id= %s AND status = 'BATCH'";
     
     private static final String SELECT_SQL_WITH_PARAMETER_MARKER = "SELECT item_id FROM t_order_item WHERE user_id = ? AND order_id= ? AND status = 'BATCH'";
@@ -541,6 +547,84 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         assertThat(count, is(result.size()));
     }
     
+    @Test
+    public void assertAddBatchWithFlushThreshold() throws SQLException {
+        try (Connection connection = getShardingSphereDataSource().getConnection()) {
+            Properties originalProps = setBatchFlushThreshold((ShardingSphereConnection) connection, 2);
+            try {
+                assertExecuteBatchAcrossFlushes(connection);
+            } finally {
+                ((ShardingSphereConnection) connection).getContextManager().alterProperties(originalProps);
+            }
+        }
+    }
+    
+    private void assertExecuteBatchAcrossFlushes(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_WITH_GENERATE_KEY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            int[][] rows = {{1, 11, 11}, {2, 12, 12}, {3, 21, 21}, {4, 22, 22}, {5, 11, 11}};
+            for (int[] each : rows) {
+                preparedStatement.setInt(1, each[0]);
+                preparedStatement.setInt(2, each[1]);
+                preparedStatement.setInt(3, each[2]);
+                preparedStatement.setString(4, "BATCH");
+                preparedStatement.addBatch();
+            }
+            assertThat(preparedStatement.executeBatch(), is(new int[]{1, 1, 1, 1, 1}));
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            for (int[] each : rows) {
+                assertTrue(generateKeyResultSet.next());
+                assertThat(generateKeyResultSet.getLong(1), is((long) each[0]));
+            }
+            assertFalse(generateKeyResultSet.next());
+        }
+        try (
+                Statement queryStatement = connection.createStatement();
+                ResultSet resultSet = queryStatement.executeQuery("SELECT COUNT(*) FROM t_order_item WHERE status = 'BATCH'")) {
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt(1), is(5));
+        }
+    }
+    
+    @Test
+    public void assertAddBatchWithFlushThresholdAndDatabaseGeneratedKeys() throws SQLException {
+        try (Connection connection = getShardingSphereDataSource().getConnection()) {
+            Properties originalProps = setBatchFlushThreshold((ShardingSphereConnection) connection, 2);
+            try {
+                assertExecuteBatchAcrossFlushesWithDatabaseGeneratedKeys(connection);
+            } finally {
+                ((ShardingSphereConnection) connection).getContextManager().alterProperties(originalProps);
+            }
+        }
+    }
+    
+    private void assertExecuteBatchAcrossFlushesWithDatabaseGeneratedKeys(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_AUTO_INCREMENT_SINGLE_TABLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < 5; i++) {
+                preparedStatement.setString(1, "product_" + i);
+                preparedStatement.addBatch();
+            }
+            assertThat(preparedStatement.executeBatch(), is(new int[]{1, 1, 1, 1, 1}));
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            assertTrue(generateKeyResultSet.next());
+            long firstKey = generateKeyResultSet.getLong(1);
+            for (int i = 1; i < 5; i++) {
+                assertTrue(generateKeyResultSet.next());
+                assertThat(generateKeyResultSet.getLong(1), is(firstKey + i));
+            }
+            assertFalse(generateKeyResultSet.next());
+        }
+    }
+    
+    private Properties setBatchFlushThreshold(final ShardingSphereConnection connection, final int batchFlushThreshold) {
+        ContextManager contextManager = connection.getContextManager();
+        Properties result = contextManager.getMetaDataContexts().getMetaData().getProps().getProps();
+        Properties props = new Properties();
+        props.putAll(result);
+        props.setProperty(ConfigurationPropertyKey.BATCH_FLUSH_THRESHOLD.getKey(), String.valueOf(batchFlushThreshold));
+        contextManager.alterProperties(props);
+        return result;
+    }
+    
     @Test
     public void assertClearBatch() throws SQLException {
         try (
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StatementManagerTest {
+    
+    private final StatementOption option = new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    
+    @Test
+    public void assertCreateStatementWithFetchSizeInMemoryStrictly() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(statement);
+        new StatementManager(createProperties("100")).createStorageResource(connection, ConnectionMode.MEMORY_STRICTLY, option, null);
+        verify(statement).setFetchSize(100);
+    }
+    
+    @Test
+    public void assertCreateStatementWithoutFetchSizeInConnectionStrictly() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(statement);
+        new StatementManager(createProperties("100")).createStorageResource(connection, ConnectionMode.CONNECTION_STRICTLY, option, null);
+        verify(statement, never()).setFetchSize(anyInt());
+    }
+    
+    @Test
+    public void assertCreatePreparedStatementWithFetchSizeInMemoryStrictly() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order", Collections.emptyList()));
+        new StatementManager(createProperties("100")).createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, option, null);
+        verify(preparedStatement).setFetchSize(100);
+    }
+    
+    @Test
+    public void assertCreatePreparedStatementWithoutFetchSizeInConnectionStrictly() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order", Collections.emptyList()));
+        new StatementManager(createProperties("100")).createStorageResource(executionUnit, connection, ConnectionMode.CONNECTION_STRICTLY, option, null);
+        verify(preparedStatement, never()).setFetchSize(anyInt());
+    }
+    
+    @Test
+    public void assertCreatePreparedStatementWithZeroFetchSize() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order", Collections.emptyList()));
+        new StatementManager(createProperties("0")).createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, option, null);
+        verify(preparedStatement).setFetchSize(0);
+    }
+    
+    @Test
+    public void assertCreatePreparedStatementWithDefaultFetchSize() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order", Collections.emptyList()));
+        new StatementManager(new ConfigurationProperties(new Properties())).createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, option, null);
+        verify(preparedStatement, never()).setFetchSize(anyInt());
+    }
+    
+    private ConfigurationProperties createProperties(final String queryFetchSize) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.JDBC_QUERY_FETCH_SIZE.getKey(), queryFetchSize);
+        return new ConfigurationProperties(result);
+    }
+}
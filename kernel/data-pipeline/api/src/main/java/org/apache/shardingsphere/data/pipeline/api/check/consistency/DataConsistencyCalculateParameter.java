@@ -73,4 +73,10 @@ public final class DataConsistencyCalculateParameter {
      * Previous calculated result will be transferred to next call.
      */
     private volatile Object previousCalculatedResult;
+    
+    /**
+     * Parameter of source side, it's set on target side.
+     * Unique key ranges could be derived from source side once and applied to both sides.
+     */
+    private volatile DataConsistencyCalculateParameter sourceParameter;
 }
@@ -17,10 +17,14 @@
 
 package org.apache.shardingsphere.data.pipeline.api.check.consistency;
 
+import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Data consistency content check result.
  */
@@ -30,4 +34,10 @@ import lombok.ToString;
 public final class DataConsistencyContentCheckResult {
     
     private final boolean matched;
+    
+    private final Collection<Range<Long>> mismatchedRanges;
+    
+    public DataConsistencyContentCheckResult(final boolean matched) {
+        this(matched, Collections.emptyList());
+    }
 }
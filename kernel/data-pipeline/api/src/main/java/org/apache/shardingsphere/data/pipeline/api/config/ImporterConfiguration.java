@@ -48,6 +48,8 @@ public final class ImporterConfiguration {
     
     private final int batchSize;
     
+    private final long compactionWindowMillis;
+    
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
     private final int retryTimes;
@@ -47,6 +47,11 @@ public final class DataRecord extends Record {
     
     private String tableName;
     
+    /**
+     * Values of not updated columns are absent, e.g. unchanged TOAST values of PostgreSQL, the record could only be applied by updating updated columns.
+     */
+    private boolean unchangedValuesAbsent;
+    
     public DataRecord(final IngestPosition<?> position, final int columnCount) {
         super(position);
         columns = new ArrayList<>(columnCount);
@@ -35,4 +35,6 @@ public final class InventoryIncrementalJobItemInfo {
     private final long startTimeMillis;
     
     private final String errorMessage;
+    
+    private final String rateLimitStatus;
 }
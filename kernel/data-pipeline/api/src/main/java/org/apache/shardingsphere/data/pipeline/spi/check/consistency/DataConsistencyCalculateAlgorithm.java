@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.spi.check.consistency;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.util.spi.aware.SPIMetadataAware;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Data consistency calculate algorithm.
@@ -37,6 +40,20 @@ public interface DataConsistencyCalculateAlgorithm extends ShardingSphereAlgorit
      */
     Iterable<DataConsistencyCalculatedResult> calculate(DataConsistencyCalculateParameter parameter);
     
+    /**
+     * Locate unique key ranges of mismatched records, which are covered by mismatched calculated results.
+     *
+     * @param sourceParameter data consistency calculate parameter of source side
+     * @param targetParameter data consistency calculate parameter of target side
+     * @param sourceCalculatedResult mismatched calculated result of source side
+     * @param targetCalculatedResult mismatched calculated result of target side
+     * @return unique key ranges of mismatched records, empty means not supported
+     */
+    default Collection<Range<Long>> locateMismatchedRanges(final DataConsistencyCalculateParameter sourceParameter, final DataConsistencyCalculateParameter targetParameter,
+                                                           final DataConsistencyCalculatedResult sourceCalculatedResult, final DataConsistencyCalculatedResult targetCalculatedResult) {
+        return Collections.emptyList();
+    }
+    
     /**
      * Cancel calculation.
      *
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.spi.ratelimit;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 
+import java.util.Optional;
+
 /**
  * Job rate limit algorithm.
  */
@@ -32,4 +34,24 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Call after intercepted operation executed.
+     *
+     * @param type job operation type
+     * @param recordCount count of records read or written by the operation
+     * @param elapsedMillis elapsed milliseconds of the operation
+     * @param succeeded whether the operation succeeded
+     */
+    default void onExecuted(final JobOperationType type, final int recordCount, final long elapsedMillis, final boolean succeeded) {
+    }
+    
+    /**
+     * Get status, includes current rate and the reason of it.
+     *
+     * @return status
+     */
+    default Optional<String> getStatus() {
+        return Optional.empty();
+    }
 }
@@ -54,25 +54,24 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
     String buildDivisibleInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery);
     
     /**
-     * Build indivisible inventory dump first SQL.
+     * Build insert SQL.
      *
      * @param schemaName schema name
-     * @param tableName table name
-     * @param uniqueKey unique key
-     * @param uniqueKeyDataType unique key data type
-     * @param firstQuery whether it's the first time query
-     * @return indivisible inventory dump SQL
+     * @param dataRecord data record
+     * @return insert SQL
      */
-    String buildIndivisibleInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery);
+    String buildInsertSQL(String schemaName, DataRecord dataRecord);
     
     /**
-     * Build insert SQL.
+     * Build upsert SQL, which inserts the record or overwrites all columns except unique key of the existing one.
      *
      * @param schemaName schema name
      * @param dataRecord data record
-     * @return insert SQL
+     * @return upsert SQL
      */
-    String buildInsertSQL(String schemaName, DataRecord dataRecord);
+    default Optional<String> buildUpsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return Optional.empty();
+    }
     
     /**
      * Build update SQL.
@@ -151,6 +150,53 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build split by string primary key range SQL, which returns minimum value, maximum value and count of next range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery first query
+     * @return split SQL
+     */
+    String buildSplitByStringPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey, boolean firstQuery);
+    
+    /**
+     * Build unique key range SQL, which returns minimum value, maximum value and count of unique key.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key range SQL
+     */
+    String buildUniqueKeyRangeSQL(String schemaName, String tableName, String uniqueKey);
+    
+    /**
+     * Build sample unique key SQL, which returns sampled unique key values in ascending order, with sampling percentage as parameter.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return sample unique key SQL
+     */
+    default Optional<String> buildSampleUniqueKeySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build SQL to get unique key value at offset from unique key value in ascending order, with unique key value and offset as parameters.
+     * 
+     * <p>It is used to split table by seeking on index ranges of unique key, instead of sampling rows of the whole table.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key at offset SQL
+     */
+    default Optional<String> buildUniqueKeyAtOffsetSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build CRC32 SQL.
      *
@@ -162,4 +208,19 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build range hash SQL, which returns records count and hash of records whose unique key is between lower bound and upper bound parameters.
+     *
+     * <p>Only aggregations which could be merged from sharded tables are used, so it could be executed on logic table too.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return range hash SQL
+     */
+    default Optional<String> buildRangeHashSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
 }
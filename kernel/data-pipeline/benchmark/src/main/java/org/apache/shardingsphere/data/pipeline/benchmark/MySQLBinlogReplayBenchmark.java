@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.internal.StringUtil;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogEventPacketDecoder;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of replaying MySQL binlog write rows events, decoded on event loop thread or on decode executor.
+ * 
+ * <p>Run {@code java -jar kernel/data-pipeline/benchmark/target/benchmarks.jar} after {@code mvn install -Pbenchmark -pl kernel/data-pipeline/benchmark -am}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MySQLBinlogReplayBenchmark {
+    
+    // Table map event of ds_1.t_order_1 (order_id BIGINT, user_id INT, status VARCHAR(200), t_numeric DECIMAL(10, 2)), table id is 123.
+    private static final String TABLE_MAP_EVENT = "3400cb38a962130100000041000000be7d000000007b000000000001000464735f310009745f6f726465725f31000408030ff604c8000a020c0101000201e0ff0a9b3a";
+    
+    private static final int CHECKSUM_LENGTH = 4;
+    
+    private static final int EVENTS_COUNT = 64;
+    
+    @Param({"1", "100"})
+    private int rowsCount;
+    
+    private ByteBuf events;
+    
+    private ThreadPoolExecutor decodeExecutor;
+    
+    private EmbeddedChannel sequentialChannel;
+    
+    private EmbeddedChannel parallelChannel;
+    
+    /**
+     * Set up binlog events and channels.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = createWriteRowsEvents();
+        int threads = Runtime.getRuntime().availableProcessors();
+        decodeExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10000),
+                ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"), new CallerRunsPolicy());
+        sequentialChannel = createChannel(new MySQLBinlogEventPacketDecoder(CHECKSUM_LENGTH, new ConcurrentHashMap<>()));
+        parallelChannel = createChannel(new MySQLBinlogEventPacketDecoder(CHECKSUM_LENGTH, new ConcurrentHashMap<>(), decodeExecutor));
+    }
+    
+    private ByteBuf createWriteRowsEvents() {
+        ByteBuf result = Unpooled.buffer();
+        int eventSize = MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH + 12 + 21 * rowsCount + CHECKSUM_LENGTH;
+        for (int i = 0; i < EVENTS_COUNT; i++) {
+            result.writeShort(0);
+            result.writeIntLE(1654273658);
+            result.writeByte(MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue());
+            result.writeIntLE(1);
+            result.writeIntLE(eventSize);
+            result.writeIntLE(eventSize * (i + 1));
+            result.writeShortLE(0);
+            result.writeMediumLE(123);
+            result.writeMediumLE(0);
+            result.writeShortLE(1);
+            result.writeShortLE(2);
+            result.writeByte(4);
+            result.writeByte(0xff);
+            for (int j = 0; j < rowsCount; j++) {
+                result.writeByte(0x08);
+                result.writeLongLE(j);
+                result.writeIntLE(j);
+                result.writeByte(7);
+                result.writeCharSequence("SUCCESS", StandardCharsets.UTF_8);
+            }
+            result.writeIntLE(0);
+        }
+        return result;
+    }
+    
+    private EmbeddedChannel createChannel(final MySQLBinlogEventPacketDecoder decoder) {
+        EmbeddedChannel result = new EmbeddedChannel();
+        result.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        result.pipeline().addLast(decoder);
+        result.writeInbound(Unpooled.wrappedBuffer(StringUtil.decodeHexDump(TABLE_MAP_EVENT)));
+        return result;
+    }
+    
+    /**
+     * Tear down channels and decode executor.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sequentialChannel.finishAndReleaseAll();
+        parallelChannel.finishAndReleaseAll();
+        decodeExecutor.shutdown();
+        events.release();
+    }
+    
+    /**
+     * Decode rows on event loop thread.
+     * 
+     * @return decoded rows count
+     */
+    @Benchmark
+    public int sequentialDecode() {
+        return replay(sequentialChannel);
+    }
+    
+    /**
+     * Decode rows on decode executor, and consume events in arrival order.
+     * 
+     * @return decoded rows count
+     */
+    @Benchmark
+    public int parallelDecode() {
+        return replay(parallelChannel);
+    }
+    
+    private int replay(final EmbeddedChannel channel) {
+        channel.writeInbound(events.retainedDuplicate());
+        int result = 0;
+        Object each;
+        while (null != (each = channel.readInbound())) {
+            Object event = each instanceof CompletableFuture ? ((CompletableFuture<?>) each).join() : each;
+            result += ((WriteRowsEvent) event).getAfterRows().size();
+        }
+        return result;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.data.pipeline.core.check.consistency.DataConsis
 import org.apache.shardingsphere.data.pipeline.core.config.process.PipelineProcessConfigurationUtil;
 import org.apache.shardingsphere.data.pipeline.core.context.InventoryIncrementalJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.context.InventoryIncrementalProcessContext;
+import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlInventoryIncrementalJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlInventoryIncrementalJobItemProgressSwapper;
 import org.apache.shardingsphere.data.pipeline.core.task.IncrementalTask;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.scenario.consistencycheck.ConsistencyCheckJobItemContext;
 import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithmFactory;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
@@ -54,6 +56,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -113,7 +116,7 @@ public abstract class AbstractInventoryIncrementalJobAPIImpl extends AbstractPip
         for (Entry<Integer, InventoryIncrementalJobItemProgress> entry : jobProgress.entrySet()) {
             int shardingItem = entry.getKey();
             String errorMessage = getJobItemErrorMessage(jobId, shardingItem);
-            InventoryIncrementalJobItemInfo progressInfo = new InventoryIncrementalJobItemInfo(shardingItem, entry.getValue(), startTimeMillis, errorMessage);
+            InventoryIncrementalJobItemInfo progressInfo = new InventoryIncrementalJobItemInfo(shardingItem, entry.getValue(), startTimeMillis, errorMessage, getRateLimitStatus(jobId, shardingItem));
             if (null == entry.getValue()) {
                 continue;
             }
@@ -137,6 +140,26 @@ public abstract class AbstractInventoryIncrementalJobAPIImpl extends AbstractPip
         PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobItemProgress(context.getJobId(), context.getShardingItem(), value);
     }
     
+    // Rate limit status is runtime state, it is only available for job items running on the current instance.
+    private String getRateLimitStatus(final String jobId, final int shardingItem) {
+        Optional<PipelineJobItemContext> jobItemContext = PipelineJobCenter.getJobItemContext(jobId, shardingItem);
+        if (!jobItemContext.isPresent() || !(jobItemContext.get() instanceof InventoryIncrementalJobItemContext)) {
+            return null;
+        }
+        InventoryIncrementalProcessContext processContext = ((InventoryIncrementalJobItemContext) jobItemContext.get()).getJobProcessContext();
+        if (null == processContext) {
+            return null;
+        }
+        Collection<String> result = new LinkedList<>();
+        getRateLimitStatus(processContext.getReadRateLimitAlgorithm()).ifPresent(optional -> result.add("read: " + optional));
+        getRateLimitStatus(processContext.getWriteRateLimitAlgorithm()).ifPresent(optional -> result.add("write: " + optional));
+        return result.isEmpty() ? null : String.join("; ", result);
+    }
+    
+    private Optional<String> getRateLimitStatus(final JobRateLimitAlgorithm rateLimitAlgorithm) {
+        return null == rateLimitAlgorithm ? Optional.empty() : rateLimitAlgorithm.getStatus();
+    }
+    
     private JobItemIncrementalTasksProgress getIncrementalTasksProgress(final Collection<IncrementalTask> incrementalTasks) {
         IncrementalTask incrementalTask = incrementalTasks.size() > 0 ? incrementalTasks.iterator().next() : null;
         return new JobItemIncrementalTasksProgress(null != incrementalTask ? incrementalTask.getTaskProgress() : null);
@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineJobUniqueKeyDataTypeException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedRangeHashDataConsistencyCalculateAlgorithmException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range hash match data consistency calculate algorithm.
+ *
+ * <p>Records are hashed by integer unique key range on database side, only count and hash of each range are transferred.
+ * Ranges are aligned to multiples of a power of two width, which is derived once from unique key span and records count of source side, and applied to both sides.
+ * The first range has no lower bound and the last range has no upper bound, so records of target side beyond unique key span of source side are still compared.
+ * Following ranges are calculated ahead on a bounded executor, at most {@code concurrency} ranges of each side are in flight.</p>
+ *
+ * <p>Mismatched range is bisected on both sides like a Merkle tree, to locate the small ranges which contain mismatched records.
+ * Ranges of the same depth are calculated on both sides concurrently.</p>
+ *
+ * <p>The executor is shut down on {@link #close()}.</p>
+ */
+@Slf4j
+public final class RangeHashMatchDataConsistencyCalculateAlgorithm extends AbstractDataConsistencyCalculateAlgorithm implements AutoCloseable {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Arrays.asList(
+            new MySQLDatabaseType().getType(), new PostgreSQLDatabaseType().getType(), new OpenGaussDatabaseType().getType());
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 4;
+    
+    private static final long MAX_RANGE_WIDTH = 1L << 62;
+    
+    private static final int MAX_LEAF_RECORDS_COUNT = 100;
+    
+    private static final int MAX_MISMATCHED_RANGES_COUNT = 100;
+    
+    @Getter
+    private Properties props;
+    
+    private int chunkSize;
+    
+    private int concurrency;
+    
+    private final Map<DataConsistencyCalculateParameter, UniqueKeyRanges> sourceUniqueKeyRanges = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private ThreadPoolExecutor executor;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        chunkSize = getChunkSize(props);
+        concurrency = getConcurrency(props);
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("range-hash-match-%d"));
+        executor.allowCoreThreadTimeOut(true);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    private int getConcurrency(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CONCURRENCY_KEY, DEFAULT_CONCURRENCY + ""));
+        if (result <= 0) {
+            log.warn("Invalid concurrency={}, use default value", result);
+            return DEFAULT_CONCURRENCY;
+        }
+        return result;
+    }
+    
+    @Override
+    public Iterable<DataConsistencyCalculatedResult> calculate(final DataConsistencyCalculateParameter parameter) {
+        return () -> new ResultIterator(parameter);
+    }
+    
+    private UniqueKeyRanges getUniqueKeyRanges(final DataConsistencyCalculateParameter parameter) {
+        DataConsistencyCalculateParameter sourceParameter = null == parameter.getSourceParameter() ? parameter : parameter.getSourceParameter();
+        return sourceUniqueKeyRanges.computeIfAbsent(sourceParameter, this::loadUniqueKeyRanges);
+    }
+    
+    private UniqueKeyRanges loadUniqueKeyRanges(final DataConsistencyCalculateParameter parameter) {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType());
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(
+                        sqlBuilder.buildUniqueKeyRangeSQL(parameter.getSchemaName(), parameter.getLogicTableName(), parameter.getUniqueKey().getName())));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || 0 == resultSet.getLong(3)) {
+                return new UniqueKeyRanges(Long.MIN_VALUE, MAX_RANGE_WIDTH, Long.MIN_VALUE);
+            }
+            long minUniqueKeyValue = resultSet.getLong(1);
+            long maxUniqueKeyValue = resultSet.getLong(2);
+            long rangeWidth = getRangeWidth(minUniqueKeyValue, maxUniqueKeyValue, resultSet.getLong(3));
+            return new UniqueKeyRanges(getAlignedLowerBound(minUniqueKeyValue, rangeWidth), rangeWidth, maxUniqueKeyValue);
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(parameter.getSchemaName(), parameter.getLogicTableName(), ex);
+        }
+    }
+    
+    private long getRangeWidth(final long minUniqueKeyValue, final long maxUniqueKeyValue, final long recordsCount) {
+        double expectedRangeWidth = ((double) maxUniqueKeyValue - minUniqueKeyValue + 1) * chunkSize / recordsCount;
+        return expectedRangeWidth >= MAX_RANGE_WIDTH ? MAX_RANGE_WIDTH : Math.max(1L, Long.highestOneBit((long) expectedRangeWidth));
+    }
+    
+    private long getAlignedLowerBound(final long minUniqueKeyValue, final long rangeWidth) {
+        long result = Math.floorDiv(minUniqueKeyValue, rangeWidth) * rangeWidth;
+        return result > minUniqueKeyValue ? Long.MIN_VALUE : result;
+    }
+    
+    private String getRangeHashSQL(final PipelineSQLBuilder sqlBuilder, final DataConsistencyCalculateParameter parameter) {
+        Optional<String> result = sqlBuilder.buildRangeHashSQL(parameter.getSchemaName(), parameter.getLogicTableName(), parameter.getColumnNames(), parameter.getUniqueKey().getName());
+        ShardingSpherePreconditions.checkState(result.isPresent(), () -> new UnsupportedRangeHashDataConsistencyCalculateAlgorithmException(parameter.getDatabaseType()));
+        return result.get();
+    }
+    
+    @Override
+    public Collection<Range<Long>> locateMismatchedRanges(final DataConsistencyCalculateParameter sourceParameter, final DataConsistencyCalculateParameter targetParameter,
+                                                          final DataConsistencyCalculatedResult sourceCalculatedResult, final DataConsistencyCalculatedResult targetCalculatedResult) {
+        if (!(sourceCalculatedResult instanceof CalculatedResult) || !(targetCalculatedResult instanceof CalculatedResult)) {
+            return Collections.emptyList();
+        }
+        CalculatedResult source = (CalculatedResult) sourceCalculatedResult;
+        CalculatedResult target = (CalculatedResult) targetCalculatedResult;
+        if (source.getLowerBound() != target.getLowerBound() || source.getUpperBound() != target.getUpperBound()) {
+            return Collections.singletonList(Range.closed(Math.min(source.getLowerBound(), target.getLowerBound()), Math.max(source.getUpperBound(), target.getUpperBound())));
+        }
+        String sourceRangeHashSQL = getRangeHashSQL(PipelineSQLBuilderFactory.getInstance(sourceParameter.getDatabaseType()), sourceParameter);
+        String targetRangeHashSQL = getRangeHashSQL(PipelineSQLBuilderFactory.getInstance(targetParameter.getDatabaseType()), targetParameter);
+        List<Range<Long>> result = new ArrayList<>();
+        List<Range<Long>> ranges = Collections.singletonList(Range.closed(source.getLowerBound(), source.getUpperBound()));
+        while (!ranges.isEmpty() && result.size() < MAX_MISMATCHED_RANGES_COUNT && !isCanceling()) {
+            List<Future<RangeHash>> sourceRangeHashes = submitRangeHashes(sourceParameter, sourceRangeHashSQL, ranges);
+            List<Future<RangeHash>> targetRangeHashes = submitRangeHashes(targetParameter, targetRangeHashSQL, ranges);
+            List<Range<Long>> nextRanges = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                RangeHash sourceRangeHash = waitFuture(sourceParameter, sourceRangeHashes.get(i));
+                RangeHash targetRangeHash = waitFuture(targetParameter, targetRangeHashes.get(i));
+                if (!sourceRangeHash.equals(targetRangeHash)) {
+                    bisect(ranges.get(i), Math.max(sourceRangeHash.getRecordsCount(), targetRangeHash.getRecordsCount()), result, nextRanges);
+                }
+            }
+            ranges = nextRanges.subList(0, Math.min(nextRanges.size(), Math.max(0, MAX_MISMATCHED_RANGES_COUNT - result.size())));
+        }
+        result.sort(Comparator.comparing(Range::lowerEndpoint));
+        return result.size() > MAX_MISMATCHED_RANGES_COUNT ? result.subList(0, MAX_MISMATCHED_RANGES_COUNT) : result;
+    }
+    
+    private List<Future<RangeHash>> submitRangeHashes(final DataConsistencyCalculateParameter parameter, final String sql, final List<Range<Long>> ranges) {
+        List<Future<RangeHash>> result = new ArrayList<>(ranges.size());
+        for (Range<Long> each : ranges) {
+            result.add(executor.submit(() -> calculateRangeHash(parameter, sql, each.lowerEndpoint(), each.upperEndpoint())));
+        }
+        return result;
+    }
+    
+    private RangeHash calculateRangeHash(final DataConsistencyCalculateParameter parameter, final String sql, final long lowerBound, final long upperBound) {
+        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(parameter.getSchemaName(), parameter.getLogicTableName()));
+        try (
+                Connection connection = parameter.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql))) {
+            preparedStatement.setLong(1, lowerBound);
+            preparedStatement.setLong(2, upperBound);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? new RangeHash(resultSet.getLong(1), resultSet.getString(2)) : new RangeHash(0, null);
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(parameter.getSchemaName(), parameter.getLogicTableName(), ex);
+        }
+    }
+    
+    private void bisect(final Range<Long> mismatchedRange, final long recordsCount, final Collection<Range<Long>> leafRanges, final Collection<Range<Long>> nextRanges) {
+        long lowerBound = mismatchedRange.lowerEndpoint();
+        long upperBound = mismatchedRange.upperEndpoint();
+        if (lowerBound == upperBound || recordsCount <= MAX_LEAF_RECORDS_COUNT) {
+            leafRanges.add(mismatchedRange);
+            return;
+        }
+        long middle = (lowerBound >> 1) + (upperBound >> 1) + (lowerBound & upperBound & 1);
+        nextRanges.add(Range.closed(lowerBound, middle));
+        nextRanges.add(Range.closed(middle + 1, upperBound));
+    }
+    
+    private <T> T waitFuture(final DataConsistencyCalculateParameter parameter, final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(parameter.getSchemaName(), parameter.getLogicTableName(), ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(parameter.getSchemaName(), parameter.getLogicTableName(), ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        sourceUniqueKeyRanges.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "RANGE_HASH_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match hash of records by unique key range.";
+    }
+    
+    /**
+     * It's not thread-safe, it should be iterated in only one thread at the same time.
+     */
+    @RequiredArgsConstructor
+    private final class ResultIterator implements Iterator<DataConsistencyCalculatedResult> {
+        
+        private final DataConsistencyCalculateParameter parameter;
+        
+        private final Deque<Future<CalculatedResult>> pendingResults = new LinkedList<>();
+        
+        private boolean initialized;
+        
+        private boolean submittedAll;
+        
+        private String rangeHashSQL;
+        
+        private UniqueKeyRanges uniqueKeyRanges;
+        
+        private long nextLowerBound;
+        
+        @Override
+        public boolean hasNext() {
+            submitIfNecessary();
+            return !pendingResults.isEmpty();
+        }
+        
+        @Override
+        public DataConsistencyCalculatedResult next() {
+            submitIfNecessary();
+            if (pendingResults.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return waitFuture(parameter, pendingResults.poll());
+        }
+        
+        private void submitIfNecessary() {
+            if (!initialized) {
+                initRanges();
+                initialized = true;
+            }
+            while (!submittedAll && pendingResults.size() < concurrency && !isCanceling()) {
+                long rangeWidth = uniqueKeyRanges.getRangeWidth();
+                final long lowerBound = uniqueKeyRanges.getAlignedLowerBound() == nextLowerBound ? Long.MIN_VALUE : nextLowerBound;
+                long upperBound = nextLowerBound > Long.MAX_VALUE - rangeWidth + 1 ? Long.MAX_VALUE : nextLowerBound + rangeWidth - 1;
+                if (upperBound >= uniqueKeyRanges.getMaxUniqueKeyValue()) {
+                    upperBound = Long.MAX_VALUE;
+                }
+                submittedAll = Long.MAX_VALUE == upperBound;
+                nextLowerBound = upperBound + 1;
+                long finalUpperBound = upperBound;
+                pendingResults.add(executor.submit(() -> calculateRange(lowerBound, finalUpperBound)));
+            }
+        }
+        
+        private void initRanges() {
+            int uniqueKeyDataType = parameter.getUniqueKey().getDataType();
+            ShardingSpherePreconditions.checkState(PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType), () -> new UnsupportedPipelineJobUniqueKeyDataTypeException(uniqueKeyDataType));
+            rangeHashSQL = getRangeHashSQL(PipelineSQLBuilderFactory.getInstance(parameter.getDatabaseType()), parameter);
+            uniqueKeyRanges = getUniqueKeyRanges(parameter);
+            nextLowerBound = uniqueKeyRanges.getAlignedLowerBound();
+        }
+        
+        private CalculatedResult calculateRange(final long lowerBound, final long upperBound) {
+            RangeHash rangeHash = calculateRangeHash(parameter, rangeHashSQL, lowerBound, upperBound);
+            return new CalculatedResult(lowerBound, upperBound, Math.toIntExact(rangeHash.getRecordsCount()), rangeHash.getHash(),
+                    uniqueKeyRanges.getRangeWidth(), uniqueKeyRanges.getMaxUniqueKeyValue());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UniqueKeyRanges {
+        
+        private final long alignedLowerBound;
+        
+        private final long rangeWidth;
+        
+        private final long maxUniqueKeyValue;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class RangeHash {
+        
+        private final long recordsCount;
+        
+        private final String hash;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        private final long lowerBound;
+        
+        private final long upperBound;
+        
+        private final int recordsCount;
+        
+        private final String hash;
+        
+        private final long rangeWidth;
+        
+        private final long maxUniqueKeyValue;
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (getClass() != o.getClass()) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (lowerBound != that.lowerBound || upperBound != that.upperBound || recordsCount != that.recordsCount) {
+                log.info("range or recordsCount not match, lowerBound1={}, lowerBound2={}, upperBound1={}, upperBound2={}, recordsCount1={}, recordsCount2={}",
+                        lowerBound, that.lowerBound, upperBound, that.upperBound, recordsCount, that.recordsCount);
+                return false;
+            }
+            if (!Objects.equals(hash, that.hash)) {
+                log.info("hash not match, lowerBound={}, upperBound={}, hash1={}, hash2={}", lowerBound, upperBound, hash, that.hash);
+                return false;
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(lowerBound);
+            result = 31 * result + Long.hashCode(upperBound);
+            result = 31 * result + recordsCount;
+            result = 31 * result + Objects.hashCode(hash);
+            return result;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExe
 import org.apache.shardingsphere.data.pipeline.api.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.CommitRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
@@ -48,7 +49,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -60,6 +64,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_WINDOW_BATCH_COUNT = 10;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -79,6 +85,12 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private volatile Statement batchDeleteStatement;
     
+    private boolean transactional;
+    
+    private int committedRecordsCount;
+    
+    private int uncommittedDataRecordsCount;
+    
     public DefaultImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel,
                            final PipelineJobProgressListener jobProgressListener) {
         this.importerConfig = importerConfig;
@@ -99,28 +111,71 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         int round = 1;
         int rowCount = 0;
         boolean finishedByBreak = false;
-        int batchSize = importerConfig.getBatchSize() * 2;
+        int batchSize = importerConfig.getBatchSize();
+        List<Record> window = new ArrayList<>(batchSize);
+        long windowStartMillis = System.currentTimeMillis();
         while (isRunning()) {
-            List<Record> records = channel.fetchRecords(batchSize, 3);
-            if (null != records && !records.isEmpty()) {
-                round++;
-                rowCount += records.size();
-                PipelineJobProgressUpdatedParameter updatedParameter = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                channel.ack(records);
-                jobProgressListener.onProgressUpdated(updatedParameter);
-                if (0 == round % 50) {
-                    log.info("importer write, round={}, rowCount={}", round, rowCount);
-                }
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    log.info("write, get FinishedRecord, break");
-                    finishedByBreak = true;
-                    break;
-                }
+            List<Record> records = channel.fetchRecords(batchSize, 1);
+            if (null != records) {
+                appendToWindow(window, records);
+            }
+            if (window.isEmpty()) {
+                windowStartMillis = System.currentTimeMillis();
+                continue;
+            }
+            boolean finished = FinishedRecord.class.equals(window.get(window.size() - 1).getClass());
+            if (!finished && window.size() < batchSize && System.currentTimeMillis() - windowStartMillis < importerConfig.getCompactionWindowMillis()) {
+                continue;
+            }
+            List<Record> committedRecords = pollCommittedRecords(window, finished);
+            if (committedRecords.isEmpty()) {
+                continue;
+            }
+            windowStartMillis = System.currentTimeMillis();
+            round++;
+            rowCount += committedRecords.size();
+            PipelineJobProgressUpdatedParameter updatedParameter = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), committedRecords);
+            channel.ack(committedRecords);
+            jobProgressListener.onProgressUpdated(updatedParameter);
+            if (0 == round % 50) {
+                log.info("importer write, round={}, rowCount={}", round, rowCount);
+            }
+            if (finished) {
+                log.info("write, get FinishedRecord, break");
+                finishedByBreak = true;
+                break;
             }
         }
         log.info("importer write done, rowCount={}, finishedByBreak={}", rowCount, finishedByBreak);
     }
     
+    private void appendToWindow(final List<Record> window, final List<Record> records) {
+        for (Record each : records) {
+            window.add(each);
+            if (each instanceof CommitRecord) {
+                transactional = true;
+                committedRecordsCount = window.size();
+                uncommittedDataRecordsCount = 0;
+            } else if (each instanceof DataRecord) {
+                uncommittedDataRecordsCount++;
+            }
+        }
+    }
+    
+    // Data records after the last commit record belong to a source transaction which is not complete in the window, they wait for the next window unless the window overflows.
+    private List<Record> pollCommittedRecords(final List<Record> window, final boolean finished) {
+        boolean flushAll = finished || !transactional || 0 == uncommittedDataRecordsCount || window.size() >= importerConfig.getBatchSize() * MAX_WINDOW_BATCH_COUNT;
+        int count = flushAll ? window.size() : committedRecordsCount;
+        List<Record> committedRecords = window.subList(0, count);
+        final List<Record> result = new ArrayList<>(committedRecords);
+        committedRecords.clear();
+        committedRecordsCount = 0;
+        if (flushAll) {
+            uncommittedDataRecordsCount = 0;
+        }
+        return result;
+    }
+    
     private PipelineJobProgressUpdatedParameter flush(final DataSource dataSource, final List<Record> buffer) {
         List<DataRecord> dataRecords = buffer.stream().filter(each -> each instanceof DataRecord).map(each -> (DataRecord) each).collect(Collectors.toList());
         int insertRecordNumber = 0;
@@ -129,27 +184,17 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
                 insertRecordNumber++;
             }
         }
-        List<GroupedDataRecord> result = MERGER.group(dataRecords);
-        for (GroupedDataRecord each : result) {
-            flushInternal(dataSource, each.getDeleteDataRecords());
-            flushInternal(dataSource, each.getInsertDataRecords());
-            flushInternal(dataSource, each.getUpdateDataRecords());
+        if (!dataRecords.isEmpty()) {
+            boolean success = tryFlush(dataSource, MERGER.group(dataRecords));
+            ShardingSpherePreconditions.checkState(!isRunning() || success, PipelineImporterJobWriteException::new);
         }
         return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
     }
     
-    private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
-        if (null == buffer || buffer.isEmpty()) {
-            return;
-        }
-        boolean success = tryFlush(dataSource, buffer);
-        ShardingSpherePreconditions.checkState(!isRunning() || success, PipelineImporterJobWriteException::new);
-    }
-    
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(dataSource, groupedDataRecords);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -159,38 +204,62 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+    // Net changes of the whole window are written in one transaction. Multiplex channel dispatches data records of one source transaction to several channels,
+    // and importer of each channel commits its part independently, so the target could expose a part of a source transaction for a while.
+    private void doFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
+            for (GroupedDataRecord each : groupedDataRecords) {
+                doFlush(connection, each.getDeleteDataRecords());
+                doFlush(connection, each.getInsertDataRecords());
+                doFlush(connection, each.getUpdateDataRecords());
+            }
+            connection.commit();
+        }
+    }
+    
+    private void doFlush(final Connection connection, final List<DataRecord> buffer) throws SQLException {
+        if (null == buffer || buffer.isEmpty()) {
+            return;
+        }
+        JobOperationType operationType = JobOperationType.valueOf(buffer.get(0).getType());
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(operationType, 1);
+        }
+        long startTimeMillis = System.currentTimeMillis();
+        try {
             switch (buffer.get(0).getType()) {
                 case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
                     executeBatchInsert(connection, buffer);
                     break;
                 case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
                     executeUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
                     executeBatchDelete(connection, buffer);
                     break;
                 default:
                     break;
             }
-            connection.commit();
+        } catch (final SQLException ex) {
+            onFlushExecuted(operationType, buffer.size(), startTimeMillis, false);
+            throw ex;
+        }
+        onFlushExecuted(operationType, buffer.size(), startTimeMillis, true);
+    }
+    
+    private void onFlushExecuted(final JobOperationType operationType, final int recordCount, final long startTimeMillis, final boolean succeeded) {
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.onExecuted(operationType, recordCount, System.currentTimeMillis() - startTimeMillis, succeeded);
         }
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
+        executeBatchInsert(connection, pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord), dataRecords);
+    }
+    
+    private void executeBatchInsert(final Connection connection, final String insertSql, final List<DataRecord> dataRecords) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             batchInsertStatement = ps;
             ps.setQueryTimeout(30);
@@ -211,8 +280,18 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.get(0);
+        Optional<String> upsertSQL = pipelineSqlBuilder.buildUpsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
+        List<DataRecord> upsertDataRecords = new ArrayList<>(dataRecords.size());
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            if (upsertSQL.isPresent() && isUpsertable(each)) {
+                upsertDataRecords.add(each);
+            } else {
+                executeUpdate(connection, each);
+            }
+        }
+        if (!upsertDataRecords.isEmpty()) {
+            executeBatchInsert(connection, upsertSQL.get(), upsertDataRecords);
         }
     }
     
@@ -242,6 +321,23 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         }
     }
     
+    // Records are merged to the latest full row image per unique key, so they could be written by a batched upsert unless the unique key or sharding columns moved the row.
+    private boolean isUpsertable(final DataRecord dataRecord) {
+        if (dataRecord.isUnchangedValuesAbsent()) {
+            return false;
+        }
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUniqueKey() && each.isUpdated() && !Objects.equals(each.getOldValue(), each.getValue())) {
+                return false;
+            }
+            if (!each.isUniqueKey() && each.isUpdated() && null != shardingColumns && shardingColumns.contains(each.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.CommitRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -64,7 +65,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void pushRecord(final Record record) {
-        if (FinishedRecord.class.equals(record.getClass())) {
+        if (FinishedRecord.class.equals(record.getClass()) || CommitRecord.class.equals(record.getClass())) {
             for (int i = 0; i < channelNumber; i++) {
                 pushRecord(record, i);
             }
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestExcep
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -62,6 +63,12 @@ import java.util.Optional;
 @Slf4j
 public final class InventoryDumper extends AbstractLifecycleExecutor implements Dumper {
     
+    private static final long FAST_ROUND_MILLIS = 1000L;
+    
+    private static final long SLOW_ROUND_MILLIS = 5000L;
+    
+    private static final int MAX_BATCH_SIZE_MULTIPLE = 8;
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration dumperConfig;
     
@@ -77,6 +84,8 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     
     private volatile Statement dumpStatement;
     
+    private int batchSize;
+    
     public InventoryDumper(final InventoryDumperConfiguration dumperConfig, final PipelineChannel channel, final DataSource dataSource, final PipelineTableMetaDataLoader metaDataLoader) {
         ShardingSpherePreconditions.checkState(StandardPipelineDataSourceConfiguration.class.equals(dumperConfig.getDataSourceConfig().getClass()),
                 () -> new UnsupportedSQLOperationException("AbstractInventoryDumper only support StandardPipelineDataSourceConfiguration"));
@@ -86,6 +95,7 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         sqlBuilder = PipelineSQLBuilderFactory.getInstance(dumperConfig.getDataSourceConfig().getDatabaseType().getType());
         columnValueReader = ColumnValueReaderFactory.getInstance(dumperConfig.getDataSourceConfig().getDatabaseType().getType());
         this.metaDataLoader = metaDataLoader;
+        batchSize = dumperConfig.getBatchSize();
     }
     
     @Override
@@ -122,26 +132,25 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     
     private String buildInventoryDumpSQL(final boolean firstQuery) {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
-        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
+        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType()) || PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())) {
             return sqlBuilder.buildDivisibleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), dumperConfig.getUniqueKeyDataType(), firstQuery);
         }
-        if (PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())) {
-            return sqlBuilder.buildIndivisibleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), dumperConfig.getUniqueKeyDataType(), firstQuery);
-        }
         throw new UnsupportedPipelineJobUniqueKeyDataTypeException(dumperConfig.getUniqueKeyDataType());
     }
     
     private Optional<Object> dump(final PipelineTableMetaData tableMetaData, final Connection connection, final String sql, final Object beginUniqueKeyValue, final int round) throws SQLException {
-        if (null != dumperConfig.getRateLimitAlgorithm()) {
-            dumperConfig.getRateLimitAlgorithm().intercept(JobOperationType.SELECT, 1);
+        JobRateLimitAlgorithm rateLimitAlgorithm = dumperConfig.getRateLimitAlgorithm();
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
         }
-        int batchSize = dumperConfig.getBatchSize();
+        long startTimeMillis = System.currentTimeMillis();
+        int rowCount = 0;
+        boolean succeeded = false;
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
             dumpStatement = preparedStatement;
-            setParameters(preparedStatement, batchSize, beginUniqueKeyValue);
+            setParameters(preparedStatement, beginUniqueKeyValue);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                int rowCount = 0;
                 Object maxUniqueKeyValue = null;
                 while (resultSet.next()) {
                     channel.pushRecord(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
@@ -156,24 +165,35 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
                     log.info("Dumping, round={}, rowCount={}, maxUniqueKeyValue={}.", round, rowCount, maxUniqueKeyValue);
                 }
                 dumpStatement = null;
+                if (batchSize == rowCount) {
+                    adjustBatchSize(System.currentTimeMillis() - startTimeMillis);
+                }
+                succeeded = true;
                 return Optional.ofNullable(maxUniqueKeyValue);
             }
+        } finally {
+            if (null != rateLimitAlgorithm) {
+                rateLimitAlgorithm.onExecuted(JobOperationType.SELECT, rowCount, System.currentTimeMillis() - startTimeMillis, succeeded);
+            }
+        }
+    }
+    
+    private void adjustBatchSize(final long roundCostMillis) {
+        if (roundCostMillis < FAST_ROUND_MILLIS) {
+            batchSize = Math.min(batchSize * 2, dumperConfig.getBatchSize() * MAX_BATCH_SIZE_MULTIPLE);
+        } else if (roundCostMillis > SLOW_ROUND_MILLIS) {
+            batchSize = Math.max(batchSize / 2, dumperConfig.getBatchSize());
         }
     }
     
-    private void setParameters(final PreparedStatement preparedStatement, final int batchSize, final Object beginUniqueKeyValue) throws SQLException {
+    private void setParameters(final PreparedStatement preparedStatement, final Object beginUniqueKeyValue) throws SQLException {
         preparedStatement.setFetchSize(batchSize);
-        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
+        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType()) || PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())) {
             preparedStatement.setObject(1, beginUniqueKeyValue);
             preparedStatement.setObject(2, ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
             preparedStatement.setInt(3, batchSize);
             return;
         }
-        if (PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())) {
-            preparedStatement.setObject(1, beginUniqueKeyValue);
-            preparedStatement.setInt(2, batchSize);
-            return;
-        }
         throw new UnsupportedPipelineJobUniqueKeyDataTypeException(dumperConfig.getUniqueKeyDataType());
     }
     
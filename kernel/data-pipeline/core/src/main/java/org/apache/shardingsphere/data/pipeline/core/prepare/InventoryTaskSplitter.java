@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.prepare;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
@@ -42,15 +43,19 @@ import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -59,6 +64,14 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final String LEGACY_STRING_PRIMARY_KEY_BEGIN_VALUE = "!";
+    
+    private static final String LEGACY_STRING_PRIMARY_KEY_END_VALUE = "~";
+    
+    private static final int SAMPLES_PER_RANGE = 100;
+    
+    private static final int MAX_SAMPLE_SIZE = 100000;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -142,7 +155,10 @@ public final class InventoryTaskSplitter {
         InventoryIncrementalJobItemProgress initProgress = jobItemContext.getInitProgress();
         if (null != initProgress && initProgress.getStatus() != JobStatus.PREPARING_FAILURE) {
             // Do NOT filter FinishedPosition here, since whole inventory tasks are required in job progress when persisting to register center.
-            return initProgress.getInventory().getInventoryPosition(dumperConfig.getActualTableName()).values();
+            Collection<IngestPosition<?>> result = initProgress.getInventory().getInventoryPosition(dumperConfig.getActualTableName()).values();
+            return isLegacyStringPrimaryKeyPosition(result)
+                    ? migrateLegacyStringPrimaryKeyPosition(jobItemContext, dataSource, dumperConfig, (StringPrimaryKeyPosition) result.iterator().next())
+                    : result;
         }
         int uniqueKeyDataType = dumperConfig.getUniqueKeyDataType();
         if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
@@ -196,24 +212,187 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private boolean isLegacyStringPrimaryKeyPosition(final Collection<IngestPosition<?>> positions) {
+        if (1 != positions.size()) {
+            return false;
+        }
+        IngestPosition<?> position = positions.iterator().next();
+        return position instanceof StringPrimaryKeyPosition && LEGACY_STRING_PRIMARY_KEY_END_VALUE.equals(((StringPrimaryKeyPosition) position).getEndValue());
+    }
+    
+    private Collection<IngestPosition<?>> migrateLegacyStringPrimaryKeyPosition(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                                final InventoryDumperConfiguration dumperConfig, final StringPrimaryKeyPosition position) {
+        // Previous version persisted one unbounded position ending with '~', bound it by current maximum value, later inserted records are synchronized by incremental task
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        try (Connection connection = dataSource.getConnection()) {
+            UniqueKeyRange range = getUniqueKeyRange(connection, sqlBuilder.buildUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()));
+            if (0 == range.getCount()) {
+                return Collections.singletonList(new StringPrimaryKeyPosition("", ""));
+            }
+            String beginValue = LEGACY_STRING_PRIMARY_KEY_BEGIN_VALUE.equals(position.getBeginValue()) ? range.getMinimumValue() : position.getBeginValue();
+            log.info("Migrate legacy string primary key position, tableName={}, beginValue={}, endValue={}", dumperConfig.getActualTableName(), beginValue, range.getMaximumValue());
+            return Collections.singletonList(new StringPrimaryKeyPosition(beginValue, range.getMaximumValue()));
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
+        }
+    }
+    
     private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                              final InventoryDumperConfiguration dumperConfig) {
-        PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         String actualTableName = dumperConfig.getActualTableName();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType()).buildCountSQL(schemaName, actualTableName);
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement ps = connection.prepareStatement(sql)) {
-            try (ResultSet rs = ps.executeQuery()) {
-                rs.next();
-                jobItemContext.updateInventoryRecordsCount(rs.getLong(1));
+        String uniqueKey = dumperConfig.getUniqueKey();
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        try (Connection connection = dataSource.getConnection()) {
+            UniqueKeyRange range = getUniqueKeyRange(connection, sqlBuilder.buildUniqueKeyRangeSQL(schemaName, actualTableName, uniqueKey));
+            jobItemContext.updateInventoryRecordsCount(range.getCount());
+            Optional<String> sampleSQL = sqlBuilder.buildSampleUniqueKeySQL(schemaName, actualTableName, uniqueKey);
+            Optional<String> uniqueKeyAtOffsetSQL = sqlBuilder.buildUniqueKeyAtOffsetSQL(schemaName, actualTableName, uniqueKey);
+            String laterSQL = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(schemaName, actualTableName, uniqueKey, false);
+            if (0 == range.getCount()) {
+                // fix empty table missing inventory task
+                result.add(new StringPrimaryKeyPosition("", ""));
+            } else if (range.getCount() <= shardingSize) {
+                result.add(new StringPrimaryKeyPosition(range.getMinimumValue(), range.getMaximumValue()));
+            } else if (sampleSQL.isPresent()) {
+                result.addAll(getPositionBySampledStringPrimaryKey(connection, sampleSQL.get(), laterSQL, range, shardingSize));
+            } else if (uniqueKeyAtOffsetSQL.isPresent()) {
+                result.addAll(getPositionBySeekingStringPrimaryKey(connection, uniqueKeyAtOffsetSQL.get(), range, shardingSize));
+            } else {
+                String firstSQL = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(schemaName, actualTableName, uniqueKey, true);
+                result.addAll(getPositionByWalkingStringPrimaryKey(connection, firstSQL, laterSQL, shardingSize));
             }
         } catch (final SQLException ex) {
-            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
+            throw new SplitPipelineJobByUniqueKeyException(actualTableName, uniqueKey, ex);
+        }
+        return result;
+    }
+    
+    private UniqueKeyRange getUniqueKeyRange(final Connection connection, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? new UniqueKeyRange(resultSet.getString(1), resultSet.getString(2), resultSet.getLong(3)) : new UniqueKeyRange(null, null, 0L);
         }
+    }
+    
+    private Collection<IngestPosition<?>> getPositionBySampledStringPrimaryKey(final Connection connection, final String sampleSQL, final String laterSQL,
+                                                                               final UniqueKeyRange range, final int shardingSize) throws SQLException {
+        long rangeCount = (range.getCount() + shardingSize - 1) / shardingSize;
+        List<String> samples = sampleStringPrimaryKey(connection, sampleSQL, range.getCount(), rangeCount);
         Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition("!", "~"));
+        String beginValue = range.getMinimumValue();
+        int previousIndex = -1;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(laterSQL)) {
+            for (long i = 1; i < rangeCount; i++) {
+                int index = (int) Math.min(i * shardingSize * samples.size() / range.getCount(), samples.size()) - 1;
+                if (index <= previousIndex) {
+                    continue;
+                }
+                previousIndex = index;
+                String endValue = samples.get(index);
+                result.add(new StringPrimaryKeyPosition(beginValue, endValue));
+                Optional<String> nextValue = getNextStringPrimaryKey(preparedStatement, endValue);
+                if (!nextValue.isPresent()) {
+                    return result;
+                }
+                beginValue = nextValue.get();
+            }
+        }
+        result.add(new StringPrimaryKeyPosition(beginValue, range.getMaximumValue()));
         return result;
     }
+    
+    private List<String> sampleStringPrimaryKey(final Connection connection, final String sampleSQL, final long recordsCount, final long rangeCount) throws SQLException {
+        long sampleSize = Math.min(recordsCount, Math.min(rangeCount * SAMPLES_PER_RANGE, MAX_SAMPLE_SIZE));
+        List<String> result = new ArrayList<>((int) sampleSize);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sampleSQL)) {
+            preparedStatement.setDouble(1, Math.min(100D, sampleSize * 100D / recordsCount));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString(1));
+                }
+            }
+        }
+        log.info("Sampled string primary key, recordsCount={}, rangeCount={}, sampleSize={}", recordsCount, rangeCount, result.size());
+        return result;
+    }
+    
+    private Optional<String> getNextStringPrimaryKey(final PreparedStatement preparedStatement, final String value) throws SQLException {
+        preparedStatement.setString(1, value);
+        preparedStatement.setLong(2, 1L);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() && 0 != resultSet.getLong(3) ? Optional.of(resultSet.getString(1)) : Optional.empty();
+        }
+    }
+    
+    private Collection<IngestPosition<?>> getPositionBySeekingStringPrimaryKey(final Connection connection, final String uniqueKeyAtOffsetSQL,
+                                                                               final UniqueKeyRange range, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        String beginValue = range.getMinimumValue();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(uniqueKeyAtOffsetSQL)) {
+            while (true) {
+                Optional<String> endValue = getStringPrimaryKeyAtOffset(preparedStatement, beginValue, shardingSize - 1);
+                if (!endValue.isPresent()) {
+                    result.add(new StringPrimaryKeyPosition(beginValue, range.getMaximumValue()));
+                    return result;
+                }
+                result.add(new StringPrimaryKeyPosition(beginValue, endValue.get()));
+                Optional<String> nextValue = getStringPrimaryKeyAtOffset(preparedStatement, endValue.get(), 1L);
+                if (!nextValue.isPresent()) {
+                    return result;
+                }
+                beginValue = nextValue.get();
+            }
+        }
+    }
+    
+    private Optional<String> getStringPrimaryKeyAtOffset(final PreparedStatement preparedStatement, final String value, final long offset) throws SQLException {
+        preparedStatement.setString(1, value);
+        preparedStatement.setLong(2, offset);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+        }
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByWalkingStringPrimaryKey(final Connection connection, final String firstSQL, final String laterSQL, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        try (
+                PreparedStatement firstStatement = connection.prepareStatement(firstSQL);
+                PreparedStatement laterStatement = connection.prepareStatement(laterSQL)) {
+            String endValue = null;
+            while (true) {
+                PreparedStatement ps = null == endValue ? firstStatement : laterStatement;
+                if (null == endValue) {
+                    ps.setLong(1, shardingSize);
+                } else {
+                    ps.setString(1, endValue);
+                    ps.setLong(2, shardingSize);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next() || 0 == rs.getLong(3)) {
+                        break;
+                    }
+                    String beginValue = rs.getString(1);
+                    endValue = rs.getString(2);
+                    result.add(new StringPrimaryKeyPosition(beginValue, endValue));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UniqueKeyRange {
+        
+        private final String minimumValue;
+        
+        private final String maximumValue;
+        
+        private final long count;
+    }
 }
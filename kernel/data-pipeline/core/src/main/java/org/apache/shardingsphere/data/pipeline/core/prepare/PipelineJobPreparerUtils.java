@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.prepare;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
@@ -27,6 +28,10 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.Shardi
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobItemIncrementalTasksProgress;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.TableName;
 import org.apache.shardingsphere.data.pipeline.core.check.datasource.DataSourceCheckerFactory;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.prepare.datasource.DataSourcePreparer;
@@ -49,6 +54,7 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -135,11 +141,23 @@ public final class PipelineJobPreparerUtils {
         String databaseType = dumperConfig.getDataSourceConfig().getDatabaseType().getType();
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         long startTimeMillis = System.currentTimeMillis();
-        IngestPosition<?> result = PositionInitializerFactory.getInstance(databaseType).init(dataSource, dumperConfig.getJobId());
+        IngestPosition<?> result = PositionInitializerFactory.getInstance(databaseType).init(dataSource, dumperConfig.getJobId(), getSchemaTableNames(dumperConfig));
         log.info("getIncrementalPosition cost {} ms", System.currentTimeMillis() - startTimeMillis);
         return result;
     }
     
+    private static Collection<SchemaTableName> getSchemaTableNames(final DumperConfiguration dumperConfig) {
+        Collection<SchemaTableName> result = new LinkedList<>();
+        if (null == dumperConfig.getTableNameMap()) {
+            return result;
+        }
+        for (ActualTableName each : dumperConfig.getTableNameMap().keySet()) {
+            String schemaName = null == dumperConfig.getTableNameSchemaNameMapping() ? null : dumperConfig.getSchemaName(each);
+            result.add(new SchemaTableName(new SchemaName(Strings.emptyToNull(schemaName)), new TableName(each.getOriginal())));
+        }
+        return result;
+    }
+    
     /**
      * Check data source.
      *
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive job rate limit algorithm for SPI.
+ *
+ * <p>Permits are counted as queries for read and records for write, and default to the rates of QPS and TPS algorithms.
+ * Write operations are intercepted once per batch like TPS algorithm, so the records of a batch beyond the first one are reported by {@link #onExecuted}
+ * and acquired by the next intercepted write operation.
+ * Permits per second are increased additively while operations are healthy, and decreased multiplicatively when latency or error rate exceeds its threshold.
+ * Latency is measured as milliseconds per 1000 records read or written, so it does not depend on batch size.</p>
+ */
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String INITIAL_PERMITS_KEY = "initial-permits";
+    
+    private static final String MIN_PERMITS_KEY = "min-permits";
+    
+    private static final String MAX_PERMITS_KEY = "max-permits";
+    
+    private static final String INCREASE_STEP_KEY = "increase-step";
+    
+    private static final String DECREASE_FACTOR_KEY = "decrease-factor";
+    
+    private static final String LATENCY_THRESHOLD_MILLIS_KEY = "latency-threshold-millis";
+    
+    private static final String ERROR_RATE_THRESHOLD_KEY = "error-rate-threshold";
+    
+    private static final double DEFAULT_READ_PERMITS = 50D;
+    
+    private static final double DEFAULT_WRITE_PERMITS = 2000D;
+    
+    private static final long ADJUST_INTERVAL_MILLIS = 1000L;
+    
+    private static final int MIN_WINDOW_OPERATION_COUNT = 5;
+    
+    private double decreaseFactor = 0.5D;
+    
+    private long latencyThresholdMillis = 1000L;
+    
+    private double errorRateThreshold = 0.2D;
+    
+    private double minPermits;
+    
+    private double maxPermits;
+    
+    private double increaseStep;
+    
+    private volatile RateLimiter rateLimiter;
+    
+    private long windowStartMillis;
+    
+    private int windowOperationCount;
+    
+    private int windowFailureCount;
+    
+    private long windowRecordCount;
+    
+    private long windowElapsedMillis;
+    
+    private final AtomicLong pendingWritePermits = new AtomicLong();
+    
+    private volatile String status;
+    
+    @Getter
+    private Properties props = new Properties();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        decreaseFactor = getDoubleProperty(props, DECREASE_FACTOR_KEY, decreaseFactor);
+        latencyThresholdMillis = (long) getDoubleProperty(props, LATENCY_THRESHOLD_MILLIS_KEY, latencyThresholdMillis);
+        errorRateThreshold = getDoubleProperty(props, ERROR_RATE_THRESHOLD_KEY, errorRateThreshold);
+    }
+    
+    private double getDoubleProperty(final Properties props, final String key, final double defaultValue) {
+        String value = props.getProperty(key);
+        return Strings.isNullOrEmpty(value) ? defaultValue : Double.parseDouble(value);
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        long permits = null != data ? Math.max(1, data.intValue()) : 1;
+        if (JobOperationType.SELECT != type) {
+            permits += pendingWritePermits.getAndSet(0L);
+        }
+        getRateLimiter(type).acquire((int) Math.min(Integer.MAX_VALUE, permits));
+    }
+    
+    // The algorithm is configured for either read or write, which is only known by the first intercepted operation.
+    private RateLimiter getRateLimiter(final JobOperationType type) {
+        if (null == rateLimiter) {
+            synchronized (this) {
+                if (null == rateLimiter) {
+                    double initialPermits = getDoubleProperty(props, INITIAL_PERMITS_KEY, JobOperationType.SELECT == type ? DEFAULT_READ_PERMITS : DEFAULT_WRITE_PERMITS);
+                    minPermits = getDoubleProperty(props, MIN_PERMITS_KEY, initialPermits / 10);
+                    maxPermits = getDoubleProperty(props, MAX_PERMITS_KEY, initialPermits * 10);
+                    increaseStep = getDoubleProperty(props, INCREASE_STEP_KEY, initialPermits / 20);
+                    initialPermits = Math.min(maxPermits, Math.max(minPermits, initialPermits));
+                    windowStartMillis = System.currentTimeMillis();
+                    status = formatStatus(initialPermits, "initial");
+                    rateLimiter = RateLimiter.create(initialPermits);
+                }
+            }
+        }
+        return rateLimiter;
+    }
+    
+    @Override
+    public synchronized void onExecuted(final JobOperationType type, final int recordCount, final long elapsedMillis, final boolean succeeded) {
+        if (null == rateLimiter) {
+            return;
+        }
+        if (JobOperationType.SELECT != type && recordCount > 1) {
+            pendingWritePermits.addAndGet(recordCount - 1);
+        }
+        windowOperationCount++;
+        windowRecordCount += recordCount;
+        windowElapsedMillis += elapsedMillis;
+        if (!succeeded) {
+            windowFailureCount++;
+        }
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - windowStartMillis < ADJUST_INTERVAL_MILLIS || windowOperationCount < MIN_WINDOW_OPERATION_COUNT) {
+            return;
+        }
+        adjustPermits();
+        windowStartMillis = currentMillis;
+        windowOperationCount = 0;
+        windowFailureCount = 0;
+        windowRecordCount = 0L;
+        windowElapsedMillis = 0L;
+    }
+    
+    private void adjustPermits() {
+        double currentPermits = rateLimiter.getRate();
+        double errorRate = (double) windowFailureCount / windowOperationCount;
+        long latencyMillis = 0L == windowRecordCount ? 0L : windowElapsedMillis * 1000L / windowRecordCount;
+        double nextPermits;
+        String reason;
+        if (errorRate > errorRateThreshold) {
+            nextPermits = Math.max(minPermits, currentPermits * decreaseFactor);
+            reason = String.format("error rate %.2f exceeded %.2f", errorRate, errorRateThreshold);
+        } else if (latencyMillis > latencyThresholdMillis) {
+            nextPermits = Math.max(minPermits, currentPermits * decreaseFactor);
+            reason = String.format("latency %d ms per 1000 records exceeded %d ms", latencyMillis, latencyThresholdMillis);
+        } else {
+            nextPermits = Math.min(maxPermits, currentPermits + increaseStep);
+            reason = String.format("healthy with latency %d ms per 1000 records", latencyMillis);
+        }
+        if (nextPermits != currentPermits) {
+            rateLimiter.setRate(nextPermits);
+        }
+        status = formatStatus(nextPermits, reason);
+    }
+    
+    private String formatStatus(final double permits, final String reason) {
+        return String.format("permits-per-second=%d, reason=%s", (long) permits, reason);
+    }
+    
+    @Override
+    public Optional<String> getStatus() {
+        return Optional.ofNullable(status);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public String toString() {
+        return "AdaptiveJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
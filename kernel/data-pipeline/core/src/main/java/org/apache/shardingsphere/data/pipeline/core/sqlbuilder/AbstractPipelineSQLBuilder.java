@@ -63,13 +63,6 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT * FROM %s WHERE %s%s? AND %s<=? ORDER BY %s ASC LIMIT ?", qualifiedTableName, quotedUniqueKey, firstQuery ? ">=" : ">", quotedUniqueKey, quotedUniqueKey);
     }
     
-    @Override
-    public String buildIndivisibleInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
-        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
-        String quotedUniqueKey = quote(uniqueKey);
-        return String.format("SELECT * FROM %s WHERE %s%s? ORDER BY %s ASC LIMIT ?", qualifiedTableName, quotedUniqueKey, firstQuery ? ">=" : ">", quotedUniqueKey);
-    }
-    
     protected final String getQualifiedTableName(final String schemaName, final String tableName) {
         StringBuilder result = new StringBuilder();
         if (DatabaseTypeFactory.getInstance(getType()).isSchemaAvailable() && !Strings.isNullOrEmpty(schemaName)) {
@@ -175,4 +168,21 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey, final boolean firstQuery) {
+        String quotedUniqueKey = quote(primaryKey);
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        return firstQuery
+                ? String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM (SELECT %s FROM %s ORDER BY %s LIMIT ?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey)
+                : String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>? ORDER BY %s LIMIT ?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
+    }
+    
+    @Override
+    public String buildUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
+    }
 }
@@ -33,13 +33,6 @@ public final class OraclePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
                 qualifiedTableName, quotedUniqueKey, firstQuery ? ">=" : ">", quotedUniqueKey, quotedUniqueKey);
     }
     
-    @Override
-    public String buildIndivisibleInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
-        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
-        String quotedUniqueKey = quote(uniqueKey);
-        return String.format("SELECT * FROM (SELECT * FROM %s WHERE %s%s? ORDER BY %s ASC) WHERE ROWNUM<=?", qualifiedTableName, quotedUniqueKey, firstQuery ? ">=" : ">", quotedUniqueKey);
-    }
-    
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
         return super.buildInsertSQL(schemaName, dataRecord);
@@ -69,6 +62,17 @@ public final class OraclePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
                 quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
     }
     
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey, final boolean firstQuery) {
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        String quotedUniqueKey = quote(primaryKey);
+        return firstQuery
+                ? String.format("SELECT MIN(%s), MAX(%s), COUNT(1) FROM (SELECT * FROM (SELECT %s FROM %s ORDER BY %s) WHERE ROWNUM<=?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey)
+                : String.format("SELECT MIN(%s), MAX(%s), COUNT(1) FROM (SELECT * FROM (SELECT %s FROM %s WHERE %s>? ORDER BY %s) WHERE ROWNUM<=?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
+    }
+    
     @Override
     public String getType() {
         return "Oracle";
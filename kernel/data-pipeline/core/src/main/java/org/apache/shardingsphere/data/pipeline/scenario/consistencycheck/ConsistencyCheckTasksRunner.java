@@ -102,11 +102,29 @@ public final class ConsistencyCheckTasksRunner implements PipelineTasksRunner {
             DataConsistencyCalculateAlgorithm calculateAlgorithm = jobAPI.buildDataConsistencyCalculateAlgorithm(
                     parentJobConfig, checkJobConfig.getAlgorithmTypeName(), checkJobConfig.getAlgorithmProps());
             setCalculateAlgorithm(calculateAlgorithm);
-            Map<String, DataConsistencyCheckResult> dataConsistencyCheckResult = jobAPI.dataConsistencyCheck(parentJobConfig, calculateAlgorithm, jobItemContext);
+            Map<String, DataConsistencyCheckResult> dataConsistencyCheckResult;
+            try {
+                dataConsistencyCheckResult = jobAPI.dataConsistencyCheck(parentJobConfig, calculateAlgorithm, jobItemContext);
+            } finally {
+                close(calculateAlgorithm);
+            }
             PipelineAPIFactory.getGovernanceRepositoryAPI().persistCheckJobResult(parentJobId, checkJobId, dataConsistencyCheckResult);
             jobItemContext.setCheckEndTimeMillis(System.currentTimeMillis());
         }
         
+        private void close(final DataConsistencyCalculateAlgorithm calculateAlgorithm) {
+            if (!(calculateAlgorithm instanceof AutoCloseable)) {
+                return;
+            }
+            try {
+                ((AutoCloseable) calculateAlgorithm).close();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("close calculate algorithm failed, algorithm={}", calculateAlgorithm, ex);
+            }
+        }
+        
         @Override
         protected void doStop() throws SQLException {
             DataConsistencyCalculateAlgorithm algorithm = calculateAlgorithm;
@@ -220,11 +220,12 @@ public final class MigrationJobAPIImpl extends AbstractInventoryIncrementalJobAP
     private ImporterConfiguration buildImporterConfiguration(final MigrationJobConfiguration jobConfig, final PipelineProcessConfiguration pipelineProcessConfig,
                                                              final Map<LogicTableName, Set<String>> shardingColumnsMap, final TableNameSchemaNameMapping tableNameSchemaNameMapping) {
         int batchSize = pipelineProcessConfig.getWrite().getBatchSize();
+        long compactionWindowMillis = pipelineProcessConfig.getWrite().getCompactionWindowMillis();
         int retryTimes = jobConfig.getRetryTimes();
         int concurrency = jobConfig.getConcurrency();
         MigrationProcessContext migrationProcessContext = new MigrationProcessContext(jobConfig.getJobId(), pipelineProcessConfig);
-        return new ImporterConfiguration(jobConfig.getTarget(), unmodifiable(shardingColumnsMap), tableNameSchemaNameMapping, batchSize, migrationProcessContext.getWriteRateLimitAlgorithm(),
-                retryTimes, concurrency);
+        return new ImporterConfiguration(jobConfig.getTarget(), unmodifiable(shardingColumnsMap), tableNameSchemaNameMapping, batchSize, compactionWindowMillis,
+                migrationProcessContext.getWriteRateLimitAlgorithm(), retryTimes, concurrency);
     }
     
     private Map<LogicTableName, Set<String>> unmodifiable(final Map<LogicTableName, Set<String>> shardingColumnsMap) {
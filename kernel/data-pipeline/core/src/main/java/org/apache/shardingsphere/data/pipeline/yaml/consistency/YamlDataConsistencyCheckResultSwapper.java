@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.yaml.consistency;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCountCheckResult;
@@ -25,6 +27,11 @@ import org.apache.shardingsphere.data.pipeline.yaml.consistency.YamlDataConsiste
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Yaml data consistency check result swapper.
  */
@@ -40,6 +47,9 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         result.setCountCheckResult(countCheckResult);
         YamlDataConsistencyContentCheckResult contentCheckResult = new YamlDataConsistencyContentCheckResult();
         contentCheckResult.setMatched(data.getContentCheckResult().isMatched());
+        if (!data.getContentCheckResult().getMismatchedRanges().isEmpty()) {
+            contentCheckResult.setMismatchedRanges(data.getContentCheckResult().getMismatchedRanges().stream().map(this::swapToYamlRange).collect(Collectors.toList()));
+        }
         result.setContentCheckResult(contentCheckResult);
         return result;
     }
@@ -51,7 +61,11 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         }
         YamlDataConsistencyCountCheckResult yamlCountCheck = yamlConfig.getCountCheckResult();
         DataConsistencyCountCheckResult countCheckResult = new DataConsistencyCountCheckResult(yamlCountCheck.getSourceRecordsCount(), yamlCountCheck.getTargetRecordsCount());
-        DataConsistencyContentCheckResult contentCheckResult = new DataConsistencyContentCheckResult(yamlConfig.getContentCheckResult().isMatched());
+        YamlDataConsistencyContentCheckResult yamlContentCheck = yamlConfig.getContentCheckResult();
+        Collection<Range<Long>> mismatchedRanges = null == yamlContentCheck.getMismatchedRanges()
+                ? Collections.emptyList()
+                : yamlContentCheck.getMismatchedRanges().stream().map(this::swapToRange).collect(Collectors.toList());
+        DataConsistencyContentCheckResult contentCheckResult = new DataConsistencyContentCheckResult(yamlContentCheck.isMatched(), mismatchedRanges);
         return new DataConsistencyCheckResult(countCheckResult, contentCheckResult);
     }
     
@@ -64,4 +78,13 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
     public DataConsistencyCheckResult swapToObject(final String parameter) {
         return swapToObject(YamlEngine.unmarshal(parameter, YamlDataConsistencyCheckResult.class, true));
     }
+    
+    private String swapToYamlRange(final Range<Long> range) {
+        return range.lowerEndpoint() + ".." + range.upperEndpoint();
+    }
+    
+    private Range<Long> swapToRange(final String yamlRange) {
+        List<String> endpoints = Splitter.on("..").trimResults().splitToList(yamlRange);
+        return Range.closed(Long.parseLong(endpoints.get(0)), Long.parseLong(endpoints.get(1)));
+    }
 }
@@ -33,10 +33,14 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     
     private static final Integer DEFAULT_BATCH_SIZE = 1000;
     
+    private static final Long DEFAULT_COMPACTION_WINDOW_MILLIS = 3000L;
+    
     private Integer workerThread;
     
     private Integer batchSize;
     
+    private Long compactionWindowMillis;
+    
     private YamlAlgorithmConfiguration rateLimiter;
     
     /**
@@ -48,6 +52,7 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         YamlPipelineWriteConfiguration result = new YamlPipelineWriteConfiguration();
         result.workerThread = DEFAULT_WORKER_THREAD;
         result.batchSize = DEFAULT_BATCH_SIZE;
+        result.compactionWindowMillis = DEFAULT_COMPACTION_WINDOW_MILLIS;
         return result;
     }
     
@@ -61,6 +66,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         if (null == batchSize) {
             batchSize = DEFAULT_BATCH_SIZE;
         }
+        if (null == compactionWindowMillis) {
+            compactionWindowMillis = DEFAULT_COMPACTION_WINDOW_MILLIS;
+        }
     }
     
     /**
@@ -78,6 +86,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
         if (null != another.batchSize) {
             batchSize = another.batchSize;
         }
+        if (null != another.compactionWindowMillis) {
+            compactionWindowMillis = another.compactionWindowMillis;
+        }
         if (null != another.rateLimiter) {
             rateLimiter = another.rateLimiter;
         }
@@ -96,6 +107,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
             case "BATCH_SIZE":
                 batchSize = null;
                 break;
+            case "COMPACTION_WINDOW_MILLIS":
+                compactionWindowMillis = null;
+                break;
             case "RATE_LIMITER":
                 rateLimiter = null;
                 break;
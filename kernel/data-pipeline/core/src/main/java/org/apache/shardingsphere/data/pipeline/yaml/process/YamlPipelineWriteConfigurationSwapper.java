@@ -36,6 +36,7 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
         YamlPipelineWriteConfiguration result = new YamlPipelineWriteConfiguration();
         result.setWorkerThread(data.getWorkerThread());
         result.setBatchSize(data.getBatchSize());
+        result.setCompactionWindowMillis(data.getCompactionWindowMillis());
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
         return result;
     }
@@ -44,6 +45,7 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
     public PipelineWriteConfiguration swapToObject(final YamlPipelineWriteConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getCompactionWindowMillis(),
+                        algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
     }
 }
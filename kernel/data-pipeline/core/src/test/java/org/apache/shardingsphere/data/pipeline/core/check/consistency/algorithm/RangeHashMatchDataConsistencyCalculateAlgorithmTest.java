@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.RangeHashMatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineJobUniqueKeyDataTypeException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class RangeHashMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static final String UNIQUE_KEY_RANGE_SQL = "SELECT UNIQUE_KEY_RANGE FROM foo_tbl";
+    
+    private static final String RANGE_HASH_SQL = "SELECT RANGE_HASH FROM foo_tbl WHERE id>=? AND id<=?";
+    
+    private DataConsistencyCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    private RangeHashMatchDataConsistencyCalculateAlgorithm algorithm;
+    
+    @Before
+    public void setUp() throws SQLException {
+        parameter = createParameter(pipelineDataSource, Types.INTEGER);
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        algorithm = new RangeHashMatchDataConsistencyCalculateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("chunk-size", "10");
+        algorithm.init(props);
+    }
+    
+    @After
+    public void tearDown() {
+        algorithm.close();
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final PipelineDataSourceWrapper dataSource, final int uniqueKeyDataType) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", uniqueKeyDataType, "integer", false, true, true);
+        return new DataConsistencyCalculateParameter(dataSource, null, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", uniqueKey);
+    }
+    
+    @Test
+    public void assertCalculateSuccess() throws SQLException {
+        PreparedStatement uniqueKeyRangePreparedStatement = mockUniqueKeyRangePreparedStatement(1L, 20L, 20L);
+        when(connection.prepareStatement(UNIQUE_KEY_RANGE_SQL)).thenReturn(uniqueKeyRangePreparedStatement);
+        when(connection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(20L, each -> false));
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        assertCalculatedResult((CalculatedResult) actual.next(), Long.MIN_VALUE, 7L, 7, "0");
+        assertCalculatedResult((CalculatedResult) actual.next(), 8L, 15L, 8, "0");
+        assertCalculatedResult((CalculatedResult) actual.next(), 16L, Long.MAX_VALUE, 5, "20");
+        assertFalse(actual.hasNext());
+    }
+    
+    private void assertCalculatedResult(final CalculatedResult actual, final long lowerBound, final long upperBound, final int recordsCount, final String hash) {
+        assertThat(actual.getLowerBound(), is(lowerBound));
+        assertThat(actual.getUpperBound(), is(upperBound));
+        assertThat(actual.getRecordsCount(), is(recordsCount));
+        assertThat(actual.getHash(), is(hash));
+    }
+    
+    @Test
+    public void assertCalculateWithRangesOfSourceSide() throws SQLException {
+        PreparedStatement uniqueKeyRangePreparedStatement = mockUniqueKeyRangePreparedStatement(1L, 20L, 20L);
+        when(connection.prepareStatement(UNIQUE_KEY_RANGE_SQL)).thenReturn(uniqueKeyRangePreparedStatement);
+        when(connection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(20L, each -> false));
+        PipelineDataSourceWrapper targetDataSource = mock(PipelineDataSourceWrapper.class);
+        Connection targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(40L, each -> false));
+        DataConsistencyCalculateParameter targetParameter = createParameter(targetDataSource, Types.INTEGER);
+        targetParameter.setSourceParameter(parameter);
+        Iterator<DataConsistencyCalculatedResult> sourceResults = algorithm.calculate(parameter).iterator();
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(targetParameter).iterator();
+        while (sourceResults.hasNext()) {
+            CalculatedResult sourceResult = (CalculatedResult) sourceResults.next();
+            CalculatedResult targetResult = (CalculatedResult) actual.next();
+            assertThat(targetResult.getLowerBound(), is(sourceResult.getLowerBound()));
+            assertThat(targetResult.getUpperBound(), is(sourceResult.getUpperBound()));
+        }
+        assertFalse(actual.hasNext());
+        verify(targetConnection, never()).prepareStatement(UNIQUE_KEY_RANGE_SQL);
+    }
+    
+    @Test
+    public void assertCalculateWithEmptyTable() throws SQLException {
+        PreparedStatement uniqueKeyRangePreparedStatement = mockUniqueKeyRangePreparedStatement(0L, 0L, 0L);
+        when(connection.prepareStatement(UNIQUE_KEY_RANGE_SQL)).thenReturn(uniqueKeyRangePreparedStatement);
+        when(connection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(0L, each -> false));
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        assertCalculatedResult((CalculatedResult) actual.next(), Long.MIN_VALUE, Long.MAX_VALUE, 0, "0");
+        assertFalse(actual.hasNext());
+    }
+    
+    private PreparedStatement mockUniqueKeyRangePreparedStatement(final long minUniqueKeyValue, final long maxUniqueKeyValue, final long recordsCount) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(minUniqueKeyValue);
+        when(resultSet.getLong(2)).thenReturn(maxUniqueKeyValue);
+        when(resultSet.getLong(3)).thenReturn(recordsCount);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    @Test(expected = UnsupportedPipelineJobUniqueKeyDataTypeException.class)
+    public void assertCalculateWithStringUniqueKey() {
+        algorithm.calculate(createParameter(pipelineDataSource, Types.VARCHAR)).iterator().hasNext();
+    }
+    
+    @Test(expected = PipelineTableDataConsistencyCheckLoadingFailedException.class)
+    public void assertCalculateFailed() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        algorithm.calculate(parameter).iterator().hasNext();
+    }
+    
+    @Test
+    public void assertLocateMismatchedRanges() throws SQLException {
+        assertThat(locateMismatchedRanges(each -> 150L == each), is(Collections.singletonList(Range.closed(128L, 191L))));
+    }
+    
+    @Test
+    public void assertLocateMismatchedRangesOfDifferentDepths() throws SQLException {
+        assertThat(locateMismatchedRanges(each -> 20L == each || 280L == each), is(Arrays.asList(Range.closed(0L, 63L), Range.closed(256L, 511L))));
+    }
+    
+    private Collection<Range<Long>> locateMismatchedRanges(final LongPredicate changedUniqueKeyValue) throws SQLException {
+        when(connection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(300L, each -> false));
+        PipelineDataSourceWrapper targetDataSource = mock(PipelineDataSourceWrapper.class);
+        Connection targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(RANGE_HASH_SQL)).thenAnswer(invocation -> mockRangeHashPreparedStatement(300L, changedUniqueKeyValue));
+        return algorithm.locateMismatchedRanges(parameter, createParameter(targetDataSource, Types.INTEGER),
+                new CalculatedResult(0L, 511L, 300, "1", 512L, 300L), new CalculatedResult(0L, 511L, 300, "2", 512L, 300L));
+    }
+    
+    @Test
+    public void assertLocateMismatchedRangesWithMisalignedRanges() {
+        Collection<Range<Long>> actual = algorithm.locateMismatchedRanges(parameter, parameter,
+                new CalculatedResult(0L, 511L, 300, "1", 512L, 300L), new CalculatedResult(0L, 255L, 300, "1", 256L, 300L));
+        assertThat(actual, is(Collections.singletonList(Range.closed(0L, 511L))));
+    }
+    
+    private PreparedStatement mockRangeHashPreparedStatement(final long maxUniqueKeyValue, final LongPredicate changedUniqueKeyValue) throws SQLException {
+        AtomicLong lowerBound = new AtomicLong();
+        AtomicLong upperBound = new AtomicLong();
+        PreparedStatement result = mock(PreparedStatement.class);
+        doAnswer(invocation -> {
+            lowerBound.set(invocation.getArgument(1));
+            return null;
+        }).when(result).setLong(eq(1), anyLong());
+        doAnswer(invocation -> {
+            upperBound.set(invocation.getArgument(1));
+            return null;
+        }).when(result).setLong(eq(2), anyLong());
+        when(result.executeQuery()).thenAnswer(invocation -> mockRangeHashResultSet(lowerBound.get(), upperBound.get(), maxUniqueKeyValue, changedUniqueKeyValue));
+        return result;
+    }
+    
+    private ResultSet mockRangeHashResultSet(final long lowerBound, final long upperBound, final long maxUniqueKeyValue, final LongPredicate changedUniqueKeyValue) throws SQLException {
+        long recordsCount = 0L;
+        long hash = 0L;
+        for (long each = Math.max(1L, lowerBound); each <= Math.min(maxUniqueKeyValue, upperBound); each++) {
+            recordsCount++;
+            hash ^= changedUniqueKeyValue.test(each) ? -each : each;
+        }
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn(recordsCount);
+        when(result.getString(2)).thenReturn(String.valueOf(hash));
+        return result;
+    }
+    
+    @Test
+    public void assertCalculatedResultEquals() {
+        assertThat(new CalculatedResult(0L, 9L, 10, "123", 10L, 100L), is(new CalculatedResult(0L, 9L, 10, "123", 10L, 100L)));
+        assertThat(new CalculatedResult(0L, 9L, 10, "123", 10L, 100L), not(new CalculatedResult(0L, 9L, 10, "456", 10L, 100L)));
+        assertThat(new CalculatedResult(0L, 9L, 10, "123", 10L, 100L), not(new CalculatedResult(0L, 19L, 10, "123", 20L, 100L)));
+        assertThat(new CalculatedResult(0L, 9L, 10, "123", 10L, 100L), not(new CalculatedResult(0L, 9L, 9, "123", 10L, 100L)));
+    }
+}
@@ -33,11 +33,6 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
-    @Override
-    public String buildIndivisibleInventoryDumpSQL(final String schemaName, final String tableName, final String uniqueKey, final int uniqueKeyDataType, final boolean firstQuery) {
-        return "";
-    }
-    
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
         return "";
@@ -83,11 +78,26 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String schemaName, final String tableName, final String primaryKey, final boolean firstQuery) {
+        return "";
+    }
+    
+    @Override
+    public String buildUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return String.format("SELECT UNIQUE_KEY_RANGE FROM %s", tableName);
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey) {
+        return Optional.of(String.format("SELECT RANGE_HASH FROM %s WHERE %s>=? AND %s<=?", tableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "FIXTURE";
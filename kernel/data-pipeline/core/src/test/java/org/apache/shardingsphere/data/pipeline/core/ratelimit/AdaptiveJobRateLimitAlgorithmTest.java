@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    private AdaptiveJobRateLimitAlgorithm algorithm;
+    
+    @Before
+    public void setUp() {
+        algorithm = new AdaptiveJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("initial-permits", "1000");
+        props.setProperty("min-permits", "300");
+        props.setProperty("max-permits", "1050");
+        props.setProperty("latency-threshold-millis", "500");
+        algorithm.init(props);
+        algorithm.intercept(JobOperationType.INSERT, 1);
+    }
+    
+    @Test
+    public void assertGetInitialStatus() {
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1000, reason=initial"));
+    }
+    
+    @Test
+    public void assertGetDefaultWritePermits() {
+        AdaptiveJobRateLimitAlgorithm algorithm = new AdaptiveJobRateLimitAlgorithm();
+        algorithm.init(new Properties());
+        assertFalse(algorithm.getStatus().isPresent());
+        algorithm.intercept(JobOperationType.INSERT, 1);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=2000, reason=initial"));
+    }
+    
+    @Test
+    public void assertGetDefaultReadPermits() {
+        AdaptiveJobRateLimitAlgorithm algorithm = new AdaptiveJobRateLimitAlgorithm();
+        algorithm.init(new Properties());
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=50, reason=initial"));
+    }
+    
+    @Test
+    public void assertIncreasePermitsWhenHealthy() {
+        executeAfterAdjustInterval(10L, 1000, 0);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1050, reason=healthy with latency 10 ms per 1000 records"));
+        executeAfterAdjustInterval(10L, 1000, 0);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1050, reason=healthy with latency 10 ms per 1000 records"));
+    }
+    
+    @Test
+    public void assertDecreasePermitsWhenFailed() {
+        executeAfterAdjustInterval(10L, 1000, 5);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=500, reason=error rate 1.00 exceeded 0.20"));
+        executeAfterAdjustInterval(10L, 1000, 5);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=300, reason=error rate 1.00 exceeded 0.20"));
+    }
+    
+    @Test
+    public void assertNotDecreasePermitsWhenSingleFailed() {
+        executeAfterAdjustInterval(10L, 1000, 1);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1050, reason=healthy with latency 10 ms per 1000 records"));
+    }
+    
+    @Test
+    public void assertDecreasePermitsWhenLatencyExceeded() {
+        executeAfterAdjustInterval(800L, 1000, 0);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=500, reason=latency 800 ms per 1000 records exceeded 500 ms"));
+    }
+    
+    @Test
+    public void assertNotDecreasePermitsForLargeBatch() {
+        executeAfterAdjustInterval(800L, 10000, 0);
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1050, reason=healthy with latency 80 ms per 1000 records"));
+    }
+    
+    @Test
+    public void assertNotAdjustPermitsWithinInterval() {
+        for (int i = 0; i < 5; i++) {
+            algorithm.onExecuted(JobOperationType.INSERT, 1000, 800L, false);
+        }
+        assertThat(algorithm.getStatus().orElse(""), is("permits-per-second=1000, reason=initial"));
+    }
+    
+    @Test
+    public void assertInterceptWriteWithRecordsOfExecutedBatch() throws ReflectiveOperationException {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        ReflectionUtil.setFieldValue(algorithm, "rateLimiter", rateLimiter);
+        algorithm.intercept(JobOperationType.INSERT, 1);
+        verify(rateLimiter).acquire(1);
+        algorithm.onExecuted(JobOperationType.INSERT, 1000, 10L, true);
+        algorithm.intercept(JobOperationType.UPDATE, 1);
+        verify(rateLimiter).acquire(1000);
+    }
+    
+    @Test
+    public void assertInterceptReadWithoutRecordsOfExecutedQuery() throws ReflectiveOperationException {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        ReflectionUtil.setFieldValue(algorithm, "rateLimiter", rateLimiter);
+        algorithm.onExecuted(JobOperationType.SELECT, 1000, 10L, true);
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        verify(rateLimiter).acquire(1);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void executeAfterAdjustInterval(final long elapsedMillis, final int recordCount, final int failureCount) {
+        ReflectionUtil.setFieldValue(algorithm, "windowStartMillis", 0L);
+        for (int i = 0; i < 5; i++) {
+            algorithm.onExecuted(JobOperationType.INSERT, recordCount, elapsedMillis, i >= failureCount);
+        }
+    }
+}
@@ -43,6 +43,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getCompactionWindowMillis(), is(3000L));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("50"));
@@ -73,7 +74,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         rateLimiterProps.setProperty("batch-size", "1000");
         rateLimiterProps.setProperty("qps", "50");
         PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000, new AlgorithmConfiguration("INPUT", rateLimiterProps));
-        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, new AlgorithmConfiguration("OUTPUT", rateLimiterProps));
+        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, 3000L, new AlgorithmConfiguration("OUTPUT", rateLimiterProps));
         Properties streamChannelProps = new Properties();
         streamChannelProps.setProperty("block-queue-size", "10000");
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig, new AlgorithmConfiguration("MEMORY", streamChannelProps));
@@ -86,6 +87,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getCompactionWindowMillis(), is(3000L));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("50"));
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.IncrementalDump
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.CommitRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -43,6 +44,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteR
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.XidEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.ConnectInfo;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandler;
@@ -52,6 +54,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -61,6 +64,10 @@ import java.util.Optional;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final int EVENT_BATCH_SIZE = 1000;
+    
+    private static final long PLACEHOLDER_FLUSH_INTERVAL_MILLIS = 1000L;
+    
     private final DumperConfiguration dumperConfig;
     
     private final BinlogPosition binlogPosition;
@@ -73,6 +80,12 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private AbstractBinlogEvent pendingPlaceholderEvent;
+    
+    private long lastPlaceholderFlushMillis;
+    
+    private boolean uncommittedDataRecordPushed;
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -93,21 +106,30 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
         int eventCount = 0;
         while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
-            if (null == event) {
-                continue;
+            List<AbstractBinlogEvent> events = client.poll(EVENT_BATCH_SIZE);
+            for (AbstractBinlogEvent each : events) {
+                eventCount += handleEvent(each);
+            }
+            if (events.isEmpty() || System.currentTimeMillis() - lastPlaceholderFlushMillis >= PLACEHOLDER_FLUSH_INTERVAL_MILLIS) {
+                flushPlaceholderRecord();
             }
-            eventCount += handleEvent(event);
         }
+        flushPlaceholderRecord();
         log.info("incremental dump, eventCount={}", eventCount);
         channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
     
     private int handleEvent(final AbstractBinlogEvent event) {
+        if (event instanceof XidEvent) {
+            handleXidEvent((XidEvent) event);
+            return 0;
+        }
         if (event instanceof PlaceholderEvent || !((AbstractRowsEvent) event).getDatabaseName().equals(catalog) || !dumperConfig.containsTable(((AbstractRowsEvent) event).getTableName())) {
-            createPlaceholderRecord(event);
+            pendingPlaceholderEvent = event;
             return 0;
         }
+        pendingPlaceholderEvent = null;
+        uncommittedDataRecordPushed = true;
         if (event instanceof WriteRowsEvent) {
             PipelineTableMetaData tableMetaData = getPipelineTableMetaData(((WriteRowsEvent) event).getTableName());
             handleWriteRowsEvent((WriteRowsEvent) event, tableMetaData);
@@ -126,12 +148,30 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         return 0;
     }
     
-    private void createPlaceholderRecord(final AbstractBinlogEvent event) {
-        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+    // Transactions without data record of the job are coalesced as placeholder, the others end with a commit record to keep the transaction boundary for importers.
+    private void handleXidEvent(final XidEvent event) {
+        if (!uncommittedDataRecordPushed) {
+            pendingPlaceholderEvent = event;
+            return;
+        }
+        uncommittedDataRecordPushed = false;
+        pendingPlaceholderEvent = null;
+        CommitRecord record = new CommitRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
         record.setCommitTime(event.getTimestamp() * 1000L);
         channel.pushRecord(record);
     }
     
+    private void flushPlaceholderRecord() {
+        lastPlaceholderFlushMillis = System.currentTimeMillis();
+        if (null == pendingPlaceholderEvent) {
+            return;
+        }
+        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(pendingPlaceholderEvent.getFileName(), pendingPlaceholderEvent.getPosition(), pendingPlaceholderEvent.getServerId()));
+        record.setCommitTime(pendingPlaceholderEvent.getTimestamp() * 1000L);
+        pendingPlaceholderEvent = null;
+        channel.pushRecord(record);
+    }
+    
     private PipelineTableMetaData getPipelineTableMetaData(final String actualTableName) {
         return metaDataLoader.getTableMetaData(dumperConfig.getSchemaName(new ActualTableName(actualTableName)), actualTableName);
     }
@@ -32,6 +32,7 @@ import io.netty.util.concurrent.Promise;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.GlobalTableMapEventMapping;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogEventPacketDecoder;
@@ -46,13 +47,22 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -64,6 +74,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public final class MySQLClient {
     
+    private static final ExecutorService ROWS_EVENT_DECODE_EXECUTOR = createRowsEventDecodeExecutor();
+    
     private final ConnectInfo connectInfo;
     
     private EventLoopGroup eventLoopGroup;
@@ -72,7 +84,7 @@ public final class MySQLClient {
     
     private Promise<Object> responseCallback;
     
-    private final ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    private final ArrayBlockingQueue<CompletableFuture<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
     
     private ServerInfo serverInfo;
     
@@ -80,6 +92,19 @@ public final class MySQLClient {
     
     private final AtomicInteger reconnectTimes = new AtomicInteger();
     
+    private volatile String binlogFileName;
+    
+    private volatile long binlogPosition;
+    
+    // Decode executor is shared by all clients and survives reconnects, a full queue makes the event loop decode rows itself.
+    private static ExecutorService createRowsEventDecodeExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10000),
+                ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"), new CallerRunsPolicy());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -155,6 +180,8 @@ public final class MySQLClient {
         initDumpConnectSession();
         registerSlave();
         dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength());
+        this.binlogFileName = binlogFileName;
+        this.binlogPosition = binlogPosition;
         log.info("subscribe binlog file: {}, position: {}", binlogFileName, binlogPosition);
         reconnectTimes.set(0);
     }
@@ -196,7 +223,7 @@ public final class MySQLClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey)));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), ROWS_EVENT_DECODE_EXECUTOR));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
@@ -209,12 +236,55 @@ public final class MySQLClient {
     public synchronized AbstractBinlogEvent poll() {
         ShardingSpherePreconditions.checkState(running, BinlogSyncChannelAlreadyClosedException::new);
         try {
-            return blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
+            CompletableFuture<AbstractBinlogEvent> result = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
+            return null == result ? null : join(result);
         } catch (final InterruptedException ignored) {
             return null;
         }
     }
     
+    /**
+     * Poll binlog events, block at most 100 milliseconds until the first event arrives.
+     *
+     * @param maxEvents max events count
+     * @return binlog events, empty if there's no event in time
+     */
+    public synchronized List<AbstractBinlogEvent> poll(final int maxEvents) {
+        ShardingSpherePreconditions.checkState(running, BinlogSyncChannelAlreadyClosedException::new);
+        List<CompletableFuture<AbstractBinlogEvent>> futures = new ArrayList<>(maxEvents);
+        try {
+            CompletableFuture<AbstractBinlogEvent> firstFuture = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
+            if (null == firstFuture) {
+                return Collections.emptyList();
+            }
+            futures.add(firstFuture);
+        } catch (final InterruptedException ignored) {
+            return Collections.emptyList();
+        }
+        blockingEventQueue.drainTo(futures, maxEvents - 1);
+        List<AbstractBinlogEvent> result = new ArrayList<>(futures.size());
+        for (CompletableFuture<AbstractBinlogEvent> each : futures) {
+            result.add(join(each));
+        }
+        return result;
+    }
+    
+    // Events are joined in queue order, so the resume position never moves past an event which is not consumed yet.
+    private AbstractBinlogEvent join(final CompletableFuture<AbstractBinlogEvent> future) {
+        AbstractBinlogEvent result;
+        try {
+            result = future.join();
+        } catch (final CompletionException ex) {
+            running = false;
+            throw new IngestException("Decode binlog event failed.", null == ex.getCause() ? ex : ex.getCause());
+        }
+        if (null != result.getFileName()) {
+            binlogFileName = result.getFileName();
+            binlogPosition = result.getPosition();
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> T waitExpectedResponse(final Class<T> type) {
         try {
@@ -268,16 +338,16 @@ public final class MySQLClient {
     
     private final class MySQLBinlogEventHandler extends ChannelInboundHandlerAdapter {
         
-        private AbstractBinlogEvent lastBinlogEvent;
-        
+        @SuppressWarnings("unchecked")
         @Override
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             if (!running) {
                 return;
             }
             if (msg instanceof AbstractBinlogEvent) {
-                lastBinlogEvent = (AbstractBinlogEvent) msg;
-                blockingEventQueue.put(lastBinlogEvent);
+                blockingEventQueue.put(CompletableFuture.completedFuture((AbstractBinlogEvent) msg));
+            } else if (msg instanceof CompletableFuture) {
+                blockingEventQueue.put((CompletableFuture<AbstractBinlogEvent>) msg);
             }
         }
         
@@ -293,27 +363,28 @@ public final class MySQLClient {
         @Override
         public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
             running = false;
-            String fileName = null == lastBinlogEvent ? null : lastBinlogEvent.getFileName();
-            Long position = null == lastBinlogEvent ? null : lastBinlogEvent.getPosition();
-            log.error("MySQLBinlogEventHandler protocol resolution error, file name:{}, position:{}", fileName, position, cause);
+            log.error("MySQLBinlogEventHandler protocol resolution error, file name:{}, position:{}", binlogFileName, binlogPosition, cause);
             reconnect();
         }
         
         private void reconnect() {
             if (reconnectTimes.get() > 3) {
-                log.warn("exceeds the maximum number of retry times, last binlog event:{}", lastBinlogEvent);
+                log.warn("exceeds the maximum number of retry times, binlog file name:{}, position:{}", binlogFileName, binlogPosition);
                 running = false;
                 return;
             }
             int retryTimes = reconnectTimes.incrementAndGet();
-            if (null == lastBinlogEvent || null == lastBinlogEvent.getFileName()) {
-                log.warn("last binlog event is null or the file name is null， last binlog event:{}", lastBinlogEvent);
+            if (null == binlogFileName) {
+                log.warn("binlog file name is null, position:{}", binlogPosition);
                 return;
             }
             log.info("reconnect MySQL client, retry times={}", retryTimes);
-            closeChannel();
-            connect();
-            subscribe(lastBinlogEvent.getFileName(), lastBinlogEvent.getPosition());
+            synchronized (MySQLClient.this) {
+                closeChannel();
+                blockingEventQueue.clear();
+                connect();
+                subscribe(binlogFileName, binlogPosition);
+            }
         }
     }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteR
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.XidEvent;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
@@ -38,9 +39,12 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * MySQL binlog event packet decoder.
@@ -50,14 +54,22 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final Executor rowsEventDecodeExecutor;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap) {
+        this(checksumLength, tableMap, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final Executor rowsEventDecodeExecutor) {
         binlogContext = new BinlogContext(checksumLength, tableMap);
+        this.rowsEventDecodeExecutor = rowsEventDecodeExecutor;
     }
     
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
         // readable bytes must greater + seqId(1b) + statusCode(1b) + header-length(19b) +
         while (in.readableBytes() >= 2 + MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH) {
+            int eventStartIndex = in.readerIndex();
             in.markReaderIndex();
             MySQLPacketPayload payload = new MySQLPacketPayload(in, ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
             skipSequenceId(payload);
@@ -69,7 +81,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 in.resetReaderIndex();
                 break;
             }
-            Optional.ofNullable(decodeEvent(payload, binlogEventHeader)).ifPresent(out::add);
+            if (null != rowsEventDecodeExecutor && isRowsEvent(binlogEventHeader.getEventType())) {
+                out.add(decodeRowsEventAsync(payload, binlogEventHeader, eventStartIndex));
+            } else {
+                Optional.ofNullable(decodeEvent(payload, binlogEventHeader)).ifPresent(out::add);
+            }
             skipChecksum(binlogEventHeader.getEventType(), in);
         }
     }
@@ -103,6 +119,8 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
                 return decodeDeleteRowsEventV2(binlogEventHeader, payload);
+            case XID_EVENT:
+                return decodeXidEvent(binlogEventHeader, payload);
             default:
                 PlaceholderEvent result = createPlaceholderEvent(binlogEventHeader);
                 int remainDataLength = binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength() - payload.getByteBuf().readerIndex();
@@ -113,6 +131,68 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         }
     }
     
+    private boolean isRowsEvent(final int eventType) {
+        switch (MySQLBinlogEventType.valueOf(eventType)) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+            case DELETE_ROWS_EVENTv1:
+            case DELETE_ROWS_EVENTv2:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    // Row images are copied and decoded by the executor, futures are consumed in arrival order to keep events ordered.
+    // A decoding failure completes the future exceptionally, it is rethrown to the consumer when the future is polled.
+    private CompletableFuture<AbstractBinlogEvent> decodeRowsEventAsync(final MySQLPacketPayload payload, final MySQLBinlogEventHeader binlogEventHeader, final int eventStartIndex) {
+        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        final MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        AbstractRowsEvent result = createRowsEvent(binlogEventHeader.getEventType());
+        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
+        ByteBuf in = payload.getByteBuf();
+        int rowsEndIndex = eventStartIndex + binlogEventHeader.getEventSize() + 2 - binlogEventHeader.getChecksumLength();
+        ByteBuf rowsByteBuf = in.copy(eventStartIndex, rowsEndIndex - eventStartIndex);
+        rowsByteBuf.readerIndex(in.readerIndex() - eventStartIndex);
+        in.readerIndex(rowsEndIndex);
+        Charset charset = payload.getCharset();
+        return CompletableFuture.<AbstractBinlogEvent>supplyAsync(() -> {
+            try {
+                rowsEventPacket.readRows(tableMapEventPacket, new MySQLPacketPayload(rowsByteBuf, charset));
+                setRows(result, rowsEventPacket);
+                return result;
+            } finally {
+                rowsByteBuf.release();
+            }
+        }, rowsEventDecodeExecutor);
+    }
+    
+    private AbstractRowsEvent createRowsEvent(final int eventType) {
+        switch (MySQLBinlogEventType.valueOf(eventType)) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                return new WriteRowsEvent();
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                return new UpdateRowsEvent();
+            default:
+                return new DeleteRowsEvent();
+        }
+    }
+    
+    private void setRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket rowsEventPacket) {
+        if (rowsEvent instanceof WriteRowsEvent) {
+            ((WriteRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows());
+        } else if (rowsEvent instanceof UpdateRowsEvent) {
+            ((UpdateRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+            ((UpdateRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows2());
+        } else {
+            ((DeleteRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+        }
+    }
+    
     private void skipSequenceId(final MySQLPacketPayload payload) {
         payload.readInt1();
     }
@@ -189,6 +269,15 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         rowsEvent.setServerId(binlogEventHeader.getServerId());
     }
     
+    private XidEvent decodeXidEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        XidEvent result = new XidEvent(payload.readInt8());
+        result.setFileName(binlogContext.getFileName());
+        result.setPosition(binlogEventHeader.getLogPos());
+        result.setTimestamp(binlogEventHeader.getTimestamp());
+        result.setServerId(binlogEventHeader.getServerId());
+        return result;
+    }
+    
     private PlaceholderEvent createPlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader) {
         PlaceholderEvent result = new PlaceholderEvent();
         result.setFileName(binlogContext.getFileName());
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -37,9 +39,6 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
             Column column = dataRecord.getColumn(i);
-            if (!column.isUpdated()) {
-                continue;
-            }
             // TOOD not skip unique key
             if (column.isUniqueKey()) {
                 continue;
@@ -50,11 +49,30 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildUpsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().allMatch(Column::isUniqueKey) ? Optional.empty() : Optional.of(buildInsertSQL(schemaName, dataRecord));
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        String rowContent = columnNames.stream().map(each -> String.format("%s,ISNULL(%s)", quote(each), quote(each))).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(1), BIT_XOR(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',%s)),1,16),16,10) AS UNSIGNED)) FROM %s WHERE %s>=? AND %s<=?",
+                rowContent, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
+    @Override
+    public Optional<String> buildUniqueKeyAtOffsetSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?,1", quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMap
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.CommitRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteR
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.XidEvent;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,6 +64,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
@@ -167,6 +170,7 @@ public final class MySQLIncrementalDumperTest {
     @Test
     public void assertPlaceholderEvent() {
         invokeHandleEvent(new PlaceholderEvent());
+        invokeFlushPlaceholderRecord();
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
@@ -177,13 +181,60 @@ public final class MySQLIncrementalDumperTest {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
         rowsEvent.setDatabaseName("unknown_database");
         invokeHandleEvent(rowsEvent);
+        invokeFlushPlaceholderRecord();
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
     }
     
+    @Test
+    public void assertPlaceholderEventsCoalesced() {
+        for (int i = 0; i < 10; i++) {
+            PlaceholderEvent event = new PlaceholderEvent();
+            event.setFileName("binlog-000001");
+            event.setPosition(i);
+            invokeHandleEvent(event);
+        }
+        assertTrue(channel.fetchRecords(1, 0).isEmpty());
+        invokeFlushPlaceholderRecord();
+        invokeFlushPlaceholderRecord();
+        List<Record> records = channel.fetchRecords(10, 0);
+        assertThat(records.size(), is(1));
+        assertThat(((BinlogPosition) records.get(0).getPosition()).getPosition(), is(9L));
+    }
+    
+    @Test
+    public void assertXidEventWithoutDataRecordCoalesced() {
+        invokeHandleEvent(new XidEvent(1L));
+        assertTrue(channel.fetchRecords(1, 0).isEmpty());
+        invokeFlushPlaceholderRecord();
+        List<Record> records = channel.fetchRecords(1, 0);
+        assertThat(records.size(), is(1));
+        assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
+    }
+    
+    @Test
+    public void assertXidEventAfterDataRecord() throws NoSuchFieldException, IllegalAccessException {
+        ReflectionUtil.setFieldValue(incrementalDumper, "uncommittedDataRecordPushed", true);
+        XidEvent event = new XidEvent(1L);
+        event.setFileName("binlog-000001");
+        event.setPosition(100L);
+        invokeHandleEvent(event);
+        List<Record> records = channel.fetchRecords(1, 0);
+        assertThat(records.size(), is(1));
+        assertThat(records.get(0), instanceOf(CommitRecord.class));
+        assertThat(((BinlogPosition) records.get(0).getPosition()).getPosition(), is(100L));
+        invokeFlushPlaceholderRecord();
+        assertTrue(channel.fetchRecords(1, 0).isEmpty());
+    }
+    
     @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
     private void invokeHandleEvent(final AbstractBinlogEvent event) {
         ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{AbstractBinlogEvent.class}, new Object[]{event});
     }
+    
+    @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
+    private void invokeFlushPlaceholderRecord() {
+        ReflectionUtil.invokeMethod(incrementalDumper, "flushPlaceholderRecord", new Class[0], new Object[0]);
+    }
 }
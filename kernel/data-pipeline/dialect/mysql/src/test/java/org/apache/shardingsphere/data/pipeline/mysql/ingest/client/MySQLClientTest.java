@@ -23,7 +23,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComRegisterSlaveCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
@@ -36,11 +39,20 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -156,4 +168,73 @@ public final class MySQLClientTest {
         ReflectionUtil.setFieldValue(mysqlClient, "running", false);
         mysqlClient.poll();
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollEvents() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<CompletableFuture<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        for (int i = 0; i < 3; i++) {
+            blockingEventQueue.add(CompletableFuture.completedFuture(new PlaceholderEvent()));
+        }
+        assertThat(mysqlClient.poll(2).size(), is(2));
+        assertThat(mysqlClient.poll(2).size(), is(1));
+        assertTrue(mysqlClient.poll(2).isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollEventsInQueueOrderWithMultiThreadedDecoding() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<CompletableFuture<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 100; i++) {
+                long position = i;
+                blockingEventQueue.add(CompletableFuture.supplyAsync(() -> createDelayedEvent(position), executor));
+            }
+            List<AbstractBinlogEvent> actual = new LinkedList<>();
+            while (actual.size() < 100) {
+                actual.addAll(mysqlClient.poll(7));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertThat(actual.get(i).getPosition(), is((long) i));
+            }
+            assertThat(ReflectionUtil.getFieldValue(mysqlClient, "binlogFileName", String.class), is("binlog.000001"));
+            assertThat(ReflectionUtil.getFieldValue(mysqlClient, "binlogPosition", Long.class), is(99L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private AbstractBinlogEvent createDelayedEvent(final long position) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        PlaceholderEvent result = new PlaceholderEvent();
+        result.setFileName("binlog.000001");
+        result.setPosition(position);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPollEventsWithDecodeFailure() throws NoSuchFieldException, IllegalAccessException {
+        ArrayBlockingQueue<CompletableFuture<AbstractBinlogEvent>> blockingEventQueue = ReflectionUtil.getFieldValue(mysqlClient, "blockingEventQueue", ArrayBlockingQueue.class);
+        PlaceholderEvent event = new PlaceholderEvent();
+        event.setFileName("binlog.000001");
+        event.setPosition(4L);
+        blockingEventQueue.add(CompletableFuture.completedFuture(event));
+        CompletableFuture<AbstractBinlogEvent> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new IllegalStateException("decode failed"));
+        blockingEventQueue.add(failedFuture);
+        try {
+            mysqlClient.poll(2);
+            fail("Expected IngestException");
+        } catch (final IngestException ex) {
+            assertThat(ex.getCause(), instanceOf(IllegalStateException.class));
+        }
+        assertThat(ReflectionUtil.getFieldValue(mysqlClient, "binlogPosition", Long.class), is(4L));
+        assertFalse(ReflectionUtil.getFieldValue(mysqlClient, "running", Boolean.class));
+    }
 }
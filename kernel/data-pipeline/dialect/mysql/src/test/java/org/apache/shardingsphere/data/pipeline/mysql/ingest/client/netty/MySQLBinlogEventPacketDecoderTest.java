@@ -43,11 +43,18 @@ import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -131,6 +138,48 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
     }
     
+    @Test
+    public void assertDecodeWriteRowEventWithExecutor() throws NoSuchFieldException, IllegalAccessException {
+        MySQLBinlogEventPacketDecoder asyncDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), Runnable::run);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("30007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        ReflectionUtil.getFieldValue(asyncDecoder, "binlogContext", BinlogContext.class).getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        List<Object> decodedEvents = new LinkedList<>();
+        asyncDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(CompletableFuture.class));
+        assertFalse(byteBuf.isReadable());
+        Object actual = ((CompletableFuture<?>) decodedEvents.get(0)).join();
+        assertThat(actual, instanceOf(WriteRowsEvent.class));
+        assertThat(((WriteRowsEvent) actual).getAfterRows().get(0), is(new Serializable[]{1L, 1, "SUCCESS", null}));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventWithExecutorFailure() throws NoSuchFieldException, IllegalAccessException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MySQLBinlogEventPacketDecoder asyncDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), executor);
+            ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+            byteBuf.writeBytes(StringUtil.decodeHexDump("30007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+            ReflectionUtil.getFieldValue(asyncDecoder, "binlogContext", BinlogContext.class).getTableMap().put(123L, tableMapEventPacket);
+            when(tableMapEventPacket.getColumnDefs()).thenThrow(IllegalStateException.class);
+            List<Object> decodedEvents = new LinkedList<>();
+            asyncDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            CompletableFuture<?> actual = (CompletableFuture<?>) decodedEvents.get(0);
+            try {
+                actual.join();
+                fail("Expected CompletionException");
+            } catch (final CompletionException ex) {
+                assertThat(ex.getCause(), instanceOf(IllegalStateException.class));
+                assertTrue(actual.isCompletedExceptionally());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
     @Test
     public void assertDecodeUpdateRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -35,13 +36,20 @@ public final class MySQLPipelineSQLBuilderTest {
     @Test
     public void assertBuildInsertSQL() {
         String actual = sqlBuilder.buildInsertSQL(null, mockDataRecord("t1"));
-        assertThat(actual, is("INSERT INTO t1(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+        assertThat(actual, is("INSERT INTO t1(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE sc=VALUES(sc),c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
     @Test
     public void assertBuildInsertSQLHasShardingColumn() {
         String actual = sqlBuilder.buildInsertSQL(null, mockDataRecord("t2"));
-        assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+        assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE sc=VALUES(sc),c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
+    @Test
+    public void assertBuildUpsertSQL() {
+        Optional<String> actual = sqlBuilder.buildUpsertSQL(null, mockDataRecord("t1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO t1(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE sc=VALUES(sc),c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
     @Test
@@ -51,6 +59,21 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    public void assertBuildRangeHashSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeHashSQL(null, "t2", Arrays.asList("id", "c1"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1), BIT_XOR(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',id,ISNULL(id),c1,ISNULL(c1))),1,16),16,10) AS UNSIGNED))"
+                + " FROM t2 WHERE id>=? AND id<=?"));
+    }
+    
+    @Test
+    public void assertBuildUniqueKeyAtOffsetSQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyAtOffsetSQL(null, "t2", "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT id FROM t2 WHERE id>=? ORDER BY id LIMIT ?,1"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
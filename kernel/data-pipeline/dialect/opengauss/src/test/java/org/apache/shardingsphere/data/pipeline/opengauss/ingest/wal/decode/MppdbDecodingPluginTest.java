@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -201,6 +202,12 @@ public final class MppdbDecodingPluginTest {
         assertThat(new MppdbDecodingPlugin(null).decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
     }
     
+    @Test
+    public void assertDecodeCommitEvent() {
+        ByteBuffer data = ByteBuffer.wrap("COMMIT 1000".getBytes());
+        assertThat(new MppdbDecodingPlugin(null).decode(data, logSequenceNumber), instanceOf(CommitTXEvent.class));
+    }
+    
     @Test(expected = IngestException.class)
     public void assertDecodeUnknownRowEventType() {
         MppTableData tableData = new MppTableData();
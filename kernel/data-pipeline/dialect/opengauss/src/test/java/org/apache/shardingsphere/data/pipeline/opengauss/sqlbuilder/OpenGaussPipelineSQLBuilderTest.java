@@ -22,8 +22,12 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class OpenGaussPipelineSQLBuilderTest {
     
@@ -35,6 +39,20 @@ public final class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t1(id,c0,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c0=EXCLUDED.c0,c1=EXCLUDED.c1,c2=EXCLUDED.c2,c3=EXCLUDED.c3"));
     }
     
+    @Test
+    public void assertBuildRangeHashSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeHashSQL(null, "t1", Arrays.asList("id", "c0"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1), SUM(('x' || SUBSTR(MD5(ROW(id,c0)::TEXT), 1, 15))::BIT(60)::BIGINT) FROM t1 WHERE id>=? AND id<=?"));
+    }
+    
+    @Test
+    public void assertBuildSampleUniqueKeySQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeySQL(null, "t1", "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT id FROM t1 TABLESAMPLE SYSTEM (CAST(? AS REAL)) ORDER BY id"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithoutEnoughPrivilegeException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
@@ -29,6 +31,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL WAL position initializer.
@@ -40,12 +45,21 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
+    private static final String INSUFFICIENT_PRIVILEGE_ERROR_CODE = "42501";
+    
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
+        return init(dataSource, slotNameSuffix, Collections.emptyList());
+    }
+    
+    @Override
+    public WALPosition init(final DataSource dataSource, final String slotNameSuffix, final Collection<SchemaTableName> tableNames) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix));
+            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix), tableNames);
             return getWalPosition(connection);
         }
     }
@@ -55,12 +69,12 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final Collection<SchemaTableName> tableNames) throws SQLException {
         if (isSlotExisting(connection, slotName)) {
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, getDecodePlugin(connection, slotName, tableNames));
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -70,11 +84,46 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private String getDecodePlugin(final Connection connection, final String slotName, final Collection<SchemaTableName> tableNames) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            return DECODE_PLUGIN;
+        }
+        createPublicationIfNotExist(connection, slotName, tableNames);
+        return PGOUTPUT_DECODE_PLUGIN;
+    }
+    
+    private void createPublicationIfNotExist(final Connection connection, final String publicationName, final Collection<SchemaTableName> tableNames) throws SQLException {
+        String createPublicationSQL = tableNames.isEmpty()
+                ? String.format("CREATE PUBLICATION %s FOR ALL TABLES", quote(publicationName))
+                : String.format("CREATE PUBLICATION %s FOR TABLE %s", quote(publicationName), tableNames.stream().map(this::getQualifiedTableName).collect(Collectors.joining(",")));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createPublicationSQL)) {
+            preparedStatement.execute();
+        } catch (final SQLException ex) {
+            if (DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                return;
+            }
+            if (INSUFFICIENT_PRIVILEGE_ERROR_CODE.equals(ex.getSQLState())) {
+                log.error("Create publication failed, it requires CREATE privilege on database and ownership of tables, publicationName={}, tables={}", publicationName, tableNames, ex);
+                throw new PrepareJobWithoutEnoughPrivilegeException(Collections.singleton("CREATE PUBLICATION"));
+            }
+            throw ex;
+        }
+    }
+    
+    private String getQualifiedTableName(final SchemaTableName schemaTableName) {
+        String schemaName = schemaTableName.getSchemaName().getOriginal();
+        String tableName = quote(schemaTableName.getTableName().getOriginal());
+        return null == schemaName ? tableName : quote(schemaName) + "." + tableName;
+    }
+    
+    private String quote(final String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
@@ -114,11 +163,39 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             return;
         }
         log.info("dropSlotIfExist, slot exist, slotName={}", slotName);
+        boolean isPgOutputSlot = isPgOutputSlot(connection, slotName);
         String dropSlotSQL = "SELECT pg_drop_replication_slot(?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(dropSlotSQL)) {
             preparedStatement.setString(1, slotName);
             preparedStatement.execute();
         }
+        if (isPgOutputSlot) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", quote(slotName)))) {
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    /**
+     * Whether the slot decodes with pgoutput, the publication of the slot has the same name as the slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return pgoutput slot or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isPgOutputSlot(final Connection connection, final String slotName) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            return false;
+        }
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
+            preparedStatement.setString(1, slotName);
+            preparedStatement.setString(2, PGOUTPUT_DECODE_PLUGIN);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
     }
     
     /**
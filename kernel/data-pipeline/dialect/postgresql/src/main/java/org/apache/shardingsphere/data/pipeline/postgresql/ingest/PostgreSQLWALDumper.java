@@ -20,9 +20,11 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -37,16 +40,20 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Abstr
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * PostgreSQL WAL dumper.
  */
-public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
+public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor implements IncrementalDumper, AckCallback {
+    
+    private static final long ACK_INTERVAL_MILLIS = 10000L;
     
     private final DumperConfiguration dumperConfig;
     
@@ -58,6 +65,12 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     
     private final PostgreSQLLogicalReplication logicalReplication;
     
+    private long lastAckMillis = System.currentTimeMillis();
+    
+    private volatile WALPosition confirmedPosition;
+    
+    private WALPosition lastAckPosition;
+    
     public PostgreSQLWALDumper(final DumperConfiguration dumperConfig, final IngestPosition<WALPosition> position,
                                final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         ShardingSpherePreconditions.checkState(StandardPipelineDataSourceConfiguration.class.equals(dumperConfig.getDataSourceConfig().getClass()),
@@ -72,26 +85,63 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     @Override
     protected void runBlocking() {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            boolean isPgOutputSlot = PostgreSQLPositionInitializer.isPgOutputSlot(connection, slotName);
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
+            DecodingPlugin decodingPlugin = isPgOutputSlot ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+            try (
+                    PGReplicationStream stream = isPgOutputSlot ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())
+                            : logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())) {
+                dump(stream, decodingPlugin);
             }
         } catch (final SQLException ex) {
             throw new IngestException(ex);
         }
     }
     
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            acknowledgeIfNecessary(stream);
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                ThreadUtil.sleep(10L);
+                continue;
+            }
+            AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            channel.pushRecord(walEventConverter.convert(event));
+        }
+    }
+    
+    // Only positions confirmed by importers are acknowledged, so the slot never discards WAL which is not applied to target yet.
+    private void acknowledgeIfNecessary(final PGReplicationStream stream) {
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - lastAckMillis < ACK_INTERVAL_MILLIS) {
+            return;
+        }
+        WALPosition position = confirmedPosition;
+        if (null != position && position.compareTo(lastAckPosition) > 0) {
+            LogSequenceNumber lsn = LogSequenceNumber.valueOf(position.getLogSequenceNumber().asLong());
+            stream.setAppliedLSN(lsn);
+            stream.setFlushedLSN(lsn);
+            lastAckPosition = position;
+        }
+        lastAckMillis = currentMillis;
+    }
+    
+    @Override
+    public void onAck(final List<Record> records) {
+        for (int i = records.size() - 1; i >= 0; i--) {
+            if (records.get(i).getPosition() instanceof WALPosition) {
+                WALPosition position = (WALPosition) records.get(i).getPosition();
+                if (position.compareTo(confirmedPosition) > 0) {
+                    confirmedPosition = position;
+                }
+                return;
+            }
+        }
+    }
+    
     @Override
     protected void doStop() {
     }
@@ -72,4 +72,24 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream decoded by pgoutput.
+     *
+     * @param connection connection
+     * @param slotName slot name, which is also the publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
+        return connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", slotName)
+                .start();
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decoding plugin for binary pgoutput logical replication protocol.
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final byte RELATION = 'R';
+    
+    private static final byte INSERT = 'I';
+    
+    private static final byte UPDATE = 'U';
+    
+    private static final byte DELETE = 'D';
+    
+    private static final byte COMMIT = 'C';
+    
+    private static final byte NEW_TUPLE = 'N';
+    
+    private static final byte KEY_TUPLE = 'K';
+    
+    private static final byte OLD_TUPLE = 'O';
+    
+    private static final byte NULL_VALUE = 'n';
+    
+    private static final byte UNCHANGED_TOAST_VALUE = 'u';
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private static final Object UNCHANGED_TOAST = new Object();
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case RELATION:
+                cacheRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case INSERT:
+                result = readWriteRowEvent(data);
+                break;
+            case UPDATE:
+                result = readUpdateRowEvent(data);
+                break;
+            case DELETE:
+                result = readDeleteRowEvent(data);
+                break;
+            case COMMIT:
+                result = new CommitTXEvent();
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void cacheRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        List<RelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean isKey = 0 != (data.get() & 1);
+            String columnName = readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new RelationColumn(columnName, typeOid, isKey));
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        checkNoUnchangedToast(relation, result.getAfterRow());
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        List<Object> beforeRow = null;
+        if (KEY_TUPLE == tupleType || OLD_TUPLE == tupleType) {
+            beforeRow = readTupleData(data, relation);
+            tupleType = data.get();
+        }
+        Preconditions.checkState(NEW_TUPLE == tupleType, "Unexpected tuple type `%s` in update message", (char) tupleType);
+        List<Object> afterRow = readTupleData(data, relation);
+        if (null != beforeRow) {
+            fillUnchangedToast(afterRow, beforeRow);
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setUnchangedToastColumnIndexes(removeUnchangedToast(afterRow));
+        result.setAfterRow(afterRow);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> row = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>();
+        for (int i = 0; i < row.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                primaryKeys.add(row.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        Preconditions.checkState(null != result, "Relation message of `%s` is not received", relationId);
+        return result;
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte valueType = data.get();
+            if (NULL_VALUE == valueType) {
+                result.add(null);
+            } else if (UNCHANGED_TOAST_VALUE == valueType) {
+                result.add(UNCHANGED_TOAST);
+            } else {
+                byte[] value = new byte[data.getInt()];
+                data.get(value);
+                result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumns().get(i).getTypeOid()));
+            }
+        }
+        return result;
+    }
+    
+    // Unchanged TOAST values are only recoverable from the old tuple, which is sent with REPLICA IDENTITY FULL.
+    private void fillUnchangedToast(final List<Object> afterRow, final List<Object> beforeRow) {
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST == afterRow.get(i) && i < beforeRow.size() && UNCHANGED_TOAST != beforeRow.get(i)) {
+                afterRow.set(i, beforeRow.get(i));
+            }
+        }
+    }
+    
+    // Unchanged TOAST values left are not updated, the columns are recorded so that only changed columns are written.
+    private Set<Integer> removeUnchangedToast(final List<Object> afterRow) {
+        Set<Integer> result = new HashSet<>();
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST == afterRow.get(i)) {
+                afterRow.set(i, null);
+                result.add(i);
+            }
+        }
+        return result.isEmpty() ? Collections.emptySet() : result;
+    }
+    
+    private void checkNoUnchangedToast(final Relation relation, final List<Object> row) {
+        for (int i = 0; i < row.size(); i++) {
+            if (UNCHANGED_TOAST == row.get(i)) {
+                throw new DecodingException(String.format("Unchanged TOAST value of `%s.%s` can not be decoded, please set REPLICA IDENTITY FULL on the table",
+                        relation.getTableName(), relation.getColumns().get(i).getName()));
+            }
+        }
+    }
+    
+    private Object readColumnData(final String value, final int typeOid) {
+        switch (typeOid) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case INT2_OID:
+                return Short.parseShort(value);
+            case INT4_OID:
+                return Integer.parseInt(value);
+            case INT8_OID:
+                return Long.parseLong(value);
+            case FLOAT4_OID:
+                return Float.parseFloat(value);
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                return new BigDecimal(value);
+            case DATE_OID:
+                return Date.valueOf(value);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                return decodeHex(value.substring(2));
+            default:
+                return value;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte each = data.get();
+        while (0 != each) {
+            result.write(each);
+            each = data.get();
+        }
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] decodeHex(final String hexString) {
+        int dataLength = hexString.length();
+        Preconditions.checkArgument(0 == (dataLength & 1), "Illegal hex data `%s`", hexString);
+        byte[] result = new byte[dataLength >>> 1];
+        for (int i = 0; i < dataLength; i += 2) {
+            int firstHexChar = Character.digit(hexString.charAt(i), 16);
+            int secondHexChar = Character.digit(hexString.charAt(i + 1), 16);
+            Preconditions.checkArgument(-1 != firstHexChar && -1 != secondHexChar, "Illegal hex byte `%s` in index `%d`", hexString, i);
+            result[i >>> 1] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final List<RelationColumn> columns;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationColumn {
+        
+        private final String name;
+        
+        private final int typeOid;
+        
+        private final boolean key;
+    }
+}
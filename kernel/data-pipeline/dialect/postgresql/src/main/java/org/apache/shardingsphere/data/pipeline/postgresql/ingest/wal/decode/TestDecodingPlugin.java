@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -45,11 +46,16 @@ public final class TestDecodingPlugin implements DecodingPlugin {
     
     @Override
     public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
-        AbstractWALEvent result = "table".equals(readEventType(data)) ? readTableEvent(data) : new PlaceholderEvent();
+        String eventType = readEventType(data);
+        AbstractWALEvent result = "table".equals(eventType) ? readTableEvent(data) : createNonTableEvent(eventType);
         result.setLogSequenceNumber(logSequenceNumber);
         return result;
     }
     
+    private AbstractWALEvent createNonTableEvent(final String eventType) {
+        return "COMMIT".equals(eventType) ? new CommitTXEvent() : new PlaceholderEvent();
+    }
+    
     private String readEventType(final ByteBuffer data) {
         return readNextSegment(data);
     }
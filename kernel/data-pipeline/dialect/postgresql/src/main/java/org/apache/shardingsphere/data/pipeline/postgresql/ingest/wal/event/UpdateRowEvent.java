@@ -21,7 +21,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Update row event.
@@ -32,4 +34,9 @@ import java.util.List;
 public final class UpdateRowEvent extends AbstractRowEvent {
     
     private List<Object> afterRow;
+    
+    /**
+     * Indexes of columns whose unchanged TOAST values are not sent, values of these columns in after row are null.
+     */
+    private Set<Integer> unchangedToastColumnIndexes = Collections.emptySet();
 }
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL pipeline SQL builder.
@@ -39,6 +41,11 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return super.buildInsertSQL(schemaName, dataRecord) + buildConflictSQL(dataRecord);
     }
     
+    @Override
+    public Optional<String> buildUpsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().allMatch(Column::isUniqueKey) ? Optional.empty() : Optional.of(buildInsertSQL(schemaName, dataRecord));
+    }
+    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
     private String buildConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
@@ -58,6 +65,20 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildRangeHashSQL(final String schemaName, final String tableName, final Collection<String> columnNames, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        String rowContent = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(1), SUM(('x' || SUBSTR(MD5(ROW(%s)::TEXT), 1, 15))::BIT(60)::BIGINT) FROM %s WHERE %s>=? AND %s<=?",
+                rowContent, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey));
+    }
+    
+    @Override
+    public Optional<String> buildSampleUniqueKeySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return Optional.of(String.format("SELECT %s FROM %s TABLESAMPLE SYSTEM (CAST(? AS REAL)) ORDER BY %s", quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.TableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithoutEnoughPrivilegeException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +36,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,8 +86,27 @@ public final class PostgreSQLPositionInitializerTest {
     public void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         mockSlotExistsOrNot(false);
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
-        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "");
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "");
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"public\".\"T_Order\",\"order\"", slotName))).thenReturn(createPublicationPreparedStatement);
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(createSlotPreparedStatement);
+        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "", Arrays.asList(
+                new SchemaTableName(new SchemaName("public"), new TableName("T_Order")), new SchemaTableName(new SchemaName(null), new TableName("order"))));
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPreparedStatement).execute();
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test(expected = PrepareJobWithoutEnoughPrivilegeException.class)
+    public void assertGetCurrentPositionOnPostgreSQL10WithoutPublicationPrivilege() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "");
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(createPublicationPreparedStatement.execute()).thenThrow(new SQLException("permission denied", "42501"));
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR ALL TABLES", slotName))).thenReturn(createPublicationPreparedStatement);
+        new PostgreSQLPositionInitializer().init(dataSource, "");
     }
     
     @Test(expected = RuntimeException.class)
@@ -116,7 +140,7 @@ public final class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=?")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
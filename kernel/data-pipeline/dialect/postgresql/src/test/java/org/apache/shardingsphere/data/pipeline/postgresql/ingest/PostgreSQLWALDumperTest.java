@@ -22,6 +22,9 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfigura
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
@@ -49,13 +52,17 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -101,7 +108,7 @@ public final class PostgreSQLWALDumperTest {
         String password = "root";
         try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
             try (Statement statement = connection.createStatement()) {
-                String sql = "CREATE TABLE t_order_0 (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))";
+                String sql = "CREATE TABLE IF NOT EXISTS t_order_0 (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))";
                 statement.execute(sql);
             }
         } catch (final SQLException e) {
@@ -137,4 +144,34 @@ public final class PostgreSQLWALDumperTest {
         }
         assertThat(channel.fetchRecords(100, 0).size(), is(1));
     }
+    
+    @Test
+    public void assertAcknowledgeConfirmedPosition() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        walDumper.onAck(Arrays.asList(new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(200L))), 0), new PlaceholderRecord(new PlaceholderPosition())));
+        startWithoutMessage();
+        verify(pgReplicationStream).setAppliedLSN(LogSequenceNumber.valueOf(200L));
+        verify(pgReplicationStream).setFlushedLSN(LogSequenceNumber.valueOf(200L));
+    }
+    
+    @Test
+    public void assertNotAcknowledgeReceivedPosition() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        startWithoutMessage();
+        verify(pgReplicationStream, never()).setAppliedLSN(any());
+        verify(pgReplicationStream, never()).setFlushedLSN(any());
+    }
+    
+    private void startWithoutMessage() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        StandardPipelineDataSourceConfiguration dataSourceConfig = (StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig();
+        ReflectionUtil.setFieldValue(walDumper, "logicalReplication", logicalReplication);
+        ReflectionUtil.setFieldValue(walDumper, "lastAckMillis", 0L);
+        when(logicalReplication.createConnection(dataSourceConfig)).thenReturn(pgConnection);
+        when(pgConnection.unwrap(PgConnection.class)).thenReturn(pgConnection);
+        try (MockedStatic<PostgreSQLPositionInitializer> positionInitializer = mockStatic(PostgreSQLPositionInitializer.class)) {
+            positionInitializer.when(() -> PostgreSQLPositionInitializer.getUniqueSlotName(eq(pgConnection), anyString())).thenReturn("0101123456");
+            when(logicalReplication.createReplicationStream(pgConnection, "0101123456", position.getLogSequenceNumber())).thenReturn(pgReplicationStream);
+            when(pgReplicationStream.readPending()).thenThrow(new SQLException(""));
+            walDumper.start();
+        } catch (final IngestException ignored) {
+        }
+    }
 }
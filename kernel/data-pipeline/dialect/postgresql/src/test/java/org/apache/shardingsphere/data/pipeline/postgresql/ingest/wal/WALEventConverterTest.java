@@ -50,6 +50,8 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class WALEventConverterTest {
     
@@ -103,6 +105,17 @@ public final class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithUnchangedToast() {
+        UpdateRowEvent updateRowEvent = (UpdateRowEvent) mockUpdateRowEvent();
+        updateRowEvent.setAfterRow(Arrays.asList("id", null));
+        updateRowEvent.setUnchangedToastColumnIndexes(Collections.singleton(1));
+        DataRecord actual = (DataRecord) walEventConverter.convert(updateRowEvent);
+        assertTrue(actual.isUnchangedValuesAbsent());
+        assertTrue(actual.getColumn(0).isUpdated());
+        assertFalse(actual.getColumn(1).isUpdated());
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
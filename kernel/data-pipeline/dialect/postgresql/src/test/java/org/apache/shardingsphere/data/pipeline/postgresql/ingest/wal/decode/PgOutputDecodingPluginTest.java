@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        ByteBuffer relation = ByteBuffer.allocate(128);
+        relation.put((byte) 'R').putInt(16384);
+        putString(relation, "public");
+        putString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 3);
+        putColumn(relation, 1, "order_id", 23);
+        putColumn(relation, 0, "status", 1043);
+        putColumn(relation, 0, "amount", 1700);
+        relation.flip();
+        assertThat(decodingPlugin.decode(relation, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(16384).put((byte) 'N');
+        putTuple(data, "1", null, "1.50");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, null, new BigDecimal("1.50"))));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'N');
+        putTuple(data, "1", "updated", "2");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, "updated", new BigDecimal("2"))));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastFromOldTuple() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'O');
+        putTuple(data, "1", "long text", "2");
+        data.put((byte) 'N').putShort((short) 3);
+        putValue(data, "1");
+        data.put((byte) 'u');
+        putValue(data, "3");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, "long text", new BigDecimal("3"))));
+        assertTrue(actual.getUnchangedToastColumnIndexes().isEmpty());
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToast() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'N').putShort((short) 3);
+        putValue(data, "1");
+        data.put((byte) 'u');
+        putValue(data, "3");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, null, new BigDecimal("3"))));
+        assertThat(actual.getUnchangedToastColumnIndexes(), is(Collections.singleton(1)));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(16384).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.asList((Object) 1)));
+    }
+    
+    @Test
+    public void assertDecodeBeginEvent() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'B').putLong(100L).putLong(0L).putInt(1);
+        data.flip();
+        PlaceholderEvent actual = (PlaceholderEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    public void assertDecodeCommitEvent() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'C').put((byte) 0).putLong(100L).putLong(200L).putLong(0L);
+        data.flip();
+        assertThat(decodingPlugin.decode(data, logSequenceNumber), instanceOf(CommitTXEvent.class));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDecodeWithoutRelation() {
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'I').putInt(1).put((byte) 'N');
+        putTuple(data, "1");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeBytea() {
+        ByteBuffer relation = ByteBuffer.allocate(64);
+        relation.put((byte) 'R').putInt(16385);
+        putString(relation, "public");
+        putString(relation, "t_blob");
+        relation.put((byte) 'd').putShort((short) 1);
+        putColumn(relation, 1, "data", 17);
+        relation.flip();
+        decodingPlugin.decode(relation, logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(32);
+        data.put((byte) 'I').putInt(16385).put((byte) 'N');
+        putTuple(data, "\\xff00ab");
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_blob"));
+        assertThat(actual.getAfterRow().get(0), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+    }
+    
+    private void putString(final ByteBuffer buffer, final String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putColumn(final ByteBuffer buffer, final int flags, final String name, final int typeOid) {
+        buffer.put((byte) flags);
+        putString(buffer, name);
+        buffer.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putTuple(final ByteBuffer buffer, final String... values) {
+        buffer.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                buffer.put((byte) 'n');
+            } else {
+                putValue(buffer, each);
+            }
+        }
+    }
+    
+    private void putValue(final ByteBuffer buffer, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
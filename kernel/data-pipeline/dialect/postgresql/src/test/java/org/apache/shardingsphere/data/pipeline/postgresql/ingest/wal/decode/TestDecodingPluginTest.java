@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
@@ -86,6 +87,12 @@ public final class TestDecodingPluginTest {
         assertThat(new TestDecodingPlugin(null).decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
     }
     
+    @Test
+    public void assertDecodeCommitEvent() {
+        ByteBuffer data = ByteBuffer.wrap("COMMIT 1000".getBytes());
+        assertThat(new TestDecodingPlugin(null).decode(data, logSequenceNumber), instanceOf(CommitTXEvent.class));
+    }
+    
     @Test(expected = IngestException.class)
     public void assertDecodeUnknownRowEventType() {
         ByteBuffer data = ByteBuffer.wrap("table public.test: UNKNOWN: data[character varying]:'1 2 3'''".getBytes());
@@ -24,8 +24,12 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Post
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLPipelineSQLBuilderTest {
     
@@ -38,6 +42,29 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildUpsertSQL() {
+        Optional<String> actual = sqlBuilder.buildUpsertSQL("schema1", mockDataRecord());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO schema1.t_order(order_id,user_id,status) VALUES(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
+    }
+    
+    @Test
+    public void assertBuildRangeHashSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeHashSQL("schema1", "t_order", Arrays.asList("order_id", "status"), "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1), SUM(('x' || SUBSTR(MD5(ROW(order_id,status)::TEXT), 1, 15))::BIT(60)::BIGINT)"
+                + " FROM schema1.t_order WHERE order_id>=? AND order_id<=?"));
+    }
+    
+    @Test
+    public void assertBuildSampleUniqueKeySQL() {
+        Optional<String> actual = sqlBuilder.buildSampleUniqueKeySQL("schema1", "t_order", "order_id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT order_id FROM schema1.t_order TABLESAMPLE SYSTEM (CAST(? AS REAL)) ORDER BY order_id"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
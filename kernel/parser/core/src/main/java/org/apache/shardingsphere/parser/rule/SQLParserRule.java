@@ -37,11 +37,17 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean sqlShapeCacheEnabled;
+    
+    private final boolean sqlFastPathParseEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlShapeCacheEnabled = ruleConfig.isSqlShapeCacheEnabled();
+        sqlFastPathParseEnabled = ruleConfig.isSqlFastPathParseEnabled();
     }
     
     /**
@@ -51,7 +57,7 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public ShardingSphereSQLParserEngine getSQLParserEngine(final String databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled, sqlShapeCacheEnabled, sqlFastPathParseEnabled);
     }
     
     @Override
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.parser.warmup;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SQL parser warm up engine.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SQLParserWarmUpEngine {
+    
+    /**
+     * Warm up SQL parsers of protocol types of all databases by SQL corpus configured in props.
+     * 
+     * @param metaData meta data
+     * @return warmed up database types
+     */
+    public static Collection<String> warmUp(final ShardingSphereMetaData metaData) {
+        String corpusPath = metaData.getProps().getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_CORPUS_PATH);
+        if (Strings.isNullOrEmpty(corpusPath)) {
+            return Collections.emptyList();
+        }
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereDatabase each : metaData.getDatabases().values()) {
+            String databaseType = DatabaseTypeEngine.getTrunkDatabaseTypeName(each.getProtocolType());
+            if (!result.contains(databaseType) && warmUp(corpusPath, databaseType)) {
+                result.add(databaseType);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean warmUp(final String corpusPath, final String databaseType) {
+        Path corpusFile = Paths.get(corpusPath, databaseType + ".sql");
+        if (!Files.isRegularFile(corpusFile)) {
+            log.info("SQL parser warm up corpus `{}` does not exist, skip warm up of `{}`.", corpusFile, databaseType);
+            return false;
+        }
+        Collection<String> sqls = loadCorpus(corpusFile);
+        if (sqls.isEmpty()) {
+            return false;
+        }
+        SQLParserEngine sqlParserEngine = new SQLParserEngine(databaseType, new CacheOption(1, 1L));
+        long startTime = System.nanoTime();
+        int parsedCount = sqlParserEngine.warmUp(sqls);
+        long startupElapsed = System.nanoTime() - startTime;
+        startTime = System.nanoTime();
+        sqlParserEngine.warmUp(sqls);
+        long steadyElapsed = System.nanoTime() - startTime;
+        log.info("SQL parser of `{}` warmed up by {}/{} SQLs in {} ms, average parse latency of startup is {} us, of steady state is {} us.", databaseType, parsedCount, sqls.size(),
+                TimeUnit.NANOSECONDS.toMillis(startupElapsed), getAverageMicros(startupElapsed, sqls.size()), getAverageMicros(steadyElapsed, sqls.size()));
+        return true;
+    }
+    
+    private static Collection<String> loadCorpus(final Path corpusFile) {
+        try {
+            return Files.readAllLines(corpusFile, StandardCharsets.UTF_8).stream().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith("--")).collect(Collectors.toList());
+        } catch (final IOException ex) {
+            log.warn("Load SQL parser warm up corpus `{}` failed.", corpusFile, ex);
+            return Collections.emptyList();
+        }
+    }
+    
+    private static long getAverageMicros(final long elapsedNanos, final int count) {
+        return 0 == count ? 0L : TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / count;
+    }
+}
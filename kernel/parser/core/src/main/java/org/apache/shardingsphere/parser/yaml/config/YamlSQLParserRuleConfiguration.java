@@ -35,6 +35,10 @@ public final class YamlSQLParserRuleConfiguration implements YamlRuleConfigurati
     
     private YamlSQLParserCacheOptionRuleConfiguration parseTreeCache;
     
+    private boolean sqlShapeCacheEnabled;
+    
+    private boolean sqlFastPathParseEnabled;
+    
     @Override
     public Class<SQLParserRuleConfiguration> getRuleConfigurationType() {
         return SQLParserRuleConfiguration.class;
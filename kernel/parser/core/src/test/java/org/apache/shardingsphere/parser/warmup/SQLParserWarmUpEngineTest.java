@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.parser.warmup;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLParserWarmUpEngineTest {
+    
+    @Test
+    public void assertWarmUp() {
+        assertThat(SQLParserWarmUpEngine.warmUp(createMetaData(getCorpusPath())), is(Collections.singleton("MySQL")));
+    }
+    
+    @Test
+    public void assertWarmUpWithMissingCorpus() {
+        assertTrue(SQLParserWarmUpEngine.warmUp(createMetaData(Paths.get("non-existent-warm-up-corpus").toAbsolutePath().toString())).isEmpty());
+    }
+    
+    @Test
+    public void assertWarmUpWithoutCorpusPath() {
+        assertTrue(SQLParserWarmUpEngine.warmUp(createMetaData("")).isEmpty());
+    }
+    
+    private ShardingSphereMetaData createMetaData(final String corpusPath) {
+        Map<String, ShardingSphereDatabase> databases = new HashMap<>(2, 1);
+        databases.put("foo_db", mockDatabase());
+        databases.put("bar_db", mockDatabase());
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_CORPUS_PATH.getKey(), corpusPath);
+        return new ShardingSphereMetaData(databases, mock(ShardingSphereRuleMetaData.class), new ConfigurationProperties(props));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getProtocolType()).thenReturn(new MySQLDatabaseType());
+        return result;
+    }
+    
+    @SneakyThrows(URISyntaxException.class)
+    private String getCorpusPath() {
+        return Paths.get(getClass().getResource("/warm-up-corpus").toURI()).toString();
+    }
+}
@@ -34,8 +34,10 @@ public final class YamlSQLParserRuleConfigurationSwapperTest {
     @Test
     public void assertSwapToYamlConfiguration() {
         YamlSQLParserRuleConfiguration actual =
-                new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(new SQLParserRuleConfiguration(true, new CacheOption(2, 5), new CacheOption(4, 7)));
+                new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(new SQLParserRuleConfiguration(true, new CacheOption(2, 5), new CacheOption(4, 7), true, true));
         assertTrue(actual.isSqlCommentParseEnabled());
+        assertTrue(actual.isSqlShapeCacheEnabled());
+        assertTrue(actual.isSqlFastPathParseEnabled());
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
@@ -63,7 +65,11 @@ public final class YamlSQLParserRuleConfigurationSwapperTest {
         configuration.setSqlStatementCache(new YamlSQLParserCacheOptionRuleConfiguration());
         configuration.getSqlStatementCache().setInitialCapacity(4);
         configuration.getSqlStatementCache().setMaximumSize(7L);
+        configuration.setSqlShapeCacheEnabled(true);
+        configuration.setSqlFastPathParseEnabled(true);
         SQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToObject(configuration);
+        assertTrue(actual.isSqlShapeCacheEnabled());
+        assertTrue(actual.isSqlFastPathParseEnabled());
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
@@ -51,7 +51,7 @@ public final class AlterSQLParserRuleStatementUpdater implements GlobalRuleRALUp
                 null == ruleStatement.getParseTreeCache() ? currentConfig.getParseTreeCache() : createCacheOption(currentConfig.getParseTreeCache(), ruleStatement.getParseTreeCache());
         CacheOption sqlStatementCache =
                 null == ruleStatement.getSqlStatementCache() ? currentConfig.getSqlStatementCache() : createCacheOption(currentConfig.getSqlStatementCache(), ruleStatement.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache);
+        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, currentConfig.isSqlShapeCacheEnabled(), currentConfig.isSqlFastPathParseEnabled());
     }
     
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
@@ -30,6 +30,7 @@ import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 
 /**
  * ShardingSphere transaction manager engine.
@@ -60,9 +61,10 @@ public final class ShardingSphereTransactionManagerEngine {
      * @param databaseTypes database types
      * @param dataSourceMap data source map
      * @param providerType transaction manager provider type
+     * @param props transaction manager provider properties
      */
-    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, DataSource> dataSourceMap, final String providerType) {
-        transactionManagers.forEach((key, value) -> value.init(databaseTypes, getResourceDataSources(dataSourceMap), providerType));
+    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, DataSource> dataSourceMap, final String providerType, final Properties props) {
+        transactionManagers.forEach((key, value) -> value.init(databaseTypes, getResourceDataSources(dataSourceMap), providerType, props));
     }
     
     private Map<String, ResourceDataSource> getResourceDataSources(final Map<String, DataSource> dataSourceMap) {
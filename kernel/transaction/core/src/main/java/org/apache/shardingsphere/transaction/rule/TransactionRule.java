@@ -76,7 +76,7 @@ public final class TransactionRule implements GlobalRule, ResourceHeldRule<Shard
             return new ShardingSphereTransactionManagerEngine();
         }
         ShardingSphereTransactionManagerEngine result = new ShardingSphereTransactionManagerEngine();
-        result.init(databaseTypes, dataSourceMap, providerType);
+        result.init(databaseTypes, dataSourceMap, providerType, props);
         return result;
     }
     
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * ShardingSphere transaction manager.
@@ -35,9 +36,10 @@ public interface ShardingSphereTransactionManager extends AutoCloseable {
      *
      * @param databaseTypes database types
      * @param resourceDataSources resource data sources
-     * @param providerType transaction manager provider type 
+     * @param providerType transaction manager provider type
+     * @param props transaction manager provider properties
      */
-    void init(Map<String, DatabaseType> databaseTypes, Map<String, ResourceDataSource> resourceDataSources, String providerType);
+    void init(Map<String, DatabaseType> databaseTypes, Map<String, ResourceDataSource> resourceDataSources, String providerType, Properties props);
     
     /**
      * Get transaction type.
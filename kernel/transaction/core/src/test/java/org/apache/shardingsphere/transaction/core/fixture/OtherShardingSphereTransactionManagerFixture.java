@@ -24,11 +24,12 @@ import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManage
 
 import java.sql.Connection;
 import java.util.Map;
+import java.util.Properties;
 
 public final class OtherShardingSphereTransactionManagerFixture implements ShardingSphereTransactionManager {
     
     @Override
-    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, ResourceDataSource> resourceDataSources, final String providerType) {
+    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, ResourceDataSource> resourceDataSources, final String providerType, final Properties props) {
     }
     
     @Override
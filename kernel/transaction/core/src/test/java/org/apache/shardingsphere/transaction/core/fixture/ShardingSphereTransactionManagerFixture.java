@@ -25,6 +25,7 @@ import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManage
 
 import java.sql.Connection;
 import java.util.Map;
+import java.util.Properties;
 
 public final class ShardingSphereTransactionManagerFixture implements ShardingSphereTransactionManager {
     
@@ -32,7 +33,7 @@ public final class ShardingSphereTransactionManagerFixture implements ShardingSp
     private Runnable caller;
     
     @Override
-    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, ResourceDataSource> resourceDataSources, final String providerType) {
+    public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, ResourceDataSource> resourceDataSources, final String providerType, final Properties props) {
         if (null != caller) {
             caller.run();
         }
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.transaction.core.ResourceDataSource;
+import org.apache.shardingsphere.transaction.xa.XAShardingSphereTransactionManager;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of XA transactions per second, each transaction updates one row of each branch and commits.
+ * 
+ * <p>Transactions with one branch show the cost of one-phase commit, and transactions with more branches show the cost of two-phase commit in sequence or in parallel.
+ * Run with {@code -t} threads and {@code -p url=...} of a remote database to see the round trips, the JDBC driver needs to be on class path and {@code %d} of url is replaced by branch index.
+ * The jar is built by {@code mvn install -Pbenchmark -pl kernel/transaction/type/xa/benchmark -am} as {@code kernel/transaction/type/xa/benchmark/target/benchmarks.jar}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class XATransactionBenchmark {
+    
+    private static final String DATABASE_NAME = "xa_benchmark_db";
+    
+    private static final int ROW_COUNT = 1000;
+    
+    @Param({"Atomikos", "Narayana", "Bitronix"})
+    private String providerType;
+    
+    @Param({"1", "2", "4"})
+    private int branchCount;
+    
+    @Param({"false", "true"})
+    private boolean parallelTwoPhaseCommitEnabled;
+    
+    @Param("true")
+    private boolean onePhaseCommitEnabled;
+    
+    @Param("jdbc:h2:mem:xa_benchmark_ds_%d;DB_CLOSE_DELAY=-1")
+    private String url;
+    
+    @Param("sa")
+    private String username;
+    
+    @Param("")
+    private String password;
+    
+    private final Collection<HikariDataSource> dataSources = new ArrayList<>();
+    
+    private XAShardingSphereTransactionManager transactionManager;
+    
+    /**
+     * Set up data sources and XA transaction manager.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Map<String, DatabaseType> databaseTypes = new LinkedHashMap<>(branchCount, 1);
+        Map<String, ResourceDataSource> resourceDataSources = new LinkedHashMap<>(branchCount, 1);
+        for (int i = 0; i < branchCount; i++) {
+            String jdbcUrl = String.format(url, i);
+            HikariDataSource dataSource = createDataSource(jdbcUrl);
+            dataSources.add(dataSource);
+            initTable(dataSource);
+            String dataSourceName = DATABASE_NAME + ".ds_" + i;
+            databaseTypes.put(dataSourceName, DatabaseTypeEngine.getDatabaseType(jdbcUrl));
+            resourceDataSources.put(dataSourceName, new ResourceDataSource(dataSourceName, dataSource));
+        }
+        transactionManager = new XAShardingSphereTransactionManager();
+        transactionManager.init(databaseTypes, resourceDataSources, providerType, createProperties());
+    }
+    
+    private HikariDataSource createDataSource(final String jdbcUrl) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        return new HikariDataSource(config);
+    }
+    
+    private void initTable(final HikariDataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_xa_benchmark");
+            statement.execute("CREATE TABLE t_xa_benchmark (id INT PRIMARY KEY, amount INT)");
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_xa_benchmark (id, amount) VALUES (?, 0)")) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    preparedStatement.setInt(1, i);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED.getKey(), String.valueOf(onePhaseCommitEnabled));
+        result.setProperty(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), String.valueOf(parallelTwoPhaseCommitEnabled));
+        return result;
+    }
+    
+    /**
+     * Close XA transaction manager and data sources.
+     * 
+     * @throws Exception exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        transactionManager.close();
+        dataSources.forEach(HikariDataSource::close);
+    }
+    
+    /**
+     * Update one row of each branch and commit.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void commit() throws SQLException {
+        int id = ThreadLocalRandom.current().nextInt(ROW_COUNT);
+        Collection<Connection> connections = new ArrayList<>(branchCount);
+        transactionManager.begin();
+        try {
+            for (int i = 0; i < branchCount; i++) {
+                Connection connection = transactionManager.getConnection(DATABASE_NAME, "ds_" + i);
+                connections.add(connection);
+                update(connection, id);
+            }
+        } catch (final SQLException ex) {
+            transactionManager.rollback();
+            close(connections);
+            throw ex;
+        }
+        transactionManager.commit(false);
+        close(connections);
+    }
+    
+    private void update(final Connection connection, final int id) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("UPDATE t_xa_benchmark SET amount = amount + 1 WHERE id = ?")) {
+            preparedStatement.setInt(1, id);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private void close(final Collection<Connection> connections) throws SQLException {
+        for (Connection each : connections) {
+            each.close();
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -51,7 +52,7 @@ public final class XAShardingSphereTransactionManagerTest {
     public void setUp() {
         Map<String, ResourceDataSource> resourceDataSources = createResourceDataSources(DatabaseTypeFactory.getInstance("H2"));
         Map<String, DatabaseType> databaseTypes = createDatabaseTypes(DatabaseTypeFactory.getInstance("H2"));
-        xaTransactionManager.init(databaseTypes, resourceDataSources, "Atomikos");
+        xaTransactionManager.init(databaseTypes, resourceDataSources, "Atomikos", new Properties());
     }
     
     @After
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.transaction.xa.fixture;
 
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
@@ -26,7 +27,7 @@ import javax.transaction.TransactionManager;
 public final class FixtureXATransactionManagerProvider implements XATransactionManagerProvider {
     
     @Override
-    public void init() {
+    public void init(final XATransactionProperties props) {
     }
     
     @Override
@@ -22,30 +22,47 @@ import com.atomikos.icatch.config.UserTransactionServiceImp;
 import com.atomikos.icatch.jta.UserTransactionManager;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
+import java.util.Properties;
 
 /**
  * Atomikos XA transaction manager provider.
  */
+@Slf4j
 public final class AtomikosTransactionManagerProvider implements XATransactionManagerProvider {
     
+    private static final String THREADED_TWO_PHASE_COMMIT_KEY = "com.atomikos.icatch.threaded_2pc";
+    
     @Getter
     private UserTransactionManager transactionManager;
     
     private UserTransactionService userTransactionService;
     
     @Override
-    public void init() {
+    public void init(final XATransactionProperties props) {
+        if (!props.<Boolean>getValue(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED)) {
+            log.warn("`{}` is not supported by Atomikos, transactions with only one branch are always committed by one-phase commit.", XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED.getKey());
+        }
         transactionManager = new UserTransactionManager();
-        userTransactionService = new UserTransactionServiceImp();
+        userTransactionService = new UserTransactionServiceImp(createAtomikosProperties(props));
         userTransactionService.init();
     }
     
+    private Properties createAtomikosProperties(final XATransactionProperties props) {
+        Properties result = new Properties();
+        boolean parallelTwoPhaseCommitEnabled = props.getValue(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED);
+        result.setProperty(THREADED_TWO_PHASE_COMMIT_KEY, String.valueOf(parallelTwoPhaseCommitEnabled));
+        return result;
+    }
+    
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
         userTransactionService.registerResource(new AtomikosXARecoverableResource(dataSourceName, xaDataSource));
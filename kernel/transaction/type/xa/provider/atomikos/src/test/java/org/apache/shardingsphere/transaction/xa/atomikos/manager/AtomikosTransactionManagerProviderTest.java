@@ -18,19 +18,24 @@
 package org.apache.shardingsphere.transaction.xa.atomikos.manager;
 
 import com.atomikos.icatch.config.UserTransactionService;
+import com.atomikos.icatch.config.UserTransactionServiceImp;
 import com.atomikos.icatch.jta.UserTransactionManager;
 import org.apache.shardingsphere.infra.util.reflect.ReflectiveUtil;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -39,6 +44,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,9 +102,31 @@ public final class AtomikosTransactionManagerProviderTest {
     
     @Test
     public void assertInit() throws Exception {
-        transactionManagerProvider.init();
+        transactionManagerProvider.init(new XATransactionProperties(new Properties()));
         assertNull(transactionManagerProvider.getTransactionManager().getTransaction());
         assertFalse(transactionManagerProvider.getTransactionManager().getForceShutdown());
         assertTrue(transactionManagerProvider.getTransactionManager().getStartupTransactionService());
     }
+    
+    @Test
+    public void assertInitWithParallelTwoPhaseCommitEnabled() {
+        assertThat(getThreadedTwoPhaseCommit(Boolean.TRUE.toString()), is(Boolean.TRUE.toString()));
+    }
+    
+    @Test
+    public void assertInitWithParallelTwoPhaseCommitDisabledByDefault() {
+        assertThat(getThreadedTwoPhaseCommit(null), is(Boolean.FALSE.toString()));
+    }
+    
+    private String getThreadedTwoPhaseCommit(final String parallelTwoPhaseCommitEnabled) {
+        Properties props = new Properties();
+        if (null != parallelTwoPhaseCommitEnabled) {
+            props.setProperty(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), parallelTwoPhaseCommitEnabled);
+        }
+        Properties[] actual = new Properties[1];
+        try (MockedConstruction<UserTransactionServiceImp> ignored = mockConstruction(UserTransactionServiceImp.class, (mock, context) -> actual[0] = (Properties) context.arguments().get(0))) {
+            transactionManagerProvider.init(new XATransactionProperties(props));
+        }
+        return actual[0].getProperty("com.atomikos.icatch.threaded_2pc");
+    }
 }
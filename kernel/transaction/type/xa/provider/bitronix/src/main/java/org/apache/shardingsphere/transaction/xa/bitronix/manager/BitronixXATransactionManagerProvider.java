@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.transaction.xa.bitronix.manager;
 
 import bitronix.tm.BitronixTransactionManager;
+import bitronix.tm.Configuration;
 import bitronix.tm.TransactionManagerServices;
 import bitronix.tm.recovery.RecoveryException;
 import bitronix.tm.resource.ResourceRegistrar;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
@@ -34,12 +38,24 @@ import javax.transaction.SystemException;
  * Bitronix transaction manager provider.
  */
 @Getter
+@Slf4j
 public final class BitronixXATransactionManagerProvider implements XATransactionManagerProvider {
     
     private BitronixTransactionManager transactionManager;
     
     @Override
-    public void init() {
+    public void init(final XATransactionProperties props) {
+        boolean parallelTwoPhaseCommitEnabled = props.getValue(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED);
+        Configuration configuration = TransactionManagerServices.getConfiguration();
+        if (!TransactionManagerServices.isTransactionManagerRunning()) {
+            configuration.setAsynchronous2Pc(parallelTwoPhaseCommitEnabled);
+        } else if (configuration.isAsynchronous2Pc() != parallelTwoPhaseCommitEnabled) {
+            log.warn("Bitronix transaction manager is already running with asynchronous2Pc `{}`, `{}` of `{}` is ignored until it restarts.",
+                    configuration.isAsynchronous2Pc(), XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), parallelTwoPhaseCommitEnabled);
+        }
+        if (!props.<Boolean>getValue(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED)) {
+            log.warn("`{}` is not supported by Bitronix, transactions with only one branch are always committed by one-phase commit.", XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED.getKey());
+        }
         transactionManager = TransactionManagerServices.getTransactionManager();
     }
     
@@ -18,25 +18,35 @@
 package org.apache.shardingsphere.transaction.xa.bitronix.manager;
 
 import bitronix.tm.BitronixTransactionManager;
+import bitronix.tm.Configuration;
+import bitronix.tm.TransactionManagerServices;
 import bitronix.tm.resource.ResourceRegistrar;
 import org.apache.shardingsphere.infra.util.reflect.ReflectiveUtil;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,4 +93,35 @@ public final class BitronixXATransactionManagerProviderTest {
         transactionManagerProvider.close();
         verify(transactionManager).shutdown();
     }
+    
+    @Test
+    public void assertInitWithParallelTwoPhaseCommitEnabled() {
+        Configuration configuration = mock(Configuration.class);
+        try (MockedStatic<TransactionManagerServices> transactionManagerServices = mockStatic(TransactionManagerServices.class)) {
+            transactionManagerServices.when(TransactionManagerServices::getConfiguration).thenReturn(configuration);
+            transactionManagerServices.when(TransactionManagerServices::getTransactionManager).thenReturn(transactionManager);
+            transactionManagerProvider.init(new XATransactionProperties(createParallelTwoPhaseCommitEnabledProperties()));
+        }
+        verify(configuration).setAsynchronous2Pc(true);
+    }
+    
+    @Test
+    public void assertInitWhenTransactionManagerRunning() {
+        Configuration configuration = mock(Configuration.class);
+        try (MockedStatic<TransactionManagerServices> transactionManagerServices = mockStatic(TransactionManagerServices.class)) {
+            transactionManagerServices.when(TransactionManagerServices::isTransactionManagerRunning).thenReturn(true);
+            transactionManagerServices.when(TransactionManagerServices::getConfiguration).thenReturn(configuration);
+            transactionManagerServices.when(TransactionManagerServices::getTransactionManager).thenReturn(transactionManager);
+            transactionManagerProvider.init(new XATransactionProperties(createParallelTwoPhaseCommitEnabledProperties()));
+        }
+        verify(configuration, never()).setAsynchronous2Pc(anyBoolean());
+        verify(configuration, atLeastOnce()).isAsynchronous2Pc();
+        assertThat(transactionManagerProvider.getTransactionManager(), is(transactionManager));
+    }
+    
+    private Properties createParallelTwoPhaseCommitEnabledProperties() {
+        Properties result = new Properties();
+        result.setProperty(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString());
+        return result;
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.CoordinatorEnvironmentBean;
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.objectstore.StoreManager;
 import com.arjuna.ats.arjuna.recovery.RecoveryManager;
 import com.arjuna.ats.internal.arjuna.recovery.AtomicActionRecoveryModule;
@@ -27,6 +29,8 @@ import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
 import com.arjuna.common.util.propertyservice.PropertiesFactory;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider;
 
@@ -51,7 +55,8 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
     private RecoveryManagerService recoveryManagerService;
     
     @Override
-    public void init() {
+    public void init(final XATransactionProperties props) {
+        initCoordinatorEnvironment(props);
         transactionManager = jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
         xaRecoveryModule = XARecoveryModule.getRegisteredXARecoveryModule();
         recoveryManagerService = new RecoveryManagerService();
@@ -60,6 +65,14 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
         recoveryManagerService.start();
     }
     
+    private void initCoordinatorEnvironment(final XATransactionProperties props) {
+        CoordinatorEnvironmentBean coordinatorEnvironmentBean = arjPropertyManager.getCoordinatorEnvironmentBean();
+        coordinatorEnvironmentBean.setCommitOnePhase(props.getValue(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED));
+        boolean parallelTwoPhaseCommitEnabled = props.getValue(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED);
+        coordinatorEnvironmentBean.setAsyncPrepare(parallelTwoPhaseCommitEnabled);
+        coordinatorEnvironmentBean.setAsyncCommit(parallelTwoPhaseCommitEnabled);
+    }
+    
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
         if (Objects.nonNull(xaRecoveryModule)) {
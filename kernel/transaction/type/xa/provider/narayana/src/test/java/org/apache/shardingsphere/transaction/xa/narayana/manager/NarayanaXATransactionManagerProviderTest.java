@@ -17,14 +17,23 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.CoordinatorEnvironmentBean;
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import com.arjuna.ats.arjuna.recovery.RecoveryManager;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
+import com.arjuna.ats.jta.common.jtaPropertyManager;
 import com.arjuna.ats.jbossatx.jta.RecoveryManagerService;
 import org.apache.shardingsphere.infra.util.reflect.ReflectiveUtil;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionPropertyKey;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import javax.sql.XADataSource;
@@ -32,11 +41,14 @@ import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,4 +108,24 @@ public final class NarayanaXATransactionManagerProviderTest {
         verify(recoveryManagerService).stop();
         verify(recoveryManagerService).destroy();
     }
+    
+    @Test
+    public void assertInitWithCommitProperties() {
+        CoordinatorEnvironmentBean coordinatorEnvironmentBean = mock(CoordinatorEnvironmentBean.class);
+        Properties props = new Properties();
+        props.setProperty(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED.getKey(), Boolean.FALSE.toString());
+        props.setProperty(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString());
+        try (
+                MockedStatic<arjPropertyManager> arjPropertyManagerMock = mockStatic(arjPropertyManager.class);
+                MockedStatic<jtaPropertyManager> ignoredJTAPropertyManager = mockStatic(jtaPropertyManager.class, Answers.RETURNS_DEEP_STUBS);
+                MockedStatic<XARecoveryModule> ignoredXARecoveryModule = mockStatic(XARecoveryModule.class);
+                MockedStatic<RecoveryManager> ignoredRecoveryManager = mockStatic(RecoveryManager.class);
+                MockedConstruction<RecoveryManagerService> ignoredRecoveryManagerService = mockConstruction(RecoveryManagerService.class)) {
+            arjPropertyManagerMock.when(arjPropertyManager::getCoordinatorEnvironmentBean).thenReturn(coordinatorEnvironmentBean);
+            transactionManagerProvider.init(new XATransactionProperties(props));
+        }
+        verify(coordinatorEnvironmentBean).setCommitOnePhase(false);
+        verify(coordinatorEnvironmentBean).setAsyncPrepare(true);
+        verify(coordinatorEnvironmentBean).setAsyncCommit(true);
+    }
 }
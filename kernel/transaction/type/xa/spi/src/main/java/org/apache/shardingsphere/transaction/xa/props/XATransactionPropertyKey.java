@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.props;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.props.TypedPropertyKey;
+
+/**
+ * Typed property key of XA transaction.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum XATransactionPropertyKey implements TypedPropertyKey {
+    
+    /**
+     * Whether to commit a transaction with only one enlisted branch by one-phase commit, which skips prepare and transaction log.
+     * 
+     * <p>Only Narayana can turn it off, Atomikos and Bitronix always commit a transaction with only one enlisted branch by one-phase commit.</p>
+     */
+    ONE_PHASE_COMMIT_ENABLED("one-phase-commit-enabled", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Whether to prepare and commit branches of a transaction with more than one enlisted branch in parallel.
+     */
+    PARALLEL_TWO_PHASE_COMMIT_ENABLED("parallel-two-phase-commit-enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    
+    private final String key;
+    
+    private final String defaultValue;
+    
+    private final Class<?> type;
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.transaction.xa.spi;
 
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+import org.apache.shardingsphere.transaction.xa.props.XATransactionProperties;
 
 import javax.sql.XADataSource;
 import javax.transaction.TransactionManager;
@@ -30,8 +31,10 @@ public interface XATransactionManagerProvider extends AutoCloseable, TypedSPI, R
     
     /**
      * Initialize XA transaction manager provider.
+     * 
+     * @param props XA transaction properties
      */
-    void init();
+    void init(XATransactionProperties props);
     
     /**
      * Register recovery resource.
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.props;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class XATransactionPropertiesTest {
+    
+    @Test
+    public void assertGetValue() {
+        XATransactionProperties actual = new XATransactionProperties(createProperties());
+        assertThat(actual.getValue(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED), is(false));
+        assertThat(actual.getValue(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED), is(true));
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED.getKey(), Boolean.FALSE.toString());
+        result.setProperty(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED.getKey(), Boolean.TRUE.toString());
+        return result;
+    }
+    
+    @Test
+    public void assertGetDefaultValue() {
+        XATransactionProperties actual = new XATransactionProperties(new Properties());
+        assertThat(actual.getValue(XATransactionPropertyKey.ONE_PHASE_COMMIT_ENABLED), is(true));
+        assertThat(actual.getValue(XATransactionPropertyKey.PARALLEL_TWO_PHASE_COMMIT_ENABLED), is(false));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
@@ -61,6 +63,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +79,9 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, AdaptiveConnectionModeSelector> adaptiveConnectionModeSelectors = new ConcurrentHashMap<>();
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
@@ -91,6 +97,17 @@ public final class ContextManager implements AutoCloseable {
         this.metaDataContexts = metaDataContexts;
     }
     
+    /**
+     * Get adaptive connection mode selector.
+     *
+     * @param databaseName database name
+     * @return adaptive connection mode selector of database
+     */
+    public AdaptiveConnectionModeSelector getAdaptiveConnectionModeSelector(final String databaseName) {
+        return adaptiveConnectionModeSelectors.computeIfAbsent(metaDataContexts.getMetaData().getActualDatabaseName(databaseName),
+                key -> new AdaptiveConnectionModeSelector(metaDataContexts.getMetaData().getProps()));
+    }
+    
     /**
      * Get data source map.
      *
@@ -139,6 +156,7 @@ public final class ContextManager implements AutoCloseable {
         }
         String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
+        adaptiveConnectionModeSelectors.remove(actualDatabaseName);
     }
     
     /**
@@ -153,6 +171,7 @@ public final class ContextManager implements AutoCloseable {
         String actualDatabaseName = metaDataContexts.getMetaData().getActualDatabaseName(databaseName);
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().dropDatabase(actualDatabaseName);
+        adaptiveConnectionModeSelectors.remove(actualDatabaseName);
     }
     
     /**
@@ -261,7 +280,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService()
                 .persist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName, schema));
         metaDataContexts.getPersistService().getDataSourceService().append(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeAddedDataSourcePropsMap);
-        switchingResource.closeStaleDataSources();
+        closeStaleDataSources(databaseName, switchingResource);
     }
     
     /**
@@ -277,7 +296,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(ResourceHeldRule.class).forEach(each -> each.addResource(metaDataContexts.getMetaData().getDatabase(databaseName)));
         metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
         metaDataContexts.getPersistService().getDataSourceService().append(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeUpdatedDataSourcePropsMap);
-        switchingResource.closeStaleDataSources();
+        closeStaleDataSources(databaseName, switchingResource);
     }
     
     /**
@@ -300,6 +319,14 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts = reloadMetaDataContexts;
         Map<String, DataSourceProperties> toBeReversedDataSourcePropsMap = getToBeReversedDataSourcePropsMap(dataSourcePropsMap, toBeDroppedResourceNames);
         metaDataContexts.getPersistService().getDataSourceService().persist(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeReversedDataSourcePropsMap);
+        closeStaleDataSources(databaseName, switchingResource);
+    }
+    
+    private void closeStaleDataSources(final String databaseName, final SwitchingResource switchingResource) {
+        AdaptiveConnectionModeSelector adaptiveConnectionModeSelector = adaptiveConnectionModeSelectors.get(metaDataContexts.getMetaData().getActualDatabaseName(databaseName));
+        if (null != adaptiveConnectionModeSelector) {
+            adaptiveConnectionModeSelector.remove(switchingResource.getStaleDataSources().keySet());
+        }
         switchingResource.closeStaleDataSources();
     }
     
@@ -365,7 +392,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.getMetaData().getDatabase(databaseName), switchingResource));
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, null);
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(databaseName, switchingResource);
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
@@ -387,7 +414,7 @@ public final class ContextManager implements AutoCloseable {
             SwitchingResource switchingResource = new ResourceSwitchManager().create(metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), dataSourcePropsMap);
             metaDataContexts = createMetaDataContexts(databaseName, switchingResource, ruleConfigs);
             metaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.getMetaData().getDatabase(databaseName)));
-            switchingResource.closeStaleDataSources();
+            closeStaleDataSources(databaseName, switchingResource);
         } catch (SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
@@ -474,6 +501,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData);
+        adaptiveConnectionModeSelectors.clear();
     }
     
     /**
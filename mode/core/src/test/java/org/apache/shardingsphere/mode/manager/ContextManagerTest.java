@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
@@ -56,6 +57,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -157,6 +159,17 @@ public final class ContextManagerTest {
         verify(metaDataContexts.getMetaData()).dropDatabase("foo_db");
     }
     
+    @Test
+    public void assertGetAdaptiveConnectionModeSelector() {
+        when(metaDataContexts.getMetaData().getActualDatabaseName("FOO_DB")).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().getActualDatabaseName("foo_db")).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        AdaptiveConnectionModeSelector actual = contextManager.getAdaptiveConnectionModeSelector("foo_db");
+        assertThat(contextManager.getAdaptiveConnectionModeSelector("FOO_DB"), is(actual));
+        contextManager.dropDatabase("foo_db");
+        assertThat(contextManager.getAdaptiveConnectionModeSelector("foo_db"), not(actual));
+    }
+    
     @Test
     public void assertDropNotExistedDatabase() {
         contextManager.dropDatabaseAndPersist("not_existed_db");
@@ -330,6 +343,15 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getProps().getProps().getProperty("foo"), is("foo_value"));
     }
     
+    @Test
+    public void assertAlterPropertiesWithAdaptiveConnectionModeSelector() {
+        when(metaDataContexts.getMetaData().getActualDatabaseName("foo_db")).thenReturn("foo_db");
+        AdaptiveConnectionModeSelector actual = contextManager.getAdaptiveConnectionModeSelector("foo_db");
+        contextManager.alterProperties(new Properties());
+        contextManager.renewMetaDataContexts(metaDataContexts);
+        assertThat(contextManager.getAdaptiveConnectionModeSelector("foo_db"), not(actual));
+    }
+    
     @Test
     public void assertReloadDatabase() {
         Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(1, 1);
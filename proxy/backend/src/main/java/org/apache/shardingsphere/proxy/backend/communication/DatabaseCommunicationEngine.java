@@ -42,6 +42,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchem
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.RuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
@@ -80,6 +81,8 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     private MergedResult mergedResult;
     
+    private boolean[] binaryColumns = new boolean[0];
+    
     private final BackendConnection<?> backendConnection;
     
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final BackendConnection<?> backendConnection) {
@@ -170,7 +173,7 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     protected MergedResult mergeQuery(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(database, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps(),
-                getBackendConnection().getConnectionSession().getConnectionContext());
+                getBackendConnection().getConnectionSession().getConnectionContext(), BackendExecutorContext.getInstance().getExecutorEngine());
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
@@ -222,7 +225,8 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
             Object data = mergedResult.getValue(columnIndex, Object.class);
-            cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
+            byte[] binaryData = columnIndex <= binaryColumns.length && binaryColumns[columnIndex - 1] ? (byte[]) mergedResult.getValue(columnIndex, byte[].class) : null;
+            cells.add(new QueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data, binaryData));
         }
         return new QueryResponseRow(cells);
     }
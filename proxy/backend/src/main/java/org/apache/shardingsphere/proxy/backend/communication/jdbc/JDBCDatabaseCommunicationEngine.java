@@ -26,13 +26,17 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCDataNodeQueryExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.adaptive.AdaptiveConnectionModeSelector;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
@@ -40,6 +44,8 @@ import org.apache.shardingsphere.proxy.backend.communication.ProxySQLExecutor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.BinaryResultColumnDetector;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.BinaryResultColumnDetectorFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -55,6 +61,7 @@ import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -123,7 +130,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
             return processExecuteFederation(resultSet, metaDataContexts);
         }
         ExecutionContext executionContext = getKernelProcessor().generateExecutionContext(queryContext, getDatabase(), metaDataContexts.getMetaData().getGlobalRuleMetaData(),
-                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
+                metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext(),
+                new JDBCDataNodeQueryExecutor(BackendExecutorContext.getInstance().getExecutorEngine(), backendConnection));
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
@@ -131,9 +139,36 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         List result = proxySQLExecutor.execute(executionContext);
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
-        return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample)
-                : processExecuteUpdate(executionContext, result);
+        if (!(executeResultSample instanceof QueryResult)) {
+            return processExecuteUpdate(executionContext, result);
+        }
+        QueryResponseHeader queryResponseHeader = processExecuteQuery(executionContext, result, (QueryResult) executeResultSample);
+        setBinaryColumns(findBinaryColumns(executionContext, result));
+        return queryResponseHeader;
+    }
+    
+    private boolean[] findBinaryColumns(final ExecutionContext executionContext, final List<QueryResult> queryResults) throws SQLException {
+        if (1 != queryResults.size() || !(queryResults.get(0) instanceof JDBCStreamQueryResult) || !isTransparentMergedResult(getMergedResult())) {
+            return new boolean[0];
+        }
+        DatabaseType storageType = getDatabase().getResourceMetaData().getStorageTypes().get(executionContext.getExecutionUnits().iterator().next().getDataSourceName());
+        if (null == storageType || !storageType.getType().equals(getDatabase().getProtocolType().getType())) {
+            return new boolean[0];
+        }
+        Optional<BinaryResultColumnDetector> binaryResultColumnDetector = BinaryResultColumnDetectorFactory.findInstance(storageType.getType());
+        if (!binaryResultColumnDetector.isPresent()) {
+            return new boolean[0];
+        }
+        ResultSetMetaData metaData = ((JDBCStreamQueryResult) queryResults.get(0)).getResultSet().getMetaData();
+        boolean[] result = new boolean[Math.min(getQueryHeaders().size(), metaData.getColumnCount())];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = binaryResultColumnDetector.get().isBinaryColumn(metaData, i + 1);
+        }
+        return result;
+    }
+    
+    private boolean isTransparentMergedResult(final MergedResult mergedResult) {
+        return TransparentMergedResult.class == mergedResult.getClass() || IteratorStreamMergedResult.class == mergedResult.getClass();
     }
     
     private static SQLFederationDeciderContext decide(final QueryContext queryContext, final ConfigurationProperties props, final ShardingSphereDatabase database) {
@@ -166,8 +201,11 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final MetaDataContexts metaData) {
         int maxConnectionsSizePerQuery = metaData.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        AdaptiveConnectionModeSelector adaptiveConnectionModeSelector = metaData.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)
+                ? ProxyContext.getInstance().getContextManager().getAdaptiveConnectionModeSelector(backendConnection.getConnectionSession().getDatabaseName())
+                : null;
         JDBCBackendStatement statementManager = (JDBCBackendStatement) backendConnection.getConnectionSession().getStatementManager();
-        return new DriverExecutionPrepareEngine<>(getDriverType(), maxConnectionsSizePerQuery, backendConnection, statementManager,
+        return new DriverExecutionPrepareEngine<>(getDriverType(), maxConnectionsSizePerQuery, adaptiveConnectionModeSelector, backendConnection, statementManager,
                 new StatementOption(isReturnGeneratedKeys), metaData.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName()).getRuleMetaData().getRules(),
                 metaData.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName()).getResourceMetaData().getStorageTypes());
     }
@@ -220,6 +258,9 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
+                if (backendConnection.releaseCachedPreparedStatement(each)) {
+                    continue;
+                }
                 each.cancel();
                 each.close();
             } catch (final SQLException ex) {
@@ -20,8 +20,11 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
@@ -30,10 +33,12 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtil;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -41,6 +46,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -61,6 +68,12 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final Collection<ConnectionPostProcessor<Connection>> connectionPostProcessors = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<PreparedStatementKey, PreparedStatement> idlePreparedStatements = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<PreparedStatement, PreparedStatementKey> inUsePreparedStatements = new ConcurrentHashMap<>();
+    
     private final ResourceLock resourceLock = new ResourceLock();
     
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -107,16 +120,24 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        RequiredSessionVariableRecorder recorder = connectionSession.getRequiredSessionVariableRecorder();
+        boolean lazyResetEnabled = isLazyResetSessionVariablesEnabled();
+        if (recorder.isEmpty() && !lazyResetEnabled) {
             return;
         }
-        String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
+        String databaseType = recorder.isEmpty() ? "" : connections.iterator().next().getMetaData().getDatabaseProductName();
+        List<String> setSQLs = recorder.toSetSQLs(databaseType);
+        List<String> resetSQLs = recorder.toResetSQLs(databaseType);
         SQLException sqlException = null;
         for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
+            try {
+                if (lazyResetEnabled) {
+                    PhysicalConnectionSessionVariables.replay(each, setSQLs, resetSQLs);
+                } else {
+                    executeSQLs(each, setSQLs);
                 }
             } catch (final SQLException ex) {
                 sqlException = ex;
@@ -136,6 +157,19 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         throw sqlException;
     }
     
+    private boolean isLazyResetSessionVariablesEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED);
+    }
+    
+    private void executeSQLs(final Connection connection, final List<String> sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
     private void replayMethodsInvocation(final Connection target) {
         for (ConnectionPostProcessor<Connection> each : connectionPostProcessors) {
             each.process(target);
@@ -169,6 +203,51 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    /**
+     * Take cached prepared statement of SQL on connection, which is in use until released.
+     *
+     * @param connection connection
+     * @param sql SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @return cached prepared statement, empty if no idle prepared statement of SQL on connection
+     */
+    public Optional<PreparedStatement> takeCachedPreparedStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) {
+        PreparedStatementKey key = new PreparedStatementKey(connection, sql, returnGeneratedKeys);
+        PreparedStatement result = idlePreparedStatements.remove(key);
+        if (null == result) {
+            return Optional.empty();
+        }
+        inUsePreparedStatements.put(result, key);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Cache prepared statement of SQL on connection, which is in use until released.
+     *
+     * @param connection connection
+     * @param sql SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param preparedStatement prepared statement to be cached
+     */
+    public void cachePreparedStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys, final PreparedStatement preparedStatement) {
+        inUsePreparedStatements.put(preparedStatement, new PreparedStatementKey(connection, sql, returnGeneratedKeys));
+    }
+    
+    /**
+     * Release cached prepared statement to be reused by later executions of the same SQL on the same connection.
+     *
+     * @param statement statement to be released
+     * @return whether statement is kept by cache, statements not kept should be closed by caller
+     * @throws SQLException SQL exception
+     */
+    public boolean releaseCachedPreparedStatement(final Statement statement) throws SQLException {
+        PreparedStatementKey key = inUsePreparedStatements.remove(statement);
+        if (null == key || statement.isClosed()) {
+            return false;
+        }
+        return null == idlePreparedStatements.putIfAbsent(key, (PreparedStatement) statement);
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -289,7 +368,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
      * @return SQL exception when connections close
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
-        Collection<SQLException> result = new LinkedList<>();
+        Collection<SQLException> result = new LinkedList<>(closeCachedPreparedStatements());
         synchronized (cachedConnections) {
             resetSessionVariablesIfNecessary(cachedConnections.values(), result);
             for (Connection each : cachedConnections.values()) {
@@ -310,6 +389,22 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    private Collection<SQLException> closeCachedPreparedStatements() {
+        Collection<SQLException> result = new LinkedList<>();
+        Collection<PreparedStatement> preparedStatements = new LinkedList<>(idlePreparedStatements.values());
+        preparedStatements.addAll(inUsePreparedStatements.keySet());
+        idlePreparedStatements.clear();
+        inUsePreparedStatements.clear();
+        for (PreparedStatement each : preparedStatements) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
@@ -322,15 +417,28 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
             return;
         }
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
+        boolean lazyResetEnabled = isLazyResetSessionVariablesEnabled();
         for (Connection each : values) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
+            if (lazyResetEnabled && PhysicalConnectionSessionVariables.isTracked(each)) {
+                continue;
+            }
+            try {
+                executeSQLs(each, resetSQLs);
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
         }
         connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PreparedStatementKey {
+        
+        private final Connection connection;
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+    }
 }
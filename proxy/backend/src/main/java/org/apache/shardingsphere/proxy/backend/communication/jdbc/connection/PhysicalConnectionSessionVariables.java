@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Session variables kept on physical connections of connection pools.
+ * 
+ * <p>Session variables are left on physical connections when they are returned to pool, and replayed only if the next borrower requires different ones.
+ * Physical connections are identified by unwrapping pooled connections, connections which can not be unwrapped are not tracked.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PhysicalConnectionSessionVariables {
+    
+    private static final Cache<Connection, AppliedSessionVariables> APPLIED_SESSION_VARIABLES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Replay session variables on connection if they are different from the applied ones.
+     *
+     * @param connection pooled connection
+     * @param setSQLs SQLs to set required session variables
+     * @param resetSQLs SQLs to reset required session variables
+     * @throws SQLException SQL exception
+     */
+    public static void replay(final Connection connection, final List<String> setSQLs, final List<String> resetSQLs) throws SQLException {
+        Optional<Connection> physicalConnection = findPhysicalConnection(connection);
+        if (!physicalConnection.isPresent()) {
+            execute(connection, setSQLs);
+            return;
+        }
+        AppliedSessionVariables applied = APPLIED_SESSION_VARIABLES.getIfPresent(physicalConnection.get());
+        List<String> appliedSetSQLs = null == applied ? Collections.emptyList() : applied.getSetSQLs();
+        if (appliedSetSQLs.equals(setSQLs)) {
+            return;
+        }
+        if (null != applied) {
+            execute(connection, applied.getResetSQLs());
+            APPLIED_SESSION_VARIABLES.invalidate(physicalConnection.get());
+        }
+        if (setSQLs.isEmpty()) {
+            return;
+        }
+        try {
+            execute(connection, setSQLs);
+        } catch (final SQLException ex) {
+            resetQuietly(connection, resetSQLs, ex);
+            throw ex;
+        }
+        APPLIED_SESSION_VARIABLES.put(physicalConnection.get(), new AppliedSessionVariables(setSQLs, resetSQLs));
+    }
+    
+    // Part of session variables may be set before failure, they are reset since the connection is not tracked any more.
+    private static void resetQuietly(final Connection connection, final List<String> resetSQLs, final SQLException cause) {
+        try {
+            execute(connection, resetSQLs);
+        } catch (final SQLException ex) {
+            cause.setNextException(ex);
+        }
+    }
+    
+    /**
+     * Judge whether session variables of connection are tracked.
+     *
+     * @param connection pooled connection
+     * @return session variables of connection are tracked or not
+     */
+    public static boolean isTracked(final Connection connection) {
+        return findPhysicalConnection(connection).isPresent();
+    }
+    
+    private static Optional<Connection> findPhysicalConnection(final Connection connection) {
+        try {
+            Connection result = connection.unwrap(Connection.class);
+            return null == result || result == connection ? Optional.empty() : Optional.of(result);
+        } catch (final SQLException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private static void execute(final Connection connection, final List<String> sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AppliedSessionVariables {
+        
+        private final List<String> setSQLs;
+        
+        private final List<String> resetSQLs;
+    }
+}
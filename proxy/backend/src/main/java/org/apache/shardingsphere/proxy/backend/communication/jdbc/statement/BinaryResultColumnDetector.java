@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Binary result column detector.
+ */
+@SingletonSPI
+public interface BinaryResultColumnDetector extends TypedSPI {
+    
+    /**
+     * Judge whether column is received in binary protocol and encoded the same as column type sent to clients, so bytes of column can be sent to clients as they are.
+     * 
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return is binary column or not
+     * @throws SQLException SQL exception
+     */
+    boolean isBinaryColumn(ResultSetMetaData metaData, int columnIndex) throws SQLException;
+}
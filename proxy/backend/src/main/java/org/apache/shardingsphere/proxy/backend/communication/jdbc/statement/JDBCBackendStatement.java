@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -35,8 +37,13 @@ import java.util.Optional;
 /**
  * JDBC backend statement.
  */
+@RequiredArgsConstructor
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
+    private final JDBCBackendConnection backendConnection;
+    
+    private final boolean serverPreparedStatementEnabled;
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
         Statement result = connection.createStatement();
@@ -51,9 +58,8 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
                                            final DatabaseType databaseType) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> parameters = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = serverPreparedStatementEnabled ? getServerPreparedStatement(connection, sql, option.isReturnGeneratedKeys(), databaseType)
+                : prepareStatement(connection, sql, option.isReturnGeneratedKeys());
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -68,6 +74,23 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement getServerPreparedStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys, final DatabaseType databaseType) throws SQLException {
+        Optional<PreparedStatement> cachedPreparedStatement = backendConnection.takeCachedPreparedStatement(connection, sql, returnGeneratedKeys);
+        if (cachedPreparedStatement.isPresent()) {
+            return cachedPreparedStatement.get();
+        }
+        Optional<ServerPreparedStatementSetter> serverPreparedStatementSetter = ServerPreparedStatementSetterFactory.findInstance(databaseType.getType());
+        PreparedStatement result = serverPreparedStatementSetter.isPresent()
+                ? serverPreparedStatementSetter.get().prepareStatement(connection, sql, returnGeneratedKeys)
+                : prepareStatement(connection, sql, returnGeneratedKeys);
+        backendConnection.cachePreparedStatement(connection, sql, returnGeneratedKeys, result);
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
     private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = StatementMemoryStrictlyFetchSizeSetterFactory.findInstance(databaseType.getType());
         if (fetchSizeSetter.isPresent()) {
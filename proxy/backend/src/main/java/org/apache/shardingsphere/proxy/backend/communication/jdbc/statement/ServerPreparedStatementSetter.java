@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Server prepared statement setter.
+ */
+@SingletonSPI
+public interface ServerPreparedStatementSetter extends TypedSPI {
+    
+    /**
+     * Prepare statement which is prepared on server side from the first execution.
+     * 
+     * @param connection connection
+     * @param sql SQL to be prepared
+     * @param returnGeneratedKeys whether return generated keys
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    PreparedStatement prepareStatement(Connection connection, String sql, boolean returnGeneratedKeys) throws SQLException;
+}
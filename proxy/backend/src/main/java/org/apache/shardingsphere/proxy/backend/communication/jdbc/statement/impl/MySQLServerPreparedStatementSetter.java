@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.ServerPreparedStatementSetter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Server prepared statement setter for MySQL.
+ * 
+ * <p>Connector/J prepares statements on client side unless {@code useServerPrepStmts} is set, so statements are prepared by the server prepare API of Connector/J 5.1.
+ * Other drivers and SQLs which can not be prepared by server fall back to client side prepared statements.</p>
+ */
+public final class MySQLServerPreparedStatementSetter implements ServerPreparedStatementSetter {
+    
+    @Override
+    public PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        if (connection.isWrapperFor(com.mysql.jdbc.Connection.class)) {
+            Optional<PreparedStatement> result = serverPrepareStatement(connection.unwrap(com.mysql.jdbc.Connection.class), sql, returnGeneratedKeys);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private Optional<PreparedStatement> serverPrepareStatement(final com.mysql.jdbc.Connection connection, final String sql, final boolean returnGeneratedKeys) {
+        try {
+            return Optional.of(returnGeneratedKeys ? connection.serverPrepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.serverPrepareStatement(sql));
+        } catch (final SQLException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
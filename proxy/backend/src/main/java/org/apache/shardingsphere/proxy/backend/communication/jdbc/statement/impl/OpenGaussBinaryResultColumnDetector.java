@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.BinaryResultColumnDetector;
+import org.opengauss.PGResultSetMetaData;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Binary result column detector for openGauss.
+ */
+public final class OpenGaussBinaryResultColumnDetector implements BinaryResultColumnDetector {
+    
+    private static final int BINARY_FORMAT = 1;
+    
+    @Override
+    public boolean isBinaryColumn(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        return metaData.isWrapperFor(PGResultSetMetaData.class) && BINARY_FORMAT == metaData.unwrap(PGResultSetMetaData.class).getFormat(columnIndex)
+                && PostgreSQLBinaryResultColumnDetector.isSameColumnType(metaData, columnIndex);
+    }
+    
+    @Override
+    public String getType() {
+        return "openGauss";
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.BinaryResultColumnDetector;
+import org.postgresql.PGResultSetMetaData;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary result column detector for PostgreSQL.
+ */
+public final class PostgreSQLBinaryResultColumnDetector implements BinaryResultColumnDetector {
+    
+    private static final int BINARY_FORMAT = 1;
+    
+    private static final Map<Integer, String> JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP = new HashMap<>(12, 1);
+    
+    static {
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.SMALLINT, "int2");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.INTEGER, "int4");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.BIGINT, "int8");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.NUMERIC, "numeric");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.DECIMAL, "numeric");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.REAL, "float4");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.DOUBLE, "float8");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.BINARY, "bytea");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.DATE, "date");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.TIME, "time");
+        JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.put(Types.TIMESTAMP, "timestamp");
+    }
+    
+    @Override
+    public boolean isBinaryColumn(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        return metaData.isWrapperFor(PGResultSetMetaData.class) && BINARY_FORMAT == metaData.unwrap(PGResultSetMetaData.class).getFormat(columnIndex) && isSameColumnType(metaData, columnIndex);
+    }
+    
+    /**
+     * Judge whether column type of database is the same as column type sent to clients, which is mapped from JDBC type.
+     * 
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return is same column type or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSameColumnType(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        return metaData.getColumnTypeName(columnIndex).equals(JDBC_TYPE_AND_COLUMN_TYPE_NAME_MAP.get(metaData.getColumnType(columnIndex)));
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.ServerPreparedStatementSetter;
+import org.postgresql.PGStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Server prepared statement setter for PostgreSQL.
+ */
+public final class PostgreSQLServerPreparedStatementSetter implements ServerPreparedStatementSetter {
+    
+    @Override
+    public PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        PreparedStatement result = returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        if (result.isWrapperFor(PGStatement.class)) {
+            result.unwrap(PGStatement.class).setPrepareThreshold(1);
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
@@ -30,4 +30,13 @@ public final class QueryResponseCell {
     private final int jdbcType;
     
     private final Object data;
+    
+    /**
+     * Bytes of data received in binary protocol of database, which can be sent to clients of the same protocol as they are.
+     */
+    private final byte[] binaryData;
+    
+    public QueryResponseCell(final int jdbcType, final Object data) {
+        this(jdbcType, data, null);
+    }
 }
@@ -98,7 +98,12 @@ public final class ConnectionSession {
     
     private ExecutorStatementManager determineStatementManager() {
         String proxyBackendDriverType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE);
-        return "ExperimentalVertx".equals(proxyBackendDriverType) ? new VertxBackendStatement() : new JDBCBackendStatement();
+        if ("ExperimentalVertx".equals(proxyBackendDriverType)) {
+            return new VertxBackendStatement();
+        }
+        boolean serverPreparedStatementEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED);
+        return new JDBCBackendStatement((JDBCBackendConnection) backendConnection, serverPreparedStatementEnabled);
     }
     
     /**
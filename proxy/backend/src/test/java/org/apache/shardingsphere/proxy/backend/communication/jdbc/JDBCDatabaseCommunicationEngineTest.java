@@ -143,7 +143,7 @@ public final class JDBCDatabaseCommunicationEngineTest extends ProxyContextResto
         kernelProcessorField.setAccessible(true);
         KernelProcessor kernelProcessor = mock(KernelProcessor.class);
         kernelProcessorField.set(engine, kernelProcessor);
-        when(backendConnection.getConnectionSession().getStatementManager()).thenReturn(new JDBCBackendStatement());
+        when(backendConnection.getConnectionSession().getStatementManager()).thenReturn(new JDBCBackendStatement(backendConnection, false));
         SQLFederationExecutor federationExecutor = mock(SQLFederationExecutor.class);
         try (
                 MockedStatic<SQLFederationExecutorFactory> federationExecutorFactory = mockStatic(SQLFederationExecutorFactory.class);
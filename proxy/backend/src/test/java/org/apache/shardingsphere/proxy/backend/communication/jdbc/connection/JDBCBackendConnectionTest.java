@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -102,7 +103,7 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         backendConnection = spy(new JDBCBackendConnection(connectionSession));
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
         when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
-        JDBCBackendStatement backendStatement = new JDBCBackendStatement();
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(backendConnection, false);
         when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(new RequiredSessionVariableRecorder());
     }
@@ -279,6 +280,7 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         try (MockedStatic<ProxyContext> mockedStatic = mockStatic(ProxyContext.class)) {
             ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
             mockedStatic.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
             Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
             when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
             when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class)))
@@ -297,6 +299,7 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         try (MockedStatic<ProxyContext> mockedStatic = mockStatic(ProxyContext.class)) {
             ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
             mockedStatic.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
             connection = mock(Connection.class, RETURNS_DEEP_STUBS);
             when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
             when(connection.createStatement().execute("SET key=value")).thenThrow(expectedException);
@@ -448,6 +451,32 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
     }
     
+    @Test
+    public void assertGetConnectionsAndReplaySessionVariablesLazily() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection physicalConnection = mock(Connection.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        try (MockedStatic<ProxyContext> mockedStatic = mockStatic(ProxyContext.class)) {
+            ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+            mockedStatic.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(createLazyResetSessionVariablesProperties());
+            when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+            backendConnection.getConnections("", 1, ConnectionMode.CONNECTION_STRICTLY);
+            backendConnection.closeConnections(false);
+            backendConnection.getConnections("", 1, ConnectionMode.CONNECTION_STRICTLY);
+        }
+        verify(connection.createStatement()).execute("SET key=value");
+        verify(connection.createStatement(), times(0)).execute("RESET ALL");
+    }
+    
+    private ConfigurationProperties createLazyResetSessionVariablesProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_LAZY_RESET_SESSION_VARIABLES_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ConfigurationProperties(result);
+    }
+    
     @Test
     public void assertCloseConnectionsAndFailedToGetDatabaseType() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PhysicalConnectionSessionVariablesTest {
+    
+    private static final List<String> SET_SQLS = Collections.singletonList("SET sql_mode=ANSI");
+    
+    private static final List<String> RESET_SQLS = Collections.singletonList("SET sql_mode=DEFAULT");
+    
+    @Test
+    public void assertReplayOnceForSamePhysicalConnection() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Connection connection = mockPooledConnection(physicalConnection, statement);
+        PhysicalConnectionSessionVariables.replay(connection, SET_SQLS, RESET_SQLS);
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), SET_SQLS, RESET_SQLS);
+        verify(statement, times(1)).execute("SET sql_mode=ANSI");
+        verify(statement, never()).execute("SET sql_mode=DEFAULT");
+    }
+    
+    @Test
+    public void assertReplayDifferentSessionVariables() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), SET_SQLS, RESET_SQLS);
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), Collections.emptyList(), Collections.emptyList());
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), Collections.emptyList(), Collections.emptyList());
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("SET sql_mode=ANSI");
+        inOrder.verify(statement).execute("SET sql_mode=DEFAULT");
+        verify(statement, times(2)).execute(anyString());
+    }
+    
+    @Test
+    public void assertReplayOnUntrackedConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+        PhysicalConnectionSessionVariables.replay(connection, SET_SQLS, RESET_SQLS);
+        PhysicalConnectionSessionVariables.replay(connection, SET_SQLS, RESET_SQLS);
+        verify(statement, times(2)).execute("SET sql_mode=ANSI");
+        assertFalse(PhysicalConnectionSessionVariables.isTracked(connection));
+    }
+    
+    @Test
+    public void assertReplayEmptySessionVariablesOnCleanConnection() throws SQLException {
+        Statement statement = mock(Statement.class);
+        Connection connection = mockPooledConnection(mock(Connection.class), statement);
+        PhysicalConnectionSessionVariables.replay(connection, Collections.emptyList(), Collections.emptyList());
+        verify(statement, never()).execute(anyString());
+        assertTrue(PhysicalConnectionSessionVariables.isTracked(connection));
+    }
+    
+    @Test
+    public void assertReplayAgainAfterSetFailed() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(statement.execute("SET sql_mode=ANSI")).thenThrow(new SQLException("set failed")).thenReturn(false);
+        try {
+            PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), SET_SQLS, RESET_SQLS);
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("set failed"));
+        }
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), SET_SQLS, RESET_SQLS);
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("SET sql_mode=ANSI");
+        inOrder.verify(statement).execute("SET sql_mode=DEFAULT");
+        inOrder.verify(statement).execute("SET sql_mode=ANSI");
+    }
+    
+    @Test
+    public void assertKeepAppliedSessionVariablesAfterResetFailed() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(statement.execute("SET sql_mode=DEFAULT")).thenThrow(new SQLException("reset failed")).thenReturn(false);
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), SET_SQLS, RESET_SQLS);
+        try {
+            PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), Collections.emptyList(), Collections.emptyList());
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("reset failed"));
+        }
+        PhysicalConnectionSessionVariables.replay(mockPooledConnection(physicalConnection, statement), Collections.emptyList(), Collections.emptyList());
+        verify(statement, times(2)).execute("SET sql_mode=DEFAULT");
+    }
+    
+    private Connection mockPooledConnection(final Connection physicalConnection, final Statement statement) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.unwrap(Connection.class)).thenReturn(physicalConnection);
+        when(result.createStatement()).thenReturn(statement);
+        return result;
+    }
+}
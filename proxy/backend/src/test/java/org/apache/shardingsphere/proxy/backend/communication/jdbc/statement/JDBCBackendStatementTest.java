@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JDBCBackendStatementTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final DatabaseType databaseType = new H2DatabaseType();
+    
+    @Mock
+    private Connection connection;
+    
+    private JDBCBackendConnection backendConnection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        backendConnection = new JDBCBackendConnection(mock(ConnectionSession.class, RETURNS_DEEP_STUBS));
+        when(connection.prepareStatement(SQL)).thenAnswer(invocation -> mock(PreparedStatement.class));
+    }
+    
+    @Test
+    public void assertReusePreparedStatementAfterReleased() throws SQLException {
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(backendConnection, true);
+        Statement expected = createStorageResource(backendStatement, 1);
+        assertTrue(backendConnection.releaseCachedPreparedStatement(expected));
+        Statement actual = createStorageResource(backendStatement, 2);
+        assertThat(actual, is(expected));
+        verify(connection, times(1)).prepareStatement(SQL);
+        verify((PreparedStatement) actual).setObject(1, 2);
+    }
+    
+    @Test
+    public void assertNotSharePreparedStatementInUse() throws SQLException {
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(backendConnection, true);
+        Statement first = createStorageResource(backendStatement, 1);
+        Statement second = createStorageResource(backendStatement, 2);
+        assertThat(second, not(first));
+        verify(connection, times(2)).prepareStatement(SQL);
+        assertTrue(backendConnection.releaseCachedPreparedStatement(first));
+        assertFalse(backendConnection.releaseCachedPreparedStatement(second));
+    }
+    
+    @Test
+    public void assertNotCachePreparedStatementWhenServerPreparedStatementDisabled() throws SQLException {
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(backendConnection, false);
+        Statement first = createStorageResource(backendStatement, 1);
+        assertFalse(backendConnection.releaseCachedPreparedStatement(first));
+        Statement second = createStorageResource(backendStatement, 2);
+        assertThat(second, not(first));
+        verify(connection, times(2)).prepareStatement(SQL);
+    }
+    
+    @Test
+    public void assertCloseCachedPreparedStatementsWhenCloseConnections() throws SQLException {
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(backendConnection, true);
+        Statement idle = createStorageResource(backendStatement, 1);
+        final Statement inUse = createStorageResource(backendStatement, 2);
+        backendConnection.releaseCachedPreparedStatement(idle);
+        assertTrue(backendConnection.closeConnections(false).isEmpty());
+        verify(idle).close();
+        verify(inUse).close();
+        assertThat(createStorageResource(backendStatement, 3), not(idle));
+    }
+    
+    private Statement createStorageResource(final JDBCBackendStatement backendStatement, final int orderId) throws SQLException {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(orderId)));
+        return backendStatement.createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, new StatementOption(false), databaseType);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLServerPreparedStatementSetterTest {
+    
+    @Test
+    public void assertPrepareStatementByServer() throws SQLException {
+        Connection connection = mock(Connection.class);
+        com.mysql.jdbc.Connection mysqlConnection = mock(com.mysql.jdbc.Connection.class);
+        when(connection.isWrapperFor(com.mysql.jdbc.Connection.class)).thenReturn(true);
+        when(connection.unwrap(com.mysql.jdbc.Connection.class)).thenReturn(mysqlConnection);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(mysqlConnection.serverPrepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        assertThat(new MySQLServerPreparedStatementSetter().prepareStatement(connection, "SELECT 1", false), is(preparedStatement));
+    }
+    
+    @Test
+    public void assertPrepareStatementByServerWithGeneratedKeys() throws SQLException {
+        Connection connection = mock(Connection.class);
+        com.mysql.jdbc.Connection mysqlConnection = mock(com.mysql.jdbc.Connection.class);
+        when(connection.isWrapperFor(com.mysql.jdbc.Connection.class)).thenReturn(true);
+        when(connection.unwrap(com.mysql.jdbc.Connection.class)).thenReturn(mysqlConnection);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(mysqlConnection.serverPrepareStatement("INSERT INTO t_order (status) VALUES (?)", Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        assertThat(new MySQLServerPreparedStatementSetter().prepareStatement(connection, "INSERT INTO t_order (status) VALUES (?)", true), is(preparedStatement));
+    }
+    
+    @Test
+    public void assertPrepareStatementByClientWhenServerPrepareFailed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        com.mysql.jdbc.Connection mysqlConnection = mock(com.mysql.jdbc.Connection.class);
+        when(connection.isWrapperFor(com.mysql.jdbc.Connection.class)).thenReturn(true);
+        when(connection.unwrap(com.mysql.jdbc.Connection.class)).thenReturn(mysqlConnection);
+        when(mysqlConnection.serverPrepareStatement("SHOW TABLES")).thenThrow(SQLException.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SHOW TABLES")).thenReturn(preparedStatement);
+        assertThat(new MySQLServerPreparedStatementSetter().prepareStatement(connection, "SHOW TABLES", false), is(preparedStatement));
+    }
+    
+    @Test
+    public void assertPrepareStatementByClientWithoutMySQLDriver() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        assertThat(new MySQLServerPreparedStatementSetter().prepareStatement(connection, "SELECT 1", false), is(preparedStatement));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.junit.Test;
+import org.opengauss.PGResultSetMetaData;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OpenGaussBinaryResultColumnDetectorTest {
+    
+    @Test
+    public void assertIsBinaryColumn() throws SQLException {
+        assertTrue(new OpenGaussBinaryResultColumnDetector().isBinaryColumn(mockMetaData(1, Types.INTEGER, "int4"), 1));
+    }
+    
+    @Test
+    public void assertIsNotBinaryColumnWithTextFormat() throws SQLException {
+        assertFalse(new OpenGaussBinaryResultColumnDetector().isBinaryColumn(mockMetaData(0, Types.INTEGER, "int4"), 1));
+    }
+    
+    @Test
+    public void assertIsNotBinaryColumnWithDifferentColumnType() throws SQLException {
+        assertFalse(new OpenGaussBinaryResultColumnDetector().isBinaryColumn(mockMetaData(1, Types.TIMESTAMP, "timestamptz"), 1));
+    }
+    
+    @Test
+    public void assertIsNotBinaryColumnWithoutDriverMetaData() throws SQLException {
+        assertFalse(new OpenGaussBinaryResultColumnDetector().isBinaryColumn(mock(ResultSetMetaData.class), 1));
+    }
+    
+    private ResultSetMetaData mockMetaData(final int format, final int columnType, final String columnTypeName) throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        PGResultSetMetaData pgMetaData = mock(PGResultSetMetaData.class);
+        when(pgMetaData.getFormat(1)).thenReturn(format);
+        when(result.isWrapperFor(PGResultSetMetaData.class)).thenReturn(true);
+        when(result.unwrap(PGResultSetMetaData.class)).thenReturn(pgMetaData);
+        when(result.getColumnType(1)).thenReturn(columnType);
+        when(result.getColumnTypeName(1)).thenReturn(columnTypeName);
+        return result;
+    }
+}
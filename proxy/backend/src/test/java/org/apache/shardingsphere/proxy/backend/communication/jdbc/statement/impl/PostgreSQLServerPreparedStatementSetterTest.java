@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.impl;
+
+import org.junit.Test;
+import org.postgresql.PGStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLServerPreparedStatementSetterTest {
+    
+    @Test
+    public void assertPrepareStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        PGStatement pgStatement = mock(PGStatement.class);
+        when(preparedStatement.isWrapperFor(PGStatement.class)).thenReturn(true);
+        when(preparedStatement.unwrap(PGStatement.class)).thenReturn(pgStatement);
+        assertThat(new PostgreSQLServerPreparedStatementSetter().prepareStatement(connection, "SELECT 1", false), is(preparedStatement));
+        verify(pgStatement).setPrepareThreshold(1);
+    }
+    
+    @Test
+    public void assertPrepareStatementWithGeneratedKeys() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("INSERT INTO t_order (status) VALUES (?)", Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        assertThat(new PostgreSQLServerPreparedStatementSetter().prepareStatement(connection, "INSERT INTO t_order (status) VALUES (?)", true), is(preparedStatement));
+    }
+}
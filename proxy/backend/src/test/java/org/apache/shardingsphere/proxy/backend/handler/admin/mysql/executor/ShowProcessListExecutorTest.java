@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.handler.admin.mysql.executor;
 
 import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -36,6 +37,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ShowProcessListExecutorTest extends ProxyContextRestorer {
     
@@ -44,6 +46,8 @@ public final class ShowProcessListExecutorTest extends ProxyContextRestorer {
     @Before
     public void setUp() throws NoSuchFieldException, IllegalAccessException {
         ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED))
+                .thenReturn(false);
         showProcessListExecutor = new ShowProcessListExecutor();
         setupBatchProcessContexts();
     }
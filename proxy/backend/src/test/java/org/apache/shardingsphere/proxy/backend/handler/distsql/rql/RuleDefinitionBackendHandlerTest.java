@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.handler.distsql.rql;
 
 import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -58,6 +59,7 @@ public final class RuleDefinitionBackendHandlerTest extends ProxyContextRestorer
         when(database.getRuleMetaData()).thenReturn(ruleMetaData);
         when(result.getMetaDataContexts().getMetaData().containsDatabase("test")).thenReturn(true);
         when(result.getMetaDataContexts().getMetaData().getDatabase("test")).thenReturn(database);
+        when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_SERVER_PREPARED_STATEMENT_ENABLED)).thenReturn(false);
         return result;
     }
     
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.PhysicalConnectionSessionVariables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of transaction level pooling with session variables, each transaction borrows a pooled connection, runs one query and returns the connection.
+ * 
+ * <p>Eager reset sets session variables when borrowing and resets them when returning, lazy reset replays them only if the physical connection carries different ones.
+ * Every SQL is one round trip, so run with {@code -p url=... -p username=... -p password=...} against a remote database to see the network cost,
+ * its JDBC driver needs to be on class path.
+ * The jar is built by {@code mvn install -Pbenchmark -pl proxy/benchmark -am} as {@code proxy/benchmark/target/benchmarks.jar}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SessionVariablesPoolingBenchmark {
+    
+    @Param("jdbc:h2:mem:session_variables_benchmark;DB_CLOSE_DELAY=-1")
+    private String url;
+    
+    @Param("sa")
+    private String username;
+    
+    @Param("")
+    private String password;
+    
+    @Param({"1", "4"})
+    private int sessionVariablesCount;
+    
+    private HikariDataSource dataSource;
+    
+    private List<String> setSQLs;
+    
+    private List<String> resetSQLs;
+    
+    /**
+     * Set up connection pool and session variables.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(1);
+        dataSource = new HikariDataSource(config);
+        setSQLs = new ArrayList<>(sessionVariablesCount);
+        resetSQLs = new ArrayList<>(sessionVariablesCount);
+        for (int i = 0; i < sessionVariablesCount; i++) {
+            setSQLs.add(String.format("SET @benchmark_variable_%d = %d", i, i));
+            resetSQLs.add(String.format("SET @benchmark_variable_%d = NULL", i));
+        }
+    }
+    
+    /**
+     * Close connection pool.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+    
+    /**
+     * Execute transaction with eager reset of session variables.
+     * 
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int eagerResetSessionVariables() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            execute(connection, setSQLs);
+            int result = query(connection);
+            execute(connection, resetSQLs);
+            return result;
+        }
+    }
+    
+    /**
+     * Execute transaction with lazy reset of session variables.
+     * 
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int lazyResetSessionVariables() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            PhysicalConnectionSessionVariables.replay(connection, setSQLs, resetSQLs);
+            return query(connection);
+        }
+    }
+    
+    private void execute(final Connection connection, final List<String> sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        }
+    }
+    
+    private int query(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+
+/**
+ * Direct buffer packet writer.
+ * 
+ * <p>Packets are encoded into pooled direct buffers by the writing thread instead of being kept on heap until encoded by event loop,
+ * so that pending bytes are counted by write buffer water mark of channel.</p>
+ * 
+ * @param <T> type of database packet
+ */
+@RequiredArgsConstructor
+public final class DirectBufferPacketWriter<T extends DatabasePacket<?>> {
+    
+    private final DatabasePacketCodecEngine<T> codecEngine;
+    
+    /**
+     * Encode packet and write.
+     *
+     * @param context channel handler context
+     * @param packet packet to be written
+     */
+    public void write(final ChannelHandlerContext context, final T packet) {
+        ByteBuf out = context.alloc().ioBuffer();
+        try {
+            codecEngine.encode(context, packet, out);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            out.release();
+            throw ex;
+        }
+        if (out.isReadable()) {
+            context.write(out);
+        } else {
+            out.release();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DirectBufferPacketWriterTest {
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    private DirectBufferPacketWriter<DatabasePacket<?>> packetWriter;
+    
+    @Before
+    public void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        packetWriter = new DirectBufferPacketWriter<>(codecEngine);
+    }
+    
+    @Test
+    public void assertWriteEncodedPacket() {
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        doAnswer(invocation -> invocation.getArgument(2, ByteBuf.class).writeInt(1)).when(codecEngine).encode(eq(context), eq(packet), any(ByteBuf.class));
+        packetWriter.write(context, packet);
+        ArgumentCaptor<ByteBuf> byteBufCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(byteBufCaptor.capture());
+        assertThat(byteBufCaptor.getValue().readInt(), is(1));
+        assertThat(byteBufCaptor.getValue().release(), is(true));
+    }
+    
+    @Test
+    public void assertWriteEmptyPacket() {
+        packetWriter.write(context, mock(DatabasePacket.class));
+        verify(context, never()).write(any());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertWriteWithEncodeFailure() {
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        doThrow(IllegalStateException.class).when(codecEngine).encode(eq(context), eq(packet), any(ByteBuf.class));
+        packetWriter.write(context, packet);
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
@@ -37,6 +39,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
+import org.apache.shardingsphere.proxy.frontend.netty.DirectBufferPacketWriter;
 
 import java.sql.SQLException;
 import java.util.Optional;
@@ -46,6 +49,8 @@ import java.util.Optional;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private final DirectBufferPacketWriter<MySQLPacket> packetWriter = new DirectBufferPacketWriter<>(new MySQLPacketCodecEngine());
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -86,8 +91,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
                 context.flush();
                 ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
             }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
+            packetWriter.write(context, (MySQLPacket) queryCommandExecutor.getQueryRowPacket());
             if (flushThreshold == count) {
                 context.flush();
                 count = 0;
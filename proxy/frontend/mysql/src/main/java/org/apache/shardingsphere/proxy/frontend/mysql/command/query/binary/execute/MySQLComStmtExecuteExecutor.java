@@ -120,7 +120,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
         List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
         for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+            MySQLBinaryColumnType columnType = MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType());
+            result.add(null == each.getBinaryData() ? new BinaryCell(columnType, each.getData()) : new BinaryCell(columnType, each.getBinaryData(), true));
         }
         return new BinaryRow(result);
     }
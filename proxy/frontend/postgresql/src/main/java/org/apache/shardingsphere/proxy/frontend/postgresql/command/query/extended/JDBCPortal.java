@@ -176,7 +176,8 @@ public final class JDBCPortal implements Portal<Void> {
     }
     
     private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType()), cell.getData());
+        PostgreSQLColumnType columnType = PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType());
+        return null == cell.getBinaryData() ? new BinaryCell(columnType, cell.getData()) : new BinaryCell(columnType, cell.getBinaryData(), true);
     }
     
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import io.netty.util.Attribute;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -42,7 +46,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
@@ -103,6 +110,7 @@ public final class PostgreSQLCommandExecuteEngineTest extends ProxyContextRestor
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
     }
     
+    @SuppressWarnings("unchecked")
     @Test
     public void assertWriteQueryDataWithHasNextResult() throws SQLException {
         PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
@@ -114,12 +122,15 @@ public final class PostgreSQLCommandExecuteEngineTest extends ProxyContextRestor
         JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
         when(backendConnection.getResourceLock()).thenReturn(resourceLock);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
-        PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
-        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        Attribute<Charset> charsetAttribute = mock(Attribute.class);
+        when(charsetAttribute.get()).thenReturn(StandardCharsets.UTF_8);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(charsetAttribute);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new PostgreSQLDataRowPacket(Collections.<Object>singletonList("foo")));
         PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
         verify(resourceLock).doAwait();
-        verify(channelHandlerContext).write(packet);
+        verify(channelHandlerContext).write(isA(ByteBuf.class));
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).flush();
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
@@ -73,6 +74,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -154,6 +156,25 @@ public final class JDBCPortalTest extends ProxyContextRestorer {
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
     }
     
+    @Test
+    public void assertExecuteSelectStatementWithBinaryData() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        when(proxyBackendHandler.execute()).thenReturn(responseHeader);
+        when(proxyBackendHandler.next()).thenReturn(true, false);
+        byte[] binaryData = {0, 0, 0, 1};
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 1, binaryData))));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new PostgreSQLSelectStatement());
+        PostgreSQLServerPreparedStatement preparedStatement = new PostgreSQLServerPreparedStatement("", sqlStatementContext, Collections.emptyList());
+        JDBCPortal portal = new JDBCPortal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.BINARY), backendConnection);
+        portal.bind();
+        List<PostgreSQLPacket> actualPackets = portal.execute(0);
+        assertThat(actualPackets.size(), is(2));
+        BinaryCell actualCell = (BinaryCell) ((PostgreSQLDataRowPacket) actualPackets.get(0)).getData().iterator().next();
+        assertTrue(actualCell.isEncoded());
+        assertThat(actualCell.getData(), is(binaryData));
+    }
+    
     @Test
     public void assertExecuteSelectStatementAndPortalSuspended() throws SQLException {
         QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
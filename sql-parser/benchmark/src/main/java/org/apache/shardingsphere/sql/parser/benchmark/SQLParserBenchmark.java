@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.benchmark;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.CasesRegistry;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistryFactory;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.loader.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of parsing and visiting SQL, the corpus is drawn from the SQL cases of parser test.
+ * 
+ * <p>Build with {@code mvn install -Pbenchmark -pl sql-parser/benchmark -am}, which is excluded from default build,
+ * and run with {@code java -jar sql-parser/benchmark/target/benchmarks.jar -prof gc -rf json} to compare throughput and allocation rate between runs.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SQLParserBenchmark {
+    
+    private static final SQLCasesLoader SQL_CASES_LOADER = CasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
+    
+    @Param({"MySQL", "PostgreSQL", "openGauss", "Oracle", "SQLServer", "SQL92"})
+    private String databaseType;
+    
+    @Param({"true", "false"})
+    private boolean useCache;
+    
+    private SQLParserEngine parserEngine;
+    
+    private SQLVisitorEngine visitorEngine;
+    
+    private List<String> corpus;
+    
+    private int index;
+    
+    /**
+     * Set up parser engine and corpus.
+     * 
+     * <p>Parse tree cache is sized to hold the whole corpus, so that every SQL is a cache hit after the first round in cached mode.</p>
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", false, new Properties());
+        corpus = loadCorpus(new SQLParserEngine(databaseType, new CacheOption(1, 1L)));
+        parserEngine = new SQLParserEngine(databaseType, new CacheOption(corpus.size(), corpus.size()));
+    }
+    
+    private List<String> loadCorpus(final SQLParserEngine corpusParserEngine) {
+        List<String> result = new ArrayList<>();
+        for (Object[] each : SQL_CASES_LOADER.getTestParameters(Collections.singleton(databaseType))) {
+            if (SQLCaseType.Literal != each[2]) {
+                continue;
+            }
+            String sqlCaseId = each[0].toString();
+            String sql = SQL_CASES_LOADER.getCaseValue(sqlCaseId, SQLCaseType.Literal, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters(), databaseType);
+            if (isSupported(corpusParserEngine, sql)) {
+                result.add(sql);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalStateException(String.format("Can not find any SQL case of `%s`.", databaseType));
+        }
+        return result;
+    }
+    
+    // CHECKSTYLE:OFF
+    private boolean isSupported(final SQLParserEngine corpusParserEngine, final String sql) {
+        try {
+            visitorEngine.visit(corpusParserEngine.parse(sql, false));
+            return true;
+        } catch (final Exception ignored) {
+            return false;
+        }
+    }
+    // CHECKSTYLE:ON
+    
+    /**
+     * Parse and visit next SQL in corpus.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public Object parseAndVisit() {
+        String sql = corpus.get(index);
+        index = index + 1 == corpus.size() ? 0 : index + 1;
+        return visitorEngine.visit(parserEngine.parse(sql, useCache));
+    }
+}
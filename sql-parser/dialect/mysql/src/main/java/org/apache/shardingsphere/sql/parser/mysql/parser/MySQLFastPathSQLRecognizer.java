@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementLexer;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Fast path SQL recognizer for MySQL.
+ * 
+ * <p>Recognizes single table point select, insert values, update and delete with equality conditions joined by AND,
+ * values must be parameter markers, unsigned numbers or single quoted strings.
+ * Identifiers must not be keywords, and SQLs with comments are not recognized, so the SQL statement built is same as the one built by ANTLR.</p>
+ */
+final class MySQLFastPathSQLRecognizer {
+    
+    private static final Collection<String> KEYWORDS = createKeywords();
+    
+    private final String sql;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private int position;
+    
+    private int parameterMarkerIndex;
+    
+    MySQLFastPathSQLRecognizer(final String sql) {
+        this.sql = sql;
+    }
+    
+    private static Collection<String> createKeywords() {
+        Collection<String> result = new HashSet<>();
+        for (int i = 0; i <= MySQLStatementLexer.VOCABULARY.getMaxTokenType(); i++) {
+            String symbolicName = MySQLStatementLexer.VOCABULARY.getSymbolicName(i);
+            if (null != symbolicName) {
+                result.add(symbolicName);
+            }
+        }
+        result.add("SKIP");
+        return result;
+    }
+    
+    /**
+     * Recognize SQL statement.
+     * 
+     * @return recognized SQL statement, empty if SQL is not in simple shapes
+     */
+    Optional<SQLStatement> recognize() {
+        AbstractSQLStatement result = recognizeStatement();
+        if (null == result || !isEnd()) {
+            return Optional.empty();
+        }
+        result.setParameterCount(parameterMarkerIndex);
+        result.getParameterMarkerSegments().addAll(parameterMarkerSegments);
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement recognizeStatement() {
+        if (acceptKeyword("SELECT")) {
+            return recognizeSelect();
+        }
+        if (acceptKeyword("INSERT")) {
+            return recognizeInsert();
+        }
+        if (acceptKeyword("UPDATE")) {
+            return recognizeUpdate();
+        }
+        if (acceptKeyword("DELETE")) {
+            return recognizeDelete();
+        }
+        return null;
+    }
+    
+    private MySQLSelectStatement recognizeSelect() {
+        ProjectionsSegment projections = recognizeProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        return recognizeWhere(result::setWhere) ? result : null;
+    }
+    
+    private ProjectionsSegment recognizeProjections() {
+        int startIndex = skipWhitespaces();
+        Collection<ProjectionSegment> projections = new LinkedList<>();
+        if (acceptSymbol('*')) {
+            projections.add(new ShorthandProjectionSegment(startIndex, startIndex));
+        } else {
+            do {
+                ColumnSegment column = recognizeColumn();
+                if (null == column) {
+                    return null;
+                }
+                projections.add(new ColumnProjectionSegment(column));
+            } while (acceptSymbol(','));
+        }
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, ((LinkedList<ProjectionSegment>) projections).getLast().getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private MySQLInsertStatement recognizeInsert() {
+        if (!acceptKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = recognizeInsertColumns();
+        if (null == insertColumns || !acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            return null;
+        }
+        Collection<InsertValuesSegment> values = new LinkedList<>();
+        do {
+            InsertValuesSegment each = recognizeInsertValues();
+            if (null == each) {
+                return null;
+            }
+            values.add(each);
+        } while (acceptSymbol(','));
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(insertColumns);
+        result.getValues().addAll(values);
+        result.setTable(table);
+        return result;
+    }
+    
+    private InsertColumnsSegment recognizeInsertColumns() {
+        int startIndex = skipWhitespaces();
+        if (!acceptSymbol('(')) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = recognizeColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (acceptSymbol(','));
+        return acceptSymbol(')') ? new InsertColumnsSegment(startIndex, position - 1, columns) : null;
+    }
+    
+    private InsertValuesSegment recognizeInsertValues() {
+        int startIndex = skipWhitespaces();
+        if (!acceptSymbol('(')) {
+            return null;
+        }
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = recognizeValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (acceptSymbol(','));
+        return acceptSymbol(')') ? new InsertValuesSegment(startIndex, position - 1, values) : null;
+    }
+    
+    private MySQLUpdateStatement recognizeUpdate() {
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        final int setStartIndex = skipWhitespaces();
+        if (!acceptKeyword("SET")) {
+            return null;
+        }
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        ColumnAssignmentSegment assignment;
+        do {
+            assignment = recognizeAssignment();
+            if (null == assignment) {
+                return null;
+            }
+            assignments.add(assignment);
+        } while (acceptSymbol(','));
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTable(table);
+        result.setSetAssignment(new SetAssignmentSegment(setStartIndex, assignment.getStopIndex(), assignments));
+        return recognizeWhere(result::setWhere) ? result : null;
+    }
+    
+    private ColumnAssignmentSegment recognizeAssignment() {
+        ColumnSegment column = recognizeColumn();
+        if (null == column || !acceptSymbol('=')) {
+            return null;
+        }
+        ExpressionSegment value = recognizeValue();
+        if (null == value) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private MySQLDeleteStatement recognizeDelete() {
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = recognizeTable();
+        if (null == table) {
+            return null;
+        }
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTable(table);
+        return recognizeWhere(result::setWhere) ? result : null;
+    }
+    
+    private boolean recognizeWhere(final Consumer<WhereSegment> whereSetter) {
+        final int startIndex = skipWhitespaces();
+        if (!acceptKeyword("WHERE")) {
+            return true;
+        }
+        ExpressionSegment expr = recognizeCondition();
+        if (null == expr) {
+            return false;
+        }
+        int andStartIndex = skipWhitespaces();
+        while (acceptKeyword("AND")) {
+            String andOperator = sql.substring(andStartIndex, position);
+            ExpressionSegment right = recognizeCondition();
+            if (null == right) {
+                return false;
+            }
+            expr = new BinaryOperationExpression(expr.getStartIndex(), right.getStopIndex(), expr, right, andOperator, sql.substring(expr.getStartIndex(), right.getStopIndex() + 1));
+            andStartIndex = skipWhitespaces();
+        }
+        whereSetter.accept(new WhereSegment(startIndex, expr.getStopIndex(), expr));
+        return true;
+    }
+    
+    private ExpressionSegment recognizeCondition() {
+        ColumnSegment column = recognizeColumn();
+        if (null == column || !acceptSymbol('=')) {
+            return null;
+        }
+        ExpressionSegment value = recognizeValue();
+        if (null == value) {
+            return null;
+        }
+        return new BinaryOperationExpression(column.getStartIndex(), value.getStopIndex(), column, value, "=", sql.substring(column.getStartIndex(), value.getStopIndex() + 1));
+    }
+    
+    private SimpleTableSegment recognizeTable() {
+        int startIndex = skipWhitespaces();
+        String identifier = recognizeIdentifier();
+        return null == identifier ? null : new SimpleTableSegment(new TableNameSegment(startIndex, position - 1, new IdentifierValue(identifier)));
+    }
+    
+    private ColumnSegment recognizeColumn() {
+        int startIndex = skipWhitespaces();
+        String identifier = recognizeIdentifier();
+        return null == identifier ? null : new ColumnSegment(startIndex, position - 1, new IdentifierValue(identifier));
+    }
+    
+    private String recognizeIdentifier() {
+        if (position >= sql.length()) {
+            return null;
+        }
+        int startIndex = position;
+        if ('`' == sql.charAt(position)) {
+            int endIndex = sql.indexOf('`', position + 1);
+            if (endIndex <= position + 1) {
+                return null;
+            }
+            position = endIndex + 1;
+            return sql.substring(startIndex, position);
+        }
+        if (!isLetter(sql.charAt(position))) {
+            return null;
+        }
+        while (position < sql.length() && isIdentifierPart(sql.charAt(position))) {
+            position++;
+        }
+        if (position < sql.length() && '.' == sql.charAt(position)) {
+            return null;
+        }
+        String result = sql.substring(startIndex, position);
+        return KEYWORDS.contains(result.toUpperCase(Locale.ENGLISH)) ? null : result;
+    }
+    
+    private ExpressionSegment recognizeValue() {
+        int startIndex = skipWhitespaces();
+        if (position >= sql.length()) {
+            return null;
+        }
+        char current = sql.charAt(position);
+        if ('?' == current) {
+            position++;
+            ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(startIndex, startIndex, parameterMarkerIndex++, ParameterMarkerType.QUESTION);
+            parameterMarkerSegments.add(result);
+            return result;
+        }
+        if ('\'' == current) {
+            return recognizeStringLiteral(startIndex);
+        }
+        return isDigit(current) ? recognizeNumberLiteral(startIndex) : null;
+    }
+    
+    private LiteralExpressionSegment recognizeStringLiteral(final int startIndex) {
+        position++;
+        while (position < sql.length()) {
+            char current = sql.charAt(position);
+            if ('\\' == current) {
+                position += 2;
+            } else if ('\'' != current) {
+                position++;
+            } else if (position + 1 < sql.length() && '\'' == sql.charAt(position + 1)) {
+                position += 2;
+            } else {
+                position++;
+                return new LiteralExpressionSegment(startIndex, position - 1, sql.substring(startIndex + 1, position - 1));
+            }
+        }
+        return null;
+    }
+    
+    private LiteralExpressionSegment recognizeNumberLiteral(final int startIndex) {
+        skipDigits();
+        if (position + 1 < sql.length() && '.' == sql.charAt(position) && isDigit(sql.charAt(position + 1))) {
+            position++;
+            skipDigits();
+        }
+        if (position < sql.length() && ('.' == sql.charAt(position) || isIdentifierPart(sql.charAt(position)))) {
+            return null;
+        }
+        return new LiteralExpressionSegment(startIndex, position - 1, new NumberLiteralValue(sql.substring(startIndex, position)).getValue());
+    }
+    
+    private void skipDigits() {
+        while (position < sql.length() && isDigit(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        skipWhitespaces();
+        int endIndex = position + keyword.length();
+        if (!sql.regionMatches(true, position, keyword, 0, keyword.length()) || endIndex < sql.length() && isIdentifierPart(sql.charAt(endIndex))) {
+            return false;
+        }
+        position = endIndex;
+        return true;
+    }
+    
+    private boolean acceptSymbol(final char symbol) {
+        skipWhitespaces();
+        if (position < sql.length() && symbol == sql.charAt(position)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isEnd() {
+        if (acceptSymbol(';')) {
+            skipWhitespaces();
+        }
+        return position == sql.length();
+    }
+    
+    private int skipWhitespaces() {
+        while (position < sql.length() && isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+    
+    private static boolean isWhitespace(final char character) {
+        return ' ' == character || '\t' == character || '\r' == character || '\n' == character;
+    }
+    
+    private static boolean isLetter(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z';
+    }
+    
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+    
+    private static boolean isIdentifierPart(final char character) {
+        return isLetter(character) || isDigit(character) || '_' == character || '$' == character || character >= 0x80;
+    }
+}
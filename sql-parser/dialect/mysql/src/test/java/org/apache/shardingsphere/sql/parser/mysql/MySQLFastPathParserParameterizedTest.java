@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLFastPathSQLStatementParser;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.runner.ShardingSphereParallelTestParameterized;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.CasesRegistry;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistryFactory;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.loader.SQLCasesLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(ShardingSphereParallelTestParameterized.class)
+public final class MySQLFastPathParserParameterizedTest {
+    
+    private static final SQLCasesLoader SQL_CASES_LOADER = CasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    public MySQLFastPathParserParameterizedTest(final String sqlCaseId, final String databaseType, final SQLCaseType sqlCaseType) {
+        this.sqlCaseId = sqlCaseId;
+        this.sqlCaseType = sqlCaseType;
+    }
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return SQL_CASES_LOADER.getTestParameters(Collections.singletonList("MySQL"));
+    }
+    
+    @Test
+    public void assertSameAsANTLRParsedStatement() {
+        String sql = SQL_CASES_LOADER.getCaseValue(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters(), "MySQL");
+        assertSameAsANTLRParsedStatement(sql);
+    }
+    
+    /**
+     * Assert statement parsed by fast path is same as the one parsed by ANTLR, if SQL is recognized by fast path.
+     * 
+     * @param sql SQL to be parsed
+     * @return whether SQL is recognized by fast path
+     */
+    static boolean assertSameAsANTLRParsedStatement(final String sql) {
+        Optional<SQLStatement> actual = new MySQLFastPathSQLStatementParser().parse(sql);
+        if (!actual.isPresent()) {
+            return false;
+        }
+        SQLStatement expected = new SQLVisitorEngine("MySQL", "STATEMENT", true, new Properties()).visit(new SQLParserEngine("MySQL", new CacheOption(128, 1024L)).parse(sql, false));
+        assertDeepEquals(sql, "statement", actual.get(), expected);
+        return true;
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private static void assertDeepEquals(final String sql, final String path, final Object actual, final Object expected) {
+        String message = String.format("SQL `%s` differs at `%s`", sql, path);
+        if (null == actual || null == expected) {
+            assertThat(message, actual, is(expected));
+            return;
+        }
+        assertThat(message, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (isValue(actual)) {
+            assertThat(message, actual, is(expected));
+            return;
+        }
+        if (actual instanceof Optional) {
+            assertDeepEquals(sql, path, ((Optional<?>) actual).orElse(null), ((Optional<?>) expected).orElse(null));
+            return;
+        }
+        if (actual instanceof Collection) {
+            assertThat(message, ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> expectedIterator = ((Collection<?>) expected).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) actual) {
+                assertDeepEquals(sql, path + "[" + index++ + "]", each, expectedIterator.next());
+            }
+            return;
+        }
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    assertDeepEquals(sql, path + "." + each.getName(), each.get(actual), each.get(expected));
+                }
+            }
+        }
+    }
+    
+    private static boolean isValue(final Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLFastPathSQLStatementParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathParserTest {
+    
+    @Test
+    public void assertRecognizeSimpleShapes() {
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("SELECT * FROM t_order WHERE order_id = ?"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("select order_id, `status` from `t_order` where user_id = 10 and order_id = 1000.5;"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("SELECT * FROM t_order"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("INSERT INTO t_order (order_id, user_id, `status`) VALUES (?, ?, 'init')"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("INSERT INTO t_order (order_id, `status`) VALUES (1, 'it''s'), (2, 'a\\'b')"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("UPDATE t_order SET `status` = ?, user_id = 1 WHERE order_id = ? AND user_id = ?"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("DELETE FROM t_order WHERE order_id = ?"));
+        assertTrue(MySQLFastPathParserParameterizedTest.assertSameAsANTLRParsedStatement("  DELETE\n\tFROM t_order  "));
+    }
+    
+    @Test
+    public void assertNotRecognizeOtherShapes() {
+        MySQLFastPathSQLStatementParser parser = new MySQLFastPathSQLStatementParser();
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id > ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order o WHERE o.order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id = ? /* comment */").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE status = ? OR order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id = -1").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order WHERE order_id = 1e3").isPresent());
+        assertFalse(parser.parse("SELECT * FROM order WHERE order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT * FROM t_order; SELECT 1").isPresent());
+        assertFalse(parser.parse("INSERT INTO t_order VALUES (?, ?)").isPresent());
+        assertFalse(parser.parse("UPDATE t_order SET status = 'a").isPresent());
+        assertFalse(parser.parse("SHOW TABLES").isPresent());
+    }
+}
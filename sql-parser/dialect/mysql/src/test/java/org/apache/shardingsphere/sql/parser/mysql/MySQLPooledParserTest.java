@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLPooledParserTest {
+    
+    @Test
+    public void assertGetPooledInstance() {
+        SQLParser firstParser = SQLParserFactory.getPooledInstance("SELECT * FROM t_order /* first */", MySQLLexer.class, MySQLParser.class);
+        final ParseASTNode firstNode = (ParseASTNode) firstParser.parse();
+        TokenStream firstTokenStream = ((Parser) firstParser).getTokenStream();
+        SQLParserFactory.releasePooledInstance(firstParser);
+        SQLParser secondParser = SQLParserFactory.getPooledInstance("UPDATE t_order SET status = 'finished'", MySQLLexer.class, MySQLParser.class);
+        assertThat(secondParser, sameInstance(firstParser));
+        assertThat(((Parser) secondParser).getTokenStream(), not(sameInstance(firstTokenStream)));
+        ParseASTNode secondNode = (ParseASTNode) secondParser.parse();
+        assertThat(firstNode.getRootNode().getText(), is("SELECT*FROMt_order"));
+        assertThat(firstNode.getHiddenTokens().iterator().next().getText(), is("/* first */"));
+        assertThat(secondNode.getRootNode().getText(), is("UPDATEt_orderSETstatus='finished'"));
+        assertThat(secondNode.getHiddenTokens().isEmpty(), is(true));
+        SQLParserFactory.releasePooledInstance(secondParser);
+    }
+    
+    @Test
+    public void assertGetPooledInstanceWhenPooledInstanceInUse() {
+        SQLParser pooledParser = SQLParserFactory.getPooledInstance("SELECT * FROM t_order", MySQLLexer.class, MySQLParser.class);
+        SQLParser nestedParser = SQLParserFactory.getPooledInstance("UPDATE t_order SET status = 'finished'", MySQLLexer.class, MySQLParser.class);
+        assertThat(nestedParser, not(sameInstance(pooledParser)));
+        ParseASTNode nestedNode = (ParseASTNode) nestedParser.parse();
+        SQLParserFactory.releasePooledInstance(nestedParser);
+        ParseASTNode pooledNode = (ParseASTNode) pooledParser.parse();
+        assertThat(nestedNode.getRootNode().getText(), is("UPDATEt_orderSETstatus='finished'"));
+        assertThat(pooledNode.getRootNode().getText(), is("SELECT*FROMt_order"));
+        SQLParserFactory.releasePooledInstance(pooledParser);
+        SQLParser releasedParser = SQLParserFactory.getPooledInstance("SELECT 1", MySQLLexer.class, MySQLParser.class);
+        assertThat(releasedParser, sameInstance(pooledParser));
+        SQLParserFactory.releasePooledInstance(releasedParser);
+    }
+    
+    @Test
+    public void assertGetPooledInstanceWithNonLatinCharacters() {
+        assertThat(parse("SELECT * FROM t_order WHERE remark = 'café'").getRootNode().getText(), is("SELECT*FROMt_orderWHEREremark='café'"));
+        assertThat(parse("SELECT * FROM t_order WHERE remark = '订单😀'").getRootNode().getText(), is("SELECT*FROMt_orderWHEREremark='订单😀'"));
+    }
+    
+    private ParseASTNode parse(final String sql) {
+        SQLParser sqlParser = SQLParserFactory.getPooledInstance(sql, MySQLLexer.class, MySQLParser.class);
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } finally {
+            SQLParserFactory.releasePooledInstance(sqlParser);
+        }
+    }
+    
+    @Test
+    public void assertReleasePooledInstance() {
+        SQLParser sqlParser = SQLParserFactory.getPooledInstance("SELECT * FROM t_order /* released */", MySQLLexer.class, MySQLParser.class);
+        ParseASTNode parseASTNode = (ParseASTNode) sqlParser.parse();
+        SQLParserFactory.releasePooledInstance(sqlParser);
+        assertThat(parseASTNode.getRootNode().getText(), is("SELECT*FROMt_order"));
+        assertThat(parseASTNode.getHiddenTokens().iterator().next().getText(), is("/* released */"));
+        assertThat(((Parser) sqlParser).getTokenStream().size(), is(0));
+        assertThat(((Lexer) ((Parser) sqlParser).getTokenStream().getTokenSource()).getInputStream().size(), is(0));
+    }
+}
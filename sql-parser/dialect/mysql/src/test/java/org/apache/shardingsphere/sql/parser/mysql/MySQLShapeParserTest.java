@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser.FieldLengthContext;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLShapeParserTest {
+    
+    private final SQLParserEngine parserEngine = new SQLParserEngine("MySQL", new CacheOption(128, 1024L), true);
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", true, new Properties());
+    
+    @Test
+    public void assertParseSQLsWithSameShape() {
+        assertSameStatement("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'");
+        assertSameStatement("SELECT * FROM t_order WHERE order_id = 10000 AND status = 'finished' /* comment */");
+        assertSameStatement("select  *  from t_order_item where item_id = 2 and status = ''");
+    }
+    
+    @Test
+    public void assertParseSQLsWithDifferentShapes() {
+        assertSameStatement("SELECT * FROM t_order WHERE order_id = 1");
+        assertSameStatement("SELECT * FROM t_order WHERE order_id = 1.5");
+        assertSameStatement("SELECT * FROM t_order WHERE order_id = 'a'");
+    }
+    
+    @Test
+    public void assertBindLabeledToken() {
+        assertThat(parserEngine.parse("CREATE TABLE t_order (status VARCHAR(10))", this::getFieldLength), is("10"));
+        assertThat(parserEngine.parse("CREATE TABLE t_order (status VARCHAR(255))", this::getFieldLength), is("255"));
+    }
+    
+    private String getFieldLength(final ParseASTNode parseASTNode) {
+        return findFieldLength(parseASTNode.getParseTree()).length.getText();
+    }
+    
+    private FieldLengthContext findFieldLength(final ParseTree parseTree) {
+        if (parseTree instanceof FieldLengthContext) {
+            return (FieldLengthContext) parseTree;
+        }
+        for (int i = 0; i < parseTree.getChildCount(); i++) {
+            FieldLengthContext result = findFieldLength(parseTree.getChild(i));
+            if (null != result) {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private void assertSameStatement(final String sql) {
+        SQLStatement expected = visitorEngine.visit(parserEngine.parse(sql, false));
+        SQLStatement actual = parserEngine.parse(sql, visitorEngine::visit);
+        assertThat(actual.getClass().getName(), is(expected.getClass().getName()));
+        assertThat(((AbstractSQLStatement) actual).getCommentSegments().size(), is(((AbstractSQLStatement) expected).getCommentSegments().size()));
+        BinaryOperationExpression expectedWhere = getWhereExpression(expected);
+        BinaryOperationExpression actualWhere = getWhereExpression(actual);
+        assertThat(actualWhere.getText(), is(expectedWhere.getText()));
+        assertThat(actualWhere.getStartIndex(), is(expectedWhere.getStartIndex()));
+        assertThat(actualWhere.getStopIndex(), is(expectedWhere.getStopIndex()));
+        assertLiteral(actualWhere, expectedWhere);
+        assertThat(((SelectStatement) actual).getFrom().getStopIndex(), is(((SelectStatement) expected).getFrom().getStopIndex()));
+    }
+    
+    private BinaryOperationExpression getWhereExpression(final SQLStatement sqlStatement) {
+        return (BinaryOperationExpression) ((SelectStatement) sqlStatement).getWhere().get().getExpr();
+    }
+    
+    private void assertLiteral(final BinaryOperationExpression actual, final BinaryOperationExpression expected) {
+        BinaryOperationExpression actualCondition = actual.getLeft() instanceof BinaryOperationExpression ? (BinaryOperationExpression) actual.getLeft() : actual;
+        BinaryOperationExpression expectedCondition = expected.getLeft() instanceof BinaryOperationExpression ? (BinaryOperationExpression) expected.getLeft() : expected;
+        LiteralExpressionSegment actualLiteral = (LiteralExpressionSegment) actualCondition.getRight();
+        LiteralExpressionSegment expectedLiteral = (LiteralExpressionSegment) expectedCondition.getRight();
+        assertThat(actualLiteral.getLiterals(), is(expectedLiteral.getLiterals()));
+        assertThat(actualLiteral.getStartIndex(), is(expectedLiteral.getStartIndex()));
+        assertThat(actualLiteral.getStopIndex(), is(expectedLiteral.getStopIndex()));
+    }
+}
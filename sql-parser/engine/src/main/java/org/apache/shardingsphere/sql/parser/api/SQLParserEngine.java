@@ -18,22 +18,35 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLShapeParserExecutor;
+
+import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * SQL parser engine.
  */
+@Slf4j
 public final class SQLParserEngine {
     
     private final SQLParserExecutor sqlParserExecutor;
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final SQLShapeParserExecutor sqlShapeParserExecutor;
+    
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
+        this(databaseType, cacheOption, false);
+    }
+    
+    public SQLParserEngine(final String databaseType, final CacheOption cacheOption, final boolean isSQLShapeCacheEnabled) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
+        sqlShapeParserExecutor = isSQLShapeCacheEnabled ? new SQLShapeParserExecutor(databaseType, cacheOption) : null;
     }
     
     /**
@@ -46,4 +59,41 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     * 
+     * <p>If SQL shape cache is enabled, SQLs with the same token types (such as SQLs only differ in literals) are parsed only once.</p>
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse AST node, which must not keep parse tree after visited
+     * @param <T> type of visit result
+     * @return visit result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        return null == sqlShapeParserExecutor ? visitor.apply(sqlParserExecutor.parse(sql)) : sqlShapeParserExecutor.parse(sql, visitor);
+    }
+    
+    /**
+     * Warm up SQL parser by parsing SQLs, the filled DFA cache is shared by all SQL parsers of the database type.
+     * 
+     * <p>SQL failed to parse is logged and skipped.</p>
+     *
+     * @param sqls SQLs to be parsed
+     * @return count of SQLs parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.debug("Parse SQL `{}` failed when warm up SQL parser.", each, ex);
+            }
+        }
+        return result;
+    }
 }
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.sql.parser.core;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
@@ -32,7 +35,10 @@ import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SQL parser factory.
@@ -40,6 +46,8 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<Class<? extends SQLParser>, PooledSQLParser>> POOLED_SQL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * Create new instance of SQL parser.
      * 
@@ -52,6 +60,55 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Get SQL parser pooled in current thread.
+     * 
+     * <p>The pooled lexer and parser are reused by resetting their input, and are marked in use until {@link #releasePooledInstance(SQLParser)} is called.
+     * If the pooled instance is still in use, such as a parse is triggered again while visiting the parse tree of the pooled instance, a new instance is returned instead.</p>
+     * 
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return pooled instance, or new instance if pooled instance is in use
+     */
+    public static SQLParser getPooledInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        Map<Class<? extends SQLParser>, PooledSQLParser> pooledSQLParsers = POOLED_SQL_PARSERS.get();
+        PooledSQLParser pooledSQLParser = pooledSQLParsers.get(parserClass);
+        if (null == pooledSQLParser) {
+            SQLParser result = newInstance(sql, lexerClass, parserClass);
+            pooledSQLParsers.put(parserClass, new PooledSQLParser(result));
+            return result;
+        }
+        if (pooledSQLParser.isInUse()) {
+            return newInstance(sql, lexerClass, parserClass);
+        }
+        pooledSQLParser.setInUse(true);
+        SQLParser result = pooledSQLParser.getSqlParser();
+        Lexer lexer = (Lexer) ((Parser) result).getTokenStream().getTokenSource();
+        lexer.setInputStream(getSQLCharStream(sql));
+        ((Parser) result).removeErrorListeners();
+        ((Parser) result).setTokenStream(new CommonTokenStream(lexer));
+        return result;
+    }
+    
+    /**
+     * Release SQL parser pooled in current thread.
+     * 
+     * <p>The input of pooled lexer and parser is reset to empty, parse trees already created are not affected. SQL parser which is not pooled is ignored.</p>
+     * 
+     * @param sqlParser SQL parser got from {@link #getPooledInstance(String, Class, Class)}
+     */
+    public static void releasePooledInstance(final SQLParser sqlParser) {
+        PooledSQLParser pooledSQLParser = POOLED_SQL_PARSERS.get().get(sqlParser.getClass());
+        if (null == pooledSQLParser || sqlParser != pooledSQLParser.getSqlParser()) {
+            return;
+        }
+        Lexer lexer = (Lexer) ((Parser) sqlParser).getTokenStream().getTokenSource();
+        lexer.setInputStream(getSQLCharStream(""));
+        ((Parser) sqlParser).setTokenStream(new CommonTokenStream(lexer));
+        pooledSQLParser.setInUse(false);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -68,7 +125,30 @@ public final class SQLParserFactory {
     }
     
     private static CharStream getSQLCharStream(final String sql) {
-        CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
-        return CodePointCharStream.fromBuffer(buffer);
+        return CodePointCharStream.fromBuffer(createCodePointBuffer(sql));
+    }
+    
+    // Latin-1 SQLs are stored as one byte per code point, other SQLs are decoded from UTF-16 chars into int code points, so lexer indexes are code point indexes in both cases.
+    private static CodePointBuffer createCodePointBuffer(final String sql) {
+        int length = sql.length();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char each = sql.charAt(i);
+            if (each > 0xFF) {
+                return CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
+            }
+            bytes[i] = (byte) each;
+        }
+        return CodePointBuffer.withBytes(ByteBuffer.wrap(bytes));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @Setter
+    private static final class PooledSQLParser {
+        
+        private final SQLParser sqlParser;
+        
+        private boolean inUse = true;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Bindable token, which can be bound to another token with the same type, so parse trees referring it refer to the other token.
+ */
+public final class BindableToken extends CommonToken {
+    
+    private static final long serialVersionUID = -5364919738472938105L;
+    
+    public BindableToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop) {
+        super(source, type, channel, start, stop);
+    }
+    
+    public BindableToken(final int type, final String text) {
+        super(type, text);
+    }
+    
+    /**
+     * Bind to another token.
+     * 
+     * @param token token to be bound to
+     */
+    public void bind(final BindableToken token) {
+        source = token.source;
+        text = token.text;
+        setType(token.getType());
+        setChannel(token.getChannel());
+        setStartIndex(token.getStartIndex());
+        setStopIndex(token.getStopIndex());
+        setLine(token.getLine());
+        setCharPositionInLine(token.getCharPositionInLine());
+        setTokenIndex(token.getTokenIndex());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parse tree template.
+ * 
+ * <p>Parser decisions only depend on token types, so SQLs with the same token types, such as SQLs only differ in literals, have parse trees with the same structure.
+ * Parse tree template binds tokens of the parse tree parsed before to tokens of another SQL, instead of parsing the SQL again.
+ * Tokens must be created by {@link BindableTokenFactory} and are bound in place, so terminal nodes, rule boundaries and labeled tokens of rule contexts all refer to the bound tokens,
+ * and the template must be locked until the bound parse tree is visited.</p>
+ */
+public final class ParseTreeTemplate {
+    
+    private final ParseTree parseTree;
+    
+    private final List<BindableToken> tokens;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private ParseTreeTemplate(final ParseTree parseTree, final List<BindableToken> tokens) {
+        this.parseTree = parseTree;
+        this.tokens = tokens;
+    }
+    
+    /**
+     * Create parse tree template.
+     * 
+     * @param parseTree parse tree
+     * @param tokenStream token stream of parse tree
+     * @return created parse tree template, empty if tokens are not bindable or parse tree contains tokens which are not on default channel
+     */
+    public static Optional<ParseTreeTemplate> create(final ParseTree parseTree, final CommonTokenStream tokenStream) {
+        List<BindableToken> tokens = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel()) {
+                continue;
+            }
+            if (!(each instanceof BindableToken)) {
+                return Optional.empty();
+            }
+            tokens.add((BindableToken) each);
+        }
+        return isBindable(parseTree, tokenStream) ? Optional.of(new ParseTreeTemplate(parseTree, tokens)) : Optional.empty();
+    }
+    
+    private static boolean isBindable(final ParseTree parseTree, final CommonTokenStream tokenStream) {
+        if (parseTree instanceof TerminalNode) {
+            return isDefaultChannelToken(((TerminalNode) parseTree).getSymbol(), tokenStream);
+        }
+        if (!(parseTree instanceof ParserRuleContext)) {
+            return false;
+        }
+        ParserRuleContext context = (ParserRuleContext) parseTree;
+        if (null != context.start && !isDefaultChannelToken(context.start, tokenStream) || null != context.stop && !isDefaultChannelToken(context.stop, tokenStream)) {
+            return false;
+        }
+        for (int i = 0; i < context.getChildCount(); i++) {
+            if (!isBindable(context.getChild(i), tokenStream)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isDefaultChannelToken(final Token token, final CommonTokenStream tokenStream) {
+        int tokenIndex = token.getTokenIndex();
+        return tokenIndex >= 0 && tokenIndex < tokenStream.size() && token == tokenStream.get(tokenIndex) && Token.DEFAULT_CHANNEL == token.getChannel();
+    }
+    
+    /**
+     * Get shape key of token stream, which is composed by types of tokens on default channel.
+     * 
+     * @param tokenStream filled token stream
+     * @return shape key
+     */
+    public static String getShapeKey(final CommonTokenStream tokenStream) {
+        StringBuilder result = new StringBuilder(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.append((char) each.getType());
+            }
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Try to lock parse tree template.
+     * 
+     * @return locked or not
+     */
+    public boolean tryLock() {
+        return lock.tryLock();
+    }
+    
+    /**
+     * Unlock parse tree template.
+     */
+    public void unlock() {
+        lock.unlock();
+    }
+    
+    /**
+     * Bind tokens of parse tree to tokens of token stream, parse tree template must be locked before binding.
+     * 
+     * @param tokenStream filled token stream which has the same shape key with parse tree template and whose tokens are created by {@link BindableTokenFactory}
+     * @return bound parse AST node
+     */
+    public ParseASTNode bind(final CommonTokenStream tokenStream) {
+        int ordinal = 0;
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                tokens.get(ordinal++).bind((BindableToken) each);
+            }
+        }
+        return new ParseASTNode(parseTree, tokenStream);
+    }
+}
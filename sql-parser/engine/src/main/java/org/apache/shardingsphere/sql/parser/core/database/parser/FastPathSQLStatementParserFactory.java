@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.spi.FastPathSQLStatementParser;
+
+import java.util.Optional;
+
+/**
+ * Fast path SQL statement parser factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FastPathSQLStatementParserFactory {
+    
+    static {
+        ShardingSphereServiceLoader.register(FastPathSQLStatementParser.class);
+    }
+    
+    /**
+     * Find instance of fast path SQL statement parser.
+     * 
+     * @param databaseType database type
+     * @return found instance
+     */
+    public static Optional<FastPathSQLStatementParser> findInstance(final String databaseType) {
+        return TypedSPIRegistry.findRegisteredService(FastPathSQLStatementParser.class, databaseType);
+    }
+}
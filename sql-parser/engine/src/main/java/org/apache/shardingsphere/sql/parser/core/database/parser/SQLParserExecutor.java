@@ -43,16 +43,41 @@ public final class SQLParserExecutor {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        SQLParser sqlParser = newSQLParser(sql);
+        try {
+            return parse(sql, sqlParser);
+        } finally {
+            SQLParserFactory.releasePooledInstance(sqlParser);
+        }
+    }
+    
+    /**
+     * Parse SQL with SQL parser.
+     * 
+     * @param sql SQL to be parsed
+     * @param sqlParser SQL parser created for SQL
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql, final SQLParser sqlParser) {
+        ParseASTNode result = twoPhaseParse(sql, sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException(sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
+    /**
+     * Create new SQL parser, which is pooled in current thread and should be released by {@link SQLParserFactory#releasePooledInstance(SQLParser)} after use.
+     * 
+     * @param sql SQL to be parsed
+     * @return created SQL parser
+     */
+    public SQLParser newSQLParser(final String sql) {
         DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeFactory.getInstance(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        return SQLParserFactory.getPooledInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    }
+    
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.cache.BindableTokenFactory;
+import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeTemplate;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * SQL shape parser executor.
+ * 
+ * <p>SQLs are lexed first with bindable tokens, SQLs with the same token types share one parse tree template, so they are parsed only once.</p>
+ */
+public final class SQLShapeParserExecutor {
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, ParseTreeTemplate> parseTreeTemplateCache;
+    
+    public SQLShapeParserExecutor(final String databaseType, final CacheOption cacheOption) {
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        parseTreeTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     * 
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse AST node, which must not keep parse tree after visited
+     * @param <T> type of visit result
+     * @return visit result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        SQLParser sqlParser = sqlParserExecutor.newSQLParser(sql);
+        Lexer lexer = (Lexer) ((Parser) sqlParser).getTokenStream().getTokenSource();
+        lexer.setTokenFactory(BindableTokenFactory.getInstance());
+        try {
+            return parse(sql, sqlParser, visitor);
+        } finally {
+            lexer.setTokenFactory(CommonTokenFactory.DEFAULT);
+            SQLParserFactory.releasePooledInstance(sqlParser);
+        }
+    }
+    
+    private <T> T parse(final String sql, final SQLParser sqlParser, final Function<ParseASTNode, T> visitor) {
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) sqlParser).getTokenStream();
+        tokenStream.fill();
+        String shapeKey = ParseTreeTemplate.getShapeKey(tokenStream);
+        ParseTreeTemplate parseTreeTemplate = parseTreeTemplateCache.getIfPresent(shapeKey);
+        if (null != parseTreeTemplate) {
+            return parseWithTemplate(sql, sqlParser, tokenStream, parseTreeTemplate, visitor);
+        }
+        ParseASTNode parseASTNode = sqlParserExecutor.parse(sql, sqlParser);
+        Optional<ParseTreeTemplate> newParseTreeTemplate = ParseTreeTemplate.create(parseASTNode.getParseTree(), tokenStream);
+        if (!newParseTreeTemplate.isPresent() || !newParseTreeTemplate.get().tryLock()) {
+            return visitor.apply(parseASTNode);
+        }
+        try {
+            parseTreeTemplateCache.asMap().putIfAbsent(shapeKey, newParseTreeTemplate.get());
+            return visitor.apply(parseASTNode);
+        } finally {
+            newParseTreeTemplate.get().unlock();
+        }
+    }
+    
+    private <T> T parseWithTemplate(final String sql, final SQLParser sqlParser, final CommonTokenStream tokenStream,
+                                    final ParseTreeTemplate parseTreeTemplate, final Function<ParseASTNode, T> visitor) {
+        if (!parseTreeTemplate.tryLock()) {
+            return visitor.apply(sqlParserExecutor.parse(sql, sqlParser));
+        }
+        try {
+            return visitor.apply(parseTreeTemplate.bind(tokenStream));
+        } finally {
+            parseTreeTemplate.unlock();
+        }
+    }
+}
@@ -22,11 +22,17 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.junit.Test;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.function.Function;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -64,4 +70,32 @@ public final class SQLParserEngineTest {
         sqlParserEngine.parse(SQL, false);
         verify(sqlParserExecutor, times(2)).parse(SQL);
     }
+    
+    @Test
+    public void assertParseAndVisitWithoutSQLShapeCache() throws NoSuchFieldException, IllegalAccessException {
+        SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
+        ParseASTNode parseASTNode = mock(ParseASTNode.class);
+        when(sqlParserExecutor.parse(SQL)).thenReturn(parseASTNode);
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("H2", new CacheOption(128, 1024L));
+        Field sqlParserExecutorFiled = sqlParserEngine.getClass().getDeclaredField("sqlParserExecutor");
+        Field sqlShapeParserExecutorField = sqlParserEngine.getClass().getDeclaredField("sqlShapeParserExecutor");
+        sqlParserExecutorFiled.setAccessible(true);
+        sqlShapeParserExecutorField.setAccessible(true);
+        sqlParserExecutorFiled.set(sqlParserEngine, sqlParserExecutor);
+        assertNull(sqlShapeParserExecutorField.get(sqlParserEngine));
+        assertThat(sqlParserEngine.parse(SQL, (Function<ParseASTNode, ParseASTNode>) each -> each), is(parseASTNode));
+        verify(sqlParserExecutor).parse(SQL);
+    }
+    
+    @Test
+    public void assertWarmUp() throws NoSuchFieldException, IllegalAccessException {
+        SQLParserExecutor sqlParserExecutor = mock(SQLParserExecutor.class);
+        when(sqlParserExecutor.parse(SQL)).thenReturn(mock(ParseASTNode.class));
+        when(sqlParserExecutor.parse("invalid")).thenThrow(new SQLParsingException("invalid"));
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("H2", new CacheOption(128, 1024L));
+        Field sqlParserExecutorFiled = sqlParserEngine.getClass().getDeclaredField("sqlParserExecutor");
+        sqlParserExecutorFiled.setAccessible(true);
+        sqlParserExecutorFiled.set(sqlParserEngine, sqlParserExecutor);
+        assertThat(sqlParserEngine.warmUp(Arrays.asList(SQL, "invalid")), is(1));
+    }
 }
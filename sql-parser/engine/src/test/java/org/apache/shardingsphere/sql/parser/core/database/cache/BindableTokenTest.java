@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class BindableTokenTest {
+    
+    @Test
+    public void assertBind() {
+        BindableToken actual = createToken("id = 1", 5, 5, 2);
+        BindableToken token = createToken("order_id = 100", 11, 13, 4);
+        actual.bind(token);
+        assertThat(actual.getText(), is("100"));
+        assertThat(actual.getInputStream(), is(token.getInputStream()));
+        assertThat(actual.getStartIndex(), is(11));
+        assertThat(actual.getStopIndex(), is(13));
+        assertThat(actual.getCharPositionInLine(), is(11));
+        assertThat(actual.getTokenIndex(), is(4));
+    }
+    
+    @Test
+    public void assertBindTokenWithText() {
+        BindableToken actual = createToken("id = 1", 5, 5, 2);
+        actual.bind(BindableTokenFactory.getInstance().create(1, "100"));
+        assertThat(actual.getText(), is("100"));
+    }
+    
+    private BindableToken createToken(final String sql, final int start, final int stop, final int tokenIndex) {
+        Pair<TokenSource, CharStream> source = new Pair<>(null, CharStreams.fromString(sql));
+        BindableToken result = BindableTokenFactory.getInstance().create(source, 1, null, Token.DEFAULT_CHANNEL, start, stop, 1, start);
+        result.setTokenIndex(tokenIndex);
+        return result;
+    }
+}
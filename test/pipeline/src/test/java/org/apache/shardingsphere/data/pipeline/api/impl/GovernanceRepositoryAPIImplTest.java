@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.api.impl;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCountCheckResult;
@@ -43,6 +44,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +91,18 @@ public final class GovernanceRepositoryAPIImplTest {
         assertTrue(checkResult.get("test").getContentCheckResult().isMatched());
     }
     
+    @Test
+    public void assertPersistJobCheckResultWithMismatchedRanges() {
+        MigrationJobItemContext jobItemContext = mockJobItemContext();
+        Map<String, DataConsistencyCheckResult> actual = new HashMap<>();
+        Collection<Range<Long>> mismatchedRanges = Arrays.asList(Range.closed(-8L, 7L), Range.closed(128L, Long.MAX_VALUE));
+        actual.put("test", new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(1, 1), new DataConsistencyContentCheckResult(false, mismatchedRanges)));
+        governanceRepositoryAPI.persistCheckJobResult(jobItemContext.getJobId(), "j02124", actual);
+        Map<String, DataConsistencyCheckResult> checkResult = governanceRepositoryAPI.getCheckJobResult(jobItemContext.getJobId(), "j02124");
+        assertFalse(checkResult.get("test").getContentCheckResult().isMatched());
+        assertThat(checkResult.get("test").getContentCheckResult().getMismatchedRanges(), is(mismatchedRanges));
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(DataPipelineConstants.DATA_PIPELINE_ROOT + "/1", "");
@@ -17,10 +17,23 @@
 
 package org.apache.shardingsphere.data.pipeline.core.fixture;
 
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Optional;
+
 public final class FixturePipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     
+    @Override
+    public Optional<String> buildUpsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return Optional.of(buildInsertSQL(schemaName, dataRecord));
+    }
+    
+    @Override
+    public Optional<String> buildUniqueKeyAtOffsetSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT 1 OFFSET ?", uniqueKey, tableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "H2";
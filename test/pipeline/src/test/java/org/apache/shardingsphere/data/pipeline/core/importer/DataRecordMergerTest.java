@@ -32,7 +32,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public final class DataRecordMergerTest {
@@ -83,6 +85,26 @@ public final class DataRecordMergerTest {
         assertThat(dataRecord.getColumn(2).getValue(), is(2));
     }
     
+    @Test
+    public void assertUpdateBeforeUpdateWithUnchangedValuesAbsent() {
+        beforeDataRecord = mockUpdateDataRecord(1, 2, 2);
+        afterDataRecord = new DataRecord(new PlaceholderPosition(), 3);
+        afterDataRecord.setType(IngestDataChangeType.UPDATE);
+        afterDataRecord.setTableName("order");
+        afterDataRecord.setUnchangedValuesAbsent(true);
+        afterDataRecord.addColumn(new Column("id", 1, false, true));
+        afterDataRecord.addColumn(new Column("user_id", 3, true, false));
+        afterDataRecord.addColumn(new Column("total_price", null, false, false));
+        actual = dataRecordMerger.merge(Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.size(), is(1));
+        DataRecord dataRecord = actual.iterator().next();
+        assertThat(dataRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertFalse(dataRecord.isUnchangedValuesAbsent());
+        assertThat(dataRecord.getColumn(1).getValue(), is(3));
+        assertThat(dataRecord.getColumn(2).getValue(), is(2));
+        assertTrue(dataRecord.getColumn(2).isUpdated());
+    }
+    
     @Test
     public void assertInsertBeforeUpdatePrimaryKey() {
         beforeDataRecord = mockInsertDataRecord(1, 1, 1);
@@ -26,8 +26,10 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.Standa
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.CommitRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureInventoryIncrementalJobItemContext;
@@ -42,6 +44,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -52,6 +55,8 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -123,6 +128,24 @@ public final class DefaultImporterTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    public void assertUpsertDataRecord() throws SQLException {
+        DataRecord updateRecord = new DataRecord(new PlaceholderPosition(), 3);
+        updateRecord.setTableName(TABLE_NAME);
+        updateRecord.setType("UPDATE");
+        updateRecord.addColumn(new Column("id", 1, false, true));
+        updateRecord.addColumn(new Column("user", 10, false, false));
+        updateRecord.addColumn(new Column("status", "UPDATE", true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord));
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(3, "UPDATE");
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement, never()).executeUpdate();
+    }
+    
     @Test
     public void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
@@ -138,6 +161,54 @@ public final class DefaultImporterTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    public void assertWriteWindowInOneTransaction() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT"));
+        records.add(getDataRecord("DELETE", 2));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection, times(2)).prepareStatement(any());
+        inOrder.verify(connection).commit();
+    }
+    
+    @Test
+    public void assertWriteUntilLastCommitRecord() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        DataRecord committedRecord = getDataRecord("INSERT");
+        CommitRecord commitRecord = new CommitRecord(new PlaceholderPosition());
+        DataRecord uncommittedRecord = getDataRecord("INSERT", 2);
+        FinishedRecord finishedRecord = new FinishedRecord(new PlaceholderPosition());
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(committedRecord, commitRecord, uncommittedRecord), Collections.singletonList(finishedRecord));
+        DefaultImporter importer = new DefaultImporter(mockImporterConfiguration(2), dataSourceManager, channel, new FixtureInventoryIncrementalJobItemContext());
+        importer.run();
+        InOrder inOrder = inOrder(channel, connection);
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(Arrays.asList(committedRecord, commitRecord));
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(Arrays.asList(uncommittedRecord, finishedRecord));
+    }
+    
+    @Test
+    public void assertWriteTailWithoutDataRecordAfterLastCommitRecord() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        DataRecord committedRecord = getDataRecord("INSERT");
+        CommitRecord commitRecord = new CommitRecord(new PlaceholderPosition());
+        PlaceholderRecord placeholderRecord = new PlaceholderRecord(new PlaceholderPosition());
+        FinishedRecord finishedRecord = new FinishedRecord(new PlaceholderPosition());
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(committedRecord, commitRecord, placeholderRecord), Collections.singletonList(finishedRecord));
+        DefaultImporter importer = new DefaultImporter(mockImporterConfiguration(3), dataSourceManager, channel, new FixtureInventoryIncrementalJobItemContext());
+        importer.run();
+        InOrder inOrder = inOrder(channel, connection);
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(Arrays.asList(committedRecord, commitRecord, placeholderRecord));
+        inOrder.verify(channel).ack(Collections.singletonList(finishedRecord));
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
@@ -160,17 +231,25 @@ public final class DefaultImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
     }
     
     private ImporterConfiguration mockImporterConfiguration() {
+        return mockImporterConfiguration(1000);
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration(final int batchSize) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), batchSize, 3000L, null, 3, 3);
     }
 }
@@ -42,6 +42,13 @@ public final class StringPrimaryKeyPositionTest {
         assertThat(position.getEndValue(), is("jk"));
     }
     
+    @Test
+    public void assertInitWithEmptyValues() {
+        StringPrimaryKeyPosition position = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("s,,");
+        assertThat(position.getBeginValue(), is(""));
+        assertThat(position.getEndValue(), is(""));
+    }
+    
     @Test
     public void assertToString() {
         assertThat(new StringPrimaryKeyPosition("hi", "jk").toString(), is("s,hi,jk"));
@@ -23,7 +23,11 @@ import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfig
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.InventoryIncrementalJobItemProgress;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.JobItemInventoryTasksProgress;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.InventoryTaskProgress;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByRangeException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
@@ -43,6 +47,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -112,6 +117,38 @@ public final class InventoryTaskSplitterTest {
         inventoryTaskSplitter.splitInventoryData(jobItemContext);
     }
     
+    @Test
+    public void assertSplitInventoryDataWithVarcharPrimary() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        initVarcharPrimaryEnvironment(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration dumperConfig = ReflectionUtil.getFieldValue(inventoryTaskSplitter, "dumperConfig", InventoryDumperConfiguration.class);
+        assertNotNull(dumperConfig);
+        dumperConfig.setUniqueKeyDataType(Types.VARCHAR);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(3));
+        StringPrimaryKeyPosition firstPosition = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k01"));
+        assertThat(firstPosition.getEndValue(), is("k10"));
+        StringPrimaryKeyPosition lastPosition = (StringPrimaryKeyPosition) actual.get(2).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k21"));
+        assertThat(lastPosition.getEndValue(), is("k25"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithLegacyVarcharPrimaryPosition() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        initVarcharPrimaryEnvironment(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration dumperConfig = ReflectionUtil.getFieldValue(inventoryTaskSplitter, "dumperConfig", InventoryDumperConfiguration.class);
+        assertNotNull(dumperConfig);
+        dumperConfig.setUniqueKeyDataType(Types.VARCHAR);
+        InventoryIncrementalJobItemProgress initProgress = new InventoryIncrementalJobItemProgress();
+        initProgress.setInventory(new JobItemInventoryTasksProgress(Collections.singletonMap("t_order#0", new InventoryTaskProgress(new StringPrimaryKeyPosition("k05", "~")))));
+        ReflectionUtil.setFieldValue(jobItemContext, "initProgress", initProgress);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(1));
+        StringPrimaryKeyPosition position = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(position.getBeginValue(), is("k05"));
+        assertThat(position.getEndValue(), is("k25"));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(taskConfig.getDumperConfig());
@@ -173,6 +210,19 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%02d', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (